@@ -0,0 +1,93 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Reads the Mock Employee API's full employee list straight off the response body with a streaming parser.
+ * Only the {@code data} array is bound, one employee at a time, into the list the snapshot goes on to keep;
+ * every other field is skipped without being materialized. Apart from that list, memory use is bounded by the
+ * parser's buffers and a single employee, whatever the size of the response.
+ * Doubles as the request callback, asking for JSON as the message converters would.
+ */
+@Component
+public class EmployeeListReader implements RequestCallback, ResponseExtractor<List<Employee>> {
+
+    private static final String DATA = "data";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader employeeReader;
+
+    public EmployeeListReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.employeeReader = objectMapper.readerFor(Employee.class);
+    }
+
+    @Override
+    public void doWithRequest(ClientHttpRequest request) {
+        request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * @return the employees in the response's data array, or null if the body is empty or has no data
+     */
+    @Override
+    public List<Employee> extractData(ClientHttpResponse response) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(response.getBody())) {
+            return read(parser);
+        }
+    }
+
+    /**
+     * @param parser positioned before the response's root object
+     * @return the employees in its data array, or null if there is no root object or it has no data
+     */
+    List<Employee> read(JsonParser parser) throws IOException {
+        JsonToken root = parser.nextToken();
+        if (root == null) {
+            return null;
+        }
+        expect(parser, root, JsonToken.START_OBJECT);
+        List<Employee> employees = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (DATA.equals(field) && value != JsonToken.VALUE_NULL) {
+                expect(parser, value, JsonToken.START_ARRAY);
+                employees = readArray(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return employees;
+    }
+
+    private List<Employee> readArray(JsonParser parser) throws IOException {
+        List<Employee> employees = new ArrayList<>();
+        // A body that ends inside the array fails in the parser, before nextToken could return null.
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            employees.add(employeeReader.readValue(parser));
+        }
+        return employees;
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) {
+        if (actual != expected) {
+            throw new RestClientException("Expected " + expected + " in employee list but found " + actual + " at "
+                    + parser.currentLocation().offsetDescription());
+        }
+    }
+}
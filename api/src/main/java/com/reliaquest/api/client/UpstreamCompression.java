@@ -0,0 +1,215 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.config.EmployeeApiProperties;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Negotiates gzip with the Mock Employee API and decompresses responses as they are read, so the message
+ * converter's Jackson parser pulls inflated bytes straight off the socket without an intermediate buffer.
+ * Handles both transports alike: the JDK client has no content decoding of its own, and the Apache client's
+ * is disabled so compressed bytes on the wire can be counted.
+ * Records bytes on the wire, bytes after decoding and the time from first read of a body until it is closed,
+ * which covers decompression and parsing.
+ */
+@Slf4j
+@Component
+public class UpstreamCompression implements ClientHttpRequestInterceptor {
+
+    private static final String GZIP = "gzip";
+
+    private final boolean enabled;
+
+    private final LongAdder responses = new LongAdder();
+    private final LongAdder compressedResponses = new LongAdder();
+    private final LongAdder wireBytes = new LongAdder();
+    private final LongAdder decodedBytes = new LongAdder();
+    private final LongAdder decodeNanos = new LongAdder();
+
+    @Autowired
+    public UpstreamCompression(EmployeeApiProperties properties) {
+        this(properties.getHttpClient().isGzip());
+    }
+
+    UpstreamCompression(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (enabled && !request.getHeaders().containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+            request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, GZIP);
+        }
+        return new MeasuredResponse(execution.execute(request, body));
+    }
+
+    public long getResponses() {
+        return responses.sum();
+    }
+
+    public long getCompressedResponses() {
+        return compressedResponses.sum();
+    }
+
+    /**
+     * @return response body bytes read from the connection, compressed or not
+     */
+    public long getWireBytes() {
+        return wireBytes.sum();
+    }
+
+    /**
+     * @return response body bytes handed to the message converters
+     */
+    public long getDecodedBytes() {
+        return decodedBytes.sum();
+    }
+
+    /**
+     * @return time spent reading response bodies, from first read until close, in nanoseconds
+     */
+    public long getDecodeNanos() {
+        return decodeNanos.sum();
+    }
+
+    /**
+     * Wraps a response whose body is inflated on the fly if it was gzipped, counting bytes on both sides.
+     */
+    private final class MeasuredResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse response;
+        private final boolean gzipped;
+        private final HttpHeaders headers;
+        private CountingInputStream wire;
+        private CountingInputStream decoded;
+        private long openedAt;
+
+        MeasuredResponse(ClientHttpResponse response) {
+            this.response = response;
+            this.gzipped = GZIP.equalsIgnoreCase(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+            if (gzipped) {
+                // The body handed on is no longer encoded, nor of the length the upstream announced.
+                this.headers = new HttpHeaders();
+                this.headers.putAll(response.getHeaders());
+                this.headers.remove(HttpHeaders.CONTENT_ENCODING);
+                this.headers.remove(HttpHeaders.CONTENT_LENGTH);
+            } else {
+                this.headers = response.getHeaders();
+            }
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return response.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return response.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (decoded == null) {
+                openedAt = System.nanoTime();
+                wire = new CountingInputStream(response.getBody());
+                decoded = gzipped ? inflating(wire) : wire;
+            }
+            return decoded;
+        }
+
+        /**
+         * A body labelled gzip may still be empty, as a DELETE or 204 response can be, and GZIPInputStream
+         * fails on a missing header; so the first byte is peeked and an empty body is passed on as is.
+         */
+        private CountingInputStream inflating(InputStream body) throws IOException {
+            PushbackInputStream peekable = new PushbackInputStream(body, 1);
+            int first = peekable.read();
+            if (first < 0) {
+                return new CountingInputStream(peekable);
+            }
+            peekable.unread(first);
+            return new CountingInputStream(new GZIPInputStream(peekable));
+        }
+
+        @Override
+        public void close() {
+            responses.increment();
+            if (decoded != null) {
+                decodeNanos.add(System.nanoTime() - openedAt);
+                wireBytes.add(wire.count);
+                decodedBytes.add(decoded.count);
+                closeBody();
+            }
+            if (gzipped) {
+                compressedResponses.increment();
+            }
+            response.close();
+        }
+
+        /**
+         * Closing the decoded stream releases the inflater's native memory right away instead of at
+         * finalization; it also closes the response body beneath it.
+         */
+        private void closeBody() {
+            try {
+                decoded.close();
+            } catch (IOException e) {
+                log.debug("Failed to close upstream response body: {}", e.toString());
+            }
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
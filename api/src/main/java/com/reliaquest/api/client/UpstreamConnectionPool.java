@@ -0,0 +1,96 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.config.EmployeeApiProperties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+/**
+ * Pool of persistent connections to the Mock Employee API behind the upstream RestTemplate.
+ * Besides the pool's own leased, available and pending counts, records how many connections were
+ * requested, how long callers waited for one and how many gave up after the lease timeout.
+ */
+public class UpstreamConnectionPool extends PoolingHttpClientConnectionManager {
+
+    private final LongAdder leaseRequests = new LongAdder();
+    private final LongAdder leaseWaitNanos = new LongAdder();
+    private final LongAdder leaseTimeouts = new LongAdder();
+
+    public UpstreamConnectionPool(EmployeeApiProperties.HttpClient properties) {
+        setMaxTotal(properties.getMaxTotal());
+        setDefaultMaxPerRoute(properties.getMaxPerRoute());
+        setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeout().toMillis()))
+                .setTimeToLive(TimeValue.ofMilliseconds(properties.getTimeToLive().toMillis()))
+                .setValidateAfterInactivity(
+                        TimeValue.ofMilliseconds(properties.getValidateAfterInactivity().toMillis()))
+                .build());
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest request = super.lease(id, route, requestTimeout, state);
+        return new LeaseRequest() {
+
+            @Override
+            public ConnectionEndpoint get(Timeout timeout)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                long start = System.nanoTime();
+                try {
+                    return request.get(timeout);
+                } catch (TimeoutException e) {
+                    leaseTimeouts.increment();
+                    throw e;
+                } finally {
+                    leaseRequests.increment();
+                    leaseWaitNanos.add(System.nanoTime() - start);
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return request.cancel();
+            }
+        };
+    }
+
+    /**
+     * @return connection leases requested, whether or not one was obtained
+     */
+    public long getLeaseRequests() {
+        return leaseRequests.sum();
+    }
+
+    /**
+     * @return total time callers spent waiting for a connection, in nanoseconds
+     */
+    public long getLeaseWaitNanos() {
+        return leaseWaitNanos.sum();
+    }
+
+    /**
+     * @return lease requests that gave up because no connection became free within the lease timeout
+     */
+    public long getLeaseTimeouts() {
+        return leaseTimeouts.sum();
+    }
+
+    public int getLeased() {
+        return getTotalStats().getLeased();
+    }
+
+    public int getAvailable() {
+        return getTotalStats().getAvailable();
+    }
+
+    public int getPending() {
+        return getTotalStats().getPending();
+    }
+}
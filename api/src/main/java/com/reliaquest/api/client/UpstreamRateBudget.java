@@ -0,0 +1,171 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.config.EmployeeApiProperties;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Learns the Mock Employee API's request budget from the responses it sends back.
+ * The upstream accepts a burst of requests and then answers 429 for a while; the number of requests
+ * accepted between two throttles and the length of each throttle are averaged into a sustainable rate.
+ * Registered as an interceptor on the upstream RestTemplate so it sees every response.
+ */
+@Slf4j
+@Component
+public class UpstreamRateBudget implements ClientHttpRequestInterceptor {
+
+    private static final double SMOOTHING = 0.5;
+
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double requestsPerWindow;
+    private double windowMillis;
+    private int acceptedSinceThrottle;
+    private Instant throttledSince;
+    private long throttles;
+
+    @Autowired
+    public UpstreamRateBudget(EmployeeApiProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    UpstreamRateBudget(EmployeeApiProperties properties, Clock clock) {
+        this.clock = clock;
+        this.requestsPerWindow = properties.getRefresh().getAssumedRequestsPerWindow();
+        this.windowMillis = properties.getRefresh().getAssumedWindow().toMillis();
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        ClientHttpResponse response = execution.execute(request, body);
+        if (response.getStatusCode().value() == 429) {
+            recordThrottled();
+        } else {
+            recordAccepted();
+        }
+        return response;
+    }
+
+    public void recordAccepted() {
+        Instant now = clock.instant();
+        lock.lock();
+        try {
+            if (throttledSince != null) {
+                long observed = Duration.between(throttledSince, now).toMillis();
+                windowMillis = SMOOTHING * observed + (1 - SMOOTHING) * windowMillis;
+                throttledSince = null;
+                acceptedSinceThrottle = 0;
+                log.debug("Upstream throttle lifted after {}ms, learned window {}ms", observed, (long) windowMillis);
+            }
+            acceptedSinceThrottle++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void recordThrottled() {
+        Instant now = clock.instant();
+        lock.lock();
+        try {
+            if (throttledSince != null) {
+                return;
+            }
+            throttledSince = now;
+            throttles++;
+            if (acceptedSinceThrottle > 0) {
+                requestsPerWindow = SMOOTHING * acceptedSinceThrottle + (1 - SMOOTHING) * requestsPerWindow;
+            }
+            log.debug(
+                    "Upstream throttled after {} accepted requests, learned budget {} per window",
+                    acceptedSinceThrottle,
+                    Math.round(requestsPerWindow));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return true while a 429 is believed to still be in effect
+     */
+    public boolean isThrottled() {
+        Instant now = clock.instant();
+        lock.lock();
+        try {
+            return throttledSince != null && now.isBefore(throttledSince.plusMillis((long) windowMillis));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return time until the current throttle is expected to lift, or zero if not throttled
+     */
+    public Duration remainingThrottle() {
+        Instant now = clock.instant();
+        lock.lock();
+        try {
+            if (throttledSince == null) {
+                return Duration.ZERO;
+            }
+            Duration remaining = Duration.between(now, throttledSince.plusMillis((long) windowMillis));
+            return remaining.isNegative() ? Duration.ZERO : remaining;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Spacing between requests that keeps a caller within the given share of the learned budget.
+     *
+     * @param fraction share of the budget, in (0, 1]
+     * @return the interval between requests
+     */
+    public Duration intervalFor(double fraction) {
+        lock.lock();
+        try {
+            double requests = Math.max(requestsPerWindow * fraction, 0.001);
+            return Duration.ofMillis((long) Math.ceil(windowMillis / requests));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getRequestsPerWindow() {
+        lock.lock();
+        try {
+            return requestsPerWindow;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Duration getWindow() {
+        lock.lock();
+        try {
+            return Duration.ofMillis((long) windowMillis);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getThrottles() {
+        lock.lock();
+        try {
+            return throttles;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
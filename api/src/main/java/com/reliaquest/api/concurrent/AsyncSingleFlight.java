@@ -0,0 +1,73 @@
+package com.reliaquest.api.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking counterpart of {@link SingleFlight}: coalesces concurrent asynchronous calls for the same key
+ * into a single execution without any caller waiting on a thread.
+ * The first caller starts the operation; callers arriving before it completes receive the same outcome.
+ *
+ * @param <K> the key identifying an upstream operation
+ */
+public class AsyncSingleFlight<K> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Starts the operation unless one with the same key is in flight, in which case its outcome is shared.
+     *
+     * @param key the operation key
+     * @param operation starts the operation
+     * @param <T> the result type; all operations under one key must return the same type
+     * @return a future of the (possibly shared) outcome; cancelling it does not affect other callers
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> execute(K key, Supplier<? extends CompletionStage<T>> operation) {
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            return (CompletableFuture<T>) existing.copy();
+        }
+
+        executions.increment();
+        try {
+            operation.get().whenComplete((result, error) -> {
+                inFlight.remove(key, call);
+                if (error != null) {
+                    call.completeExceptionally(
+                            error instanceof CompletionException && error.getCause() != null
+                                    ? error.getCause()
+                                    : error);
+                } else {
+                    call.complete(result);
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, call);
+            call.completeExceptionally(e);
+        }
+        return (CompletableFuture<T>) call.copy();
+    }
+
+    /**
+     * @return number of operations actually started
+     */
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    /**
+     * @return number of callers that shared another caller's in-flight execution
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+}
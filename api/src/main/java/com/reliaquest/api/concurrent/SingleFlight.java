@@ -0,0 +1,79 @@
+package com.reliaquest.api.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into a single execution.
+ * The first caller runs the operation; callers arriving while it is in flight wait for it
+ * and receive the same result or the same exception.
+ *
+ * @param <K> the key identifying an upstream operation
+ */
+public class SingleFlight<K> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Runs the operation unless one with the same key is already running, in which case its outcome is shared.
+     *
+     * @param key the operation key
+     * @param operation the operation to run
+     * @param <T> the result type; all operations under one key must return the same type
+     * @return the result of the (possibly shared) execution
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(K key, Supplier<T> operation) {
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            return (T) await(existing);
+        }
+
+        executions.increment();
+        try {
+            T result = operation.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * @return number of operations actually executed
+     */
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    /**
+     * @return number of callers that shared another caller's in-flight execution
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    private static Object await(CompletableFuture<Object> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.client.UpstreamCompression;
+import com.reliaquest.api.client.UpstreamConnectionPool;
+import com.reliaquest.api.client.UpstreamRateBudget;
+import com.reliaquest.api.concurrent.AsyncSingleFlight;
+import com.reliaquest.api.concurrent.SingleFlight;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+import com.reliaquest.api.snapshot.SearchResultCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes api module internals as Micrometer metrics, available under /actuator/metrics.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeApiMetrics implements MeterBinder {
+
+    private final EmployeeService employeeService;
+    private final UpstreamRateBudget rateBudget;
+    private final SearchResultCache searchResultCache;
+    private final UpstreamCompression compression;
+
+    /**
+     * Only present with the Apache transport.
+     */
+    private final ObjectProvider<UpstreamConnectionPool> connectionPool;
+
+    /**
+     * Only present when the reactive service is enabled.
+     */
+    private final ObjectProvider<ReactiveEmployeeService> reactiveEmployeeService;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindSingleFlight(registry, "all-employees", employeeService.getAllEmployeesFlight());
+        bindSingleFlight(registry, "employee-by-id", employeeService.getEmployeeByIdFlight());
+        reactiveEmployeeService.ifAvailable(service -> bindFlight(
+                registry,
+                "employee-by-id-reactive",
+                service.getEmployeeByIdFlight(),
+                AsyncSingleFlight::getExecutions,
+                AsyncSingleFlight::getCoalesced));
+        FunctionCounter.builder("employee.api.upstream.throttles", rateBudget, UpstreamRateBudget::getThrottles)
+                .description("Times the Mock Employee API started answering 429")
+                .register(registry);
+        bindSearchResultCache(registry);
+        connectionPool.ifAvailable(pool -> bindConnectionPool(registry, pool));
+        bindCompression(registry);
+    }
+
+    private void bindCompression(MeterRegistry registry) {
+        FunctionCounter.builder(
+                        "employee.api.upstream.response.wire.bytes", compression, UpstreamCompression::getWireBytes)
+                .description("Upstream response body bytes received, compressed or not")
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder(
+                        "employee.api.upstream.response.decoded.bytes",
+                        compression,
+                        UpstreamCompression::getDecodedBytes)
+                .description("Upstream response body bytes after decompression")
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder(
+                        "employee.api.upstream.response.compressed",
+                        compression,
+                        UpstreamCompression::getCompressedResponses)
+                .description("Upstream responses that arrived gzipped")
+                .register(registry);
+        FunctionTimer.builder(
+                        "employee.api.upstream.response.decode",
+                        compression,
+                        UpstreamCompression::getResponses,
+                        UpstreamCompression::getDecodeNanos,
+                        TimeUnit.NANOSECONDS)
+                .description("Time spent inflating and parsing upstream response bodies")
+                .register(registry);
+    }
+
+    private static void bindConnectionPool(MeterRegistry registry, UpstreamConnectionPool connectionPool) {
+        Gauge.builder("employee.api.upstream.pool.leased", connectionPool, UpstreamConnectionPool::getLeased)
+                .description("Upstream connections currently in use")
+                .register(registry);
+        Gauge.builder("employee.api.upstream.pool.available", connectionPool, UpstreamConnectionPool::getAvailable)
+                .description("Idle upstream connections kept open for reuse")
+                .register(registry);
+        Gauge.builder("employee.api.upstream.pool.pending", connectionPool, UpstreamConnectionPool::getPending)
+                .description("Requests waiting for an upstream connection")
+                .register(registry);
+        FunctionTimer.builder(
+                        "employee.api.upstream.pool.lease.wait",
+                        connectionPool,
+                        UpstreamConnectionPool::getLeaseRequests,
+                        UpstreamConnectionPool::getLeaseWaitNanos,
+                        TimeUnit.NANOSECONDS)
+                .description("Time spent waiting to lease an upstream connection")
+                .register(registry);
+        FunctionCounter.builder(
+                        "employee.api.upstream.pool.lease.timeouts",
+                        connectionPool,
+                        UpstreamConnectionPool::getLeaseTimeouts)
+                .description("Requests that gave up waiting for an upstream connection")
+                .register(registry);
+    }
+
+    private void bindSearchResultCache(MeterRegistry registry) {
+        FunctionCounter.builder("employee.api.search.cache.hits", searchResultCache, SearchResultCache::getHits)
+                .description("Name searches answered from the search result cache")
+                .register(registry);
+        FunctionCounter.builder("employee.api.search.cache.misses", searchResultCache, SearchResultCache::getMisses)
+                .description("Name searches run against the snapshot")
+                .register(registry);
+        FunctionCounter.builder(
+                        "employee.api.search.cache.evictions", searchResultCache, SearchResultCache::getEvictions)
+                .description("Search results evicted to stay within max-entries")
+                .register(registry);
+        Gauge.builder("employee.api.search.cache.hit.ratio", searchResultCache, SearchResultCache::getHitRatio)
+                .description("Share of name searches answered from the cache since startup")
+                .register(registry);
+        Gauge.builder("employee.api.search.cache.size", searchResultCache, SearchResultCache::size)
+                .description("Cached search results for the current snapshot version")
+                .register(registry);
+    }
+
+    private static void bindSingleFlight(MeterRegistry registry, String operation, SingleFlight<?> flight) {
+        bindFlight(registry, operation, flight, SingleFlight::getExecutions, SingleFlight::getCoalesced);
+    }
+
+    private static <F> void bindFlight(
+            MeterRegistry registry,
+            String operation,
+            F flight,
+            ToDoubleFunction<F> executions,
+            ToDoubleFunction<F> coalesced) {
+        FunctionCounter.builder("employee.api.upstream.executions", flight, executions)
+                .description("Upstream requests actually issued to the Mock Employee API")
+                .tag("operation", operation)
+                .register(registry);
+        FunctionCounter.builder("employee.api.upstream.coalesced", flight, coalesced)
+                .description("Callers that shared an in-flight upstream request instead of issuing their own")
+                .tag("operation", operation)
+                .register(registry);
+    }
+}
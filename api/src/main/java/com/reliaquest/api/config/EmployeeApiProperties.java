@@ -0,0 +1,375 @@
+package com.reliaquest.api.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Tunables for the api module bound from the {@code employee.api} prefix.
+ * Connection settings (base-url, max-retries, retry-delay-ms) are still injected directly into EmployeeService.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.api")
+public class EmployeeApiProperties {
+
+    private Cache cache = new Cache();
+
+    private IdIndex idIndex = new IdIndex();
+
+    private NegativeCache negativeCache = new NegativeCache();
+
+    private Refresh refresh = new Refresh();
+
+    private Persistence persistence = new Persistence();
+
+    private FuzzySearch fuzzySearch = new FuzzySearch();
+
+    private SearchCache searchCache = new SearchCache();
+
+    private TopK topK = new TopK();
+
+    private SalaryRank salaryRank = new SalaryRank();
+
+    private Parallel parallel = new Parallel();
+
+    private HttpClient httpClient = new HttpClient();
+
+    private Ingestion ingestion = new Ingestion();
+
+    private Reactive reactive = new Reactive();
+
+    /**
+     * Settings for the in-process employee snapshot.
+     */
+    @Data
+    public static class Cache {
+
+        /**
+         * When disabled every read goes to the Mock Employee API.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Default staleness bounds applied to every endpoint.
+         */
+        private Staleness defaults = new Staleness(Duration.ofSeconds(30), Duration.ofMinutes(5));
+
+        /**
+         * Per-endpoint overrides keyed by {@code ReadEndpoint#getKey()}, e.g. {@code top-earners}.
+         * Unset fields fall back to {@link #defaults}.
+         */
+        private Map<String, Staleness> endpoints = new LinkedHashMap<>();
+
+        public Duration ttlFor(String endpoint) {
+            Staleness override = endpoints.get(endpoint);
+            return override != null && override.getTtl() != null ? override.getTtl() : defaults.getTtl();
+        }
+
+        public Duration maxStaleFor(String endpoint) {
+            Staleness override = endpoints.get(endpoint);
+            return override != null && override.getMaxStale() != null
+                    ? override.getMaxStale()
+                    : defaults.getMaxStale();
+        }
+    }
+
+    /**
+     * Settings for the UUID-keyed employee index used by get-by-id.
+     */
+    @Data
+    public static class IdIndex {
+
+        /**
+         * Least recently used entries are evicted beyond this size.
+         */
+        private int maxEntries = 10_000;
+
+        /**
+         * Entries older than this fall back to an upstream lookup.
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Settings for rejecting unknown employee IDs without an upstream call.
+     */
+    @Data
+    public static class NegativeCache {
+
+        /**
+         * When disabled every unknown ID is looked up upstream.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of remembered 404 answers; the oldest are dropped first.
+         */
+        private int maxEntries = 10_000;
+
+        /**
+         * How long a 404 answer is trusted.
+         */
+        private Duration ttl = Duration.ofSeconds(10);
+
+        /**
+         * False-positive rate of the Bloom filter of known IDs built with every snapshot.
+         */
+        private double bloomFalsePositiveRate = 0.01;
+    }
+
+    /**
+     * Settings for the background refresher that keeps the snapshot warm.
+     */
+    @Data
+    public static class Refresh {
+
+        private boolean enabled = true;
+
+        /**
+         * Share of the learned upstream request budget the refresher may spend; the rest is left for
+         * writes and cache misses.
+         */
+        private double budgetFraction = 0.2;
+
+        /**
+         * Each delay is randomly stretched or shrunk by up to this fraction.
+         */
+        private double jitter = 0.2;
+
+        private Duration minInterval = Duration.ofSeconds(5);
+        private Duration maxInterval = Duration.ofMinutes(5);
+
+        /**
+         * First delay after a failed or throttled refresh; doubles per consecutive failure up to backoff-max.
+         */
+        private Duration backoffInitial = Duration.ofSeconds(30);
+
+        private Duration backoffMax = Duration.ofMinutes(5);
+
+        /**
+         * Budget assumed until the first 429 teaches the real one: this many requests per window.
+         */
+        private int assumedRequestsPerWindow = 5;
+
+        private Duration assumedWindow = Duration.ofSeconds(60);
+    }
+
+    /**
+     * Settings for the on-disk copy of the snapshot used to start warm after a restart.
+     */
+    @Data
+    public static class Persistence {
+
+        /**
+         * Off by default; when enabled every published snapshot is written to {@link #path}
+         * and the file is loaded at startup.
+         */
+        private boolean enabled = false;
+
+        private Path path = Path.of("data", "employee-snapshot.bin");
+    }
+
+    /**
+     * Defaults and caps for typo-tolerant name search.
+     */
+    @Data
+    public static class FuzzySearch {
+
+        /**
+         * Edit distance used when the request does not specify one. One edit keeps a search over a million names
+         * under a millisecond; two edits roughly triple the share of the tree a search has to visit.
+         */
+        private int defaultMaxDistance = 1;
+
+        /**
+         * Largest edit distance a request may ask for; larger distances match most short names.
+         */
+        private int maxDistance = 3;
+
+        private int defaultLimit = 10;
+
+        private int maxLimit = 100;
+    }
+
+    /**
+     * Settings for the cache of name search results.
+     */
+    @Data
+    public static class SearchCache {
+
+        private boolean enabled = true;
+
+        /**
+         * Least recently used results are evicted beyond this many distinct queries.
+         */
+        private int maxEntries = 1_000;
+    }
+
+    /**
+     * Defaults and caps for the top-K endpoint.
+     */
+    @Data
+    public static class TopK {
+
+        private int defaultK = 10;
+
+        /**
+         * Largest k a request may ask for; selection cost grows with log k, response size with k.
+         */
+        private int maxK = 1_000;
+    }
+
+    /**
+     * Caps for the salary rank endpoints.
+     */
+    @Data
+    public static class SalaryRank {
+
+        /**
+         * Largest number of ranks a rank-range request may span.
+         */
+        private int maxRange = 1_000;
+    }
+
+    /**
+     * Settings for the fork-join pool that parallelizes large snapshot scans.
+     */
+    @Data
+    public static class Parallel {
+
+        /**
+         * When disabled every scan runs on the request thread.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Worker count of the dedicated pool; 0 uses one per available processor.
+         */
+        private int parallelism = 0;
+
+        /**
+         * Scans over fewer rows than this run on the request thread, where forking would cost more than it saves.
+         */
+        private int threshold = 100_000;
+    }
+
+    /**
+     * Transport, connection pool and timeouts of the HTTP client that calls the Mock Employee API.
+     * Timeouts apply to both transports; pool, keep-alive and eviction settings to the Apache one only,
+     * as the JDK client manages its own connections. The reactive client reuses the timeouts, gzip and
+     * pool settings for its own Reactor Netty connection pool.
+     */
+    @Data
+    public static class HttpClient {
+
+        private Transport transport = Transport.APACHE;
+
+        /**
+         * Asks the upstream for gzip and inflates responses while they are parsed.
+         */
+        private boolean gzip = true;
+
+        private int maxTotal = 50;
+
+        /**
+         * Every request goes to the same host, so this effectively bounds concurrent upstream requests.
+         */
+        private int maxPerRoute = 20;
+
+        private Duration connectTimeout = Duration.ofSeconds(5);
+
+        private Duration readTimeout = Duration.ofSeconds(10);
+
+        /**
+         * How long a request waits for a pooled connection before failing.
+         */
+        private Duration leaseTimeout = Duration.ofSeconds(5);
+
+        /**
+         * How long an idle connection is kept when the upstream does not say.
+         */
+        private Duration keepAlive = Duration.ofSeconds(30);
+
+        /**
+         * Connections idle for longer are closed by a background evictor.
+         */
+        private Duration idleEviction = Duration.ofSeconds(30);
+
+        /**
+         * Connections are never reused once this old, so DNS or upstream changes are eventually picked up.
+         */
+        private Duration timeToLive = Duration.ofMinutes(5);
+
+        /**
+         * Pooled connections idle for longer are checked for staleness before reuse.
+         */
+        private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+        public enum Transport {
+            /**
+             * Apache HttpClient 5 over HTTP/1.1, with a bounded pool of persistent connections.
+             */
+            APACHE,
+
+            /**
+             * java.net.http.HttpClient preferring HTTP/2. Over plain HTTP the first request on a connection
+             * upgrades it to h2c; later requests are multiplexed over it.
+             */
+            JDK
+        }
+    }
+
+    /**
+     * Settings for turning the upstream's full employee list into a snapshot.
+     */
+    @Data
+    public static class Ingestion {
+
+        /**
+         * Walks the response's data array with a streaming parser, reading one employee at a time into the list the
+         * snapshot keeps. When disabled the whole response is bound to an ApiResponse first.
+         */
+        private boolean streaming = true;
+    }
+
+    /**
+     * Settings for serving the employee endpoints through the non-blocking WebClient-based service.
+     */
+    @Data
+    public static class Reactive {
+
+        /**
+         * When enabled the employee endpoints return asynchronously and no request thread waits on the
+         * upstream or on retry delays. Only the IEmployeeController endpoints move: the query and snapshot
+         * endpoints and the background refresher keep using the blocking client, so a request that loads the
+         * snapshot through them still holds its thread.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Largest upstream response body WebClient buffers for decoding. The full list is decoded in one piece,
+         * without the streaming ingestion the blocking client uses, so this also caps the roster the reactive
+         * endpoints can load: a larger list fails with a DataBufferLimitException. Raise it with the roster.
+         */
+        private DataSize maxInMemorySize = DataSize.ofMegabytes(16);
+    }
+
+    /**
+     * Bounded-staleness window: a snapshot younger than {@code ttl} is served as is, one younger than
+     * {@code maxStale} is served while a background refresh runs, anything older is refreshed before serving.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Staleness {
+
+        private Duration ttl;
+        private Duration maxStale;
+    }
+}
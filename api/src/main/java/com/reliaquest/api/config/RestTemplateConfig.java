@@ -1,21 +1,96 @@
 package com.reliaquest.api.config;
 
-import java.time.Duration;
+import com.reliaquest.api.client.UpstreamCompression;
+import com.reliaquest.api.client.UpstreamConnectionPool;
+import com.reliaquest.api.client.UpstreamRateBudget;
+import java.net.http.HttpClient;
+import java.util.concurrent.Executors;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * Configuration for RestTemplate used to communicate with Mock Employee API.
+ * The transport is chosen with {@code employee.api.http-client.transport}: a pooled Apache HttpClient
+ * speaking HTTP/1.1 (the default), or the JDK HttpClient multiplexing requests over HTTP/2.
+ * Either way gzip is negotiated and decoded by {@link UpstreamCompression} rather than by the client.
+ * Both block the calling thread without holding a monitor, so with {@code spring.threads.virtual.enabled}
+ * a request's virtual thread unmounts while it waits for a pooled connection or the upstream's response.
  */
 @Configuration
 public class RestTemplateConfig {
 
+    private static final String TRANSPORT_PREFIX = "employee.api.http-client";
+
+    @Bean
+    @ConditionalOnProperty(prefix = TRANSPORT_PREFIX, name = "transport", havingValue = "apache", matchIfMissing = true)
+    public UpstreamConnectionPool upstreamConnectionPool(EmployeeApiProperties properties) {
+        return new UpstreamConnectionPool(properties.getHttpClient());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = TRANSPORT_PREFIX, name = "transport", havingValue = "apache", matchIfMissing = true)
+    public HttpComponentsClientHttpRequestFactory apacheRequestFactory(
+            UpstreamConnectionPool connectionPool, EmployeeApiProperties properties) {
+        EmployeeApiProperties.HttpClient httpClient = properties.getHttpClient();
+        CloseableHttpClient client = HttpClients.custom()
+                .setConnectionManager(connectionPool)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(httpClient.getLeaseTimeout().toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(httpClient.getReadTimeout().toMillis()))
+                        // Applies when the upstream sends no Keep-Alive header.
+                        .setConnectionKeepAlive(TimeValue.ofMilliseconds(httpClient.getKeepAlive().toMillis()))
+                        .build())
+                .disableContentCompression()
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(httpClient.getIdleEviction().toMillis()))
+                .build();
+        return new HttpComponentsClientHttpRequestFactory(client);
+    }
+
+    /**
+     * The JDK client cannot start cleartext HTTP/2 with prior knowledge; it sends its first request on a
+     * connection as HTTP/1.1 with {@code Upgrade: h2c} and multiplexes later requests once the server agrees.
+     * Servers without HTTP/2 keep answering over HTTP/1.1. In virtual-thread mode the client's dependent
+     * tasks run on virtual threads too, rather than on its default cached pool of platform threads.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = TRANSPORT_PREFIX, name = "transport", havingValue = "jdk")
+    public JdkClientHttpRequestFactory jdkRequestFactory(
+            EmployeeApiProperties properties,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        EmployeeApiProperties.HttpClient httpClient = properties.getHttpClient();
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(httpClient.getConnectTimeout());
+        if (virtualThreads) {
+            builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        HttpClient client = builder.build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(client);
+        requestFactory.setReadTimeout(httpClient.getReadTimeout());
+        return requestFactory;
+    }
+
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.setConnectTimeout(Duration.ofSeconds(5))
-                .setReadTimeout(Duration.ofSeconds(10))
+    public RestTemplate restTemplate(
+            RestTemplateBuilder builder,
+            ClientHttpRequestFactory upstreamRequestFactory,
+            UpstreamRateBudget rateBudget,
+            UpstreamCompression compression) {
+        return builder.requestFactory(() -> upstreamRequestFactory)
+                .additionalInterceptors(rateBudget, compression)
                 .build();
     }
 }
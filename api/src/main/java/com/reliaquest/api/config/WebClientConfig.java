@@ -0,0 +1,68 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.client.UpstreamRateBudget;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Configuration for the WebClient used by the reactive employee service, active with
+ * {@code employee.api.reactive.enabled}. Requests run on Reactor Netty's event loops over a bounded
+ * connection pool sized and timed like the blocking client's; waiting for a connection, the upstream or
+ * a retry delay holds no thread.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "employee.api.reactive", name = "enabled", havingValue = "true")
+public class WebClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider upstreamConnectionProvider(EmployeeApiProperties properties) {
+        EmployeeApiProperties.HttpClient httpClient = properties.getHttpClient();
+        return ConnectionProvider.builder("employee-upstream")
+                .maxConnections(httpClient.getMaxPerRoute())
+                .pendingAcquireTimeout(httpClient.getLeaseTimeout())
+                .maxIdleTime(httpClient.getIdleEviction())
+                .maxLifeTime(httpClient.getTimeToLive())
+                .evictInBackground(httpClient.getIdleEviction())
+                .build();
+    }
+
+    /**
+     * Reactor Netty negotiates gzip itself and inflates responses before decoding. Every response is reported
+     * to the {@link UpstreamRateBudget}, as the interceptor does for RestTemplate.
+     */
+    @Bean
+    public WebClient upstreamWebClient(
+            WebClient.Builder builder,
+            ConnectionProvider upstreamConnectionProvider,
+            UpstreamRateBudget rateBudget,
+            EmployeeApiProperties properties,
+            @Value("${employee.api.base-url:http://localhost:8112/api/v1/employee}") String baseUrl) {
+        EmployeeApiProperties.HttpClient httpClient = properties.getHttpClient();
+        HttpClient client = HttpClient.create(upstreamConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) httpClient.getConnectTimeout().toMillis())
+                .responseTimeout(httpClient.getReadTimeout())
+                .compress(httpClient.isGzip());
+        int maxInMemorySize = (int) properties.getReactive().getMaxInMemorySize().toBytes();
+        return builder.baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(client))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxInMemorySize))
+                .filter(ExchangeFilterFunction.ofResponseProcessor(response -> {
+                    if (response.statusCode().value() == 429) {
+                        rateBudget.recordThrottled();
+                    } else {
+                        rateBudget.recordAccepted();
+                    }
+                    return Mono.just(response);
+                }))
+                .build();
+    }
+}
@@ -0,0 +1,135 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.ReadEndpoint;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * REST Controller for Employee operations served by {@link ReactiveEmployeeService}, active with
+ * {@code employee.api.reactive.enabled} in place of {@link EmployeeController}.
+ * Serves the URLs, status codes and bodies of the IEmployeeController contract, but returns Mono so Spring MVC
+ * releases the request thread while the upstream call or a retry delay is pending. It cannot implement
+ * IEmployeeController itself, whose signatures return ResponseEntity synchronously.
+ * Snapshot reads carry the same weak ETag and answer 304 to a matching If-None-Match.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/employee")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "employee.api.reactive", name = "enabled", havingValue = "true")
+public class AsyncEmployeeController {
+
+    private final ReactiveEmployeeService employeeService;
+
+    @GetMapping()
+    public Mono<ResponseEntity<List<Employee>>> getAllEmployees(
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info("GET /api/v1/employee - Fetching all employees");
+        return conditional(ReadEndpoint.ALL_EMPLOYEES, ifNoneMatch, employeeService::getAllEmployees);
+    }
+
+    @GetMapping("/search/{searchString}")
+    public Mono<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(
+            @PathVariable String searchString,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info("GET /api/v1/employee/search/{} - Searching employees by name", searchString);
+        return conditional(
+                ReadEndpoint.NAME_SEARCH,
+                ifNoneMatch,
+                snapshot -> employeeService.getEmployeesByNameSearch(snapshot, searchString));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
+        log.info("GET /api/v1/employee/{} - Fetching employee by ID", id);
+        return employeeService.getEmployeeById(id).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/highestSalary")
+    public Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees(
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info("GET /api/v1/employee/highestSalary - Fetching highest salary");
+        return conditional(ReadEndpoint.HIGHEST_SALARY, ifNoneMatch, employeeService::getHighestSalary);
+    }
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public Mono<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames(
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info("GET /api/v1/employee/topTenHighestEarningEmployeeNames - Fetching top earners");
+        return conditional(
+                ReadEndpoint.TOP_EARNERS, ifNoneMatch, employeeService::getTop10HighestEarningEmployeeNames);
+    }
+
+    @PostMapping()
+    public Mono<ResponseEntity<Employee>> createEmployee(@Valid @RequestBody CreateEmployeeInput employeeInput) {
+        log.info("POST /api/v1/employee - Creating employee: {}", employeeInput.getName());
+        return employeeService
+                .createEmployee(employeeInput)
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        log.info("DELETE /api/v1/employee/{} - Deleting employee", id);
+        return employeeService.deleteEmployeeById(id).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Answers 304 when If-None-Match matches the snapshot's ETag, otherwise 200 with the body and the ETag.
+     * The body is only built when it is sent, from the same snapshot the ETag was taken from.
+     *
+     * @param body builds the body from the snapshot, or from upstream when given null
+     */
+    private <T> Mono<ResponseEntity<T>> conditional(
+            ReadEndpoint endpoint, String ifNoneMatch, Function<EmployeeSnapshot, Mono<T>> body) {
+        return employeeService
+                .getServingSnapshot(endpoint)
+                .flatMap(snapshot -> {
+                    String etag = snapshot.getETag();
+                    if (matches(ifNoneMatch, etag)) {
+                        log.info("Snapshot unchanged for {}, returning 304", endpoint);
+                        return Mono.just(
+                                ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<T>build());
+                    }
+                    return body.apply(snapshot).map(value -> ResponseEntity.ok().eTag(etag).body(value));
+                })
+                .switchIfEmpty(Mono.defer(() -> body.apply(null).map(ResponseEntity::ok)));
+    }
+
+    /**
+     * Weak comparison, as RFC 9110 prescribes for If-None-Match: a "W/" prefix on either side is ignored.
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
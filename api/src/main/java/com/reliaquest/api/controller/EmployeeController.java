@@ -3,23 +3,34 @@ package com.reliaquest.api.controller;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.ReadEndpoint;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
 
 /**
  * REST Controller for Employee operations.
  * Implements the IEmployeeController interface as required by the assessment.
+ * Reads served from the employee snapshot carry a weak ETag and answer 304 Not Modified to a matching
+ * If-None-Match without building or serializing a body.
+ * Replaced by {@link AsyncEmployeeController} when {@code employee.api.reactive.enabled} is set.
  */
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "employee.api.reactive", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class EmployeeController implements IEmployeeController<Employee, CreateEmployeeInput> {
 
     private final EmployeeService employeeService;
@@ -32,9 +43,11 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     @Override
     public ResponseEntity<List<Employee>> getAllEmployees() {
         log.info("GET /api/v1/employee - Fetching all employees");
-        List<Employee> employees = employeeService.getAllEmployees();
-        log.info("Returning {} employees", employees.size());
-        return ResponseEntity.ok(employees);
+        return conditional(ReadEndpoint.ALL_EMPLOYEES, snapshot -> {
+            List<Employee> employees = employeeService.getAllEmployees(snapshot);
+            log.info("Returning {} employees", employees.size());
+            return employees;
+        });
     }
 
     /**
@@ -46,9 +59,11 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     @Override
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(String searchString) {
         log.info("GET /api/v1/employee/search/{} - Searching employees by name", searchString);
-        List<Employee> employees = employeeService.getEmployeesByNameSearch(searchString);
-        log.info("Found {} employees matching '{}'", employees.size(), searchString);
-        return ResponseEntity.ok(employees);
+        return conditional(ReadEndpoint.NAME_SEARCH, snapshot -> {
+            List<Employee> employees = employeeService.getEmployeesByNameSearch(snapshot, searchString);
+            log.info("Found {} employees matching '{}'", employees.size(), searchString);
+            return employees;
+        });
     }
 
     /**
@@ -73,9 +88,11 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     @Override
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
         log.info("GET /api/v1/employee/highestSalary - Fetching highest salary");
-        Integer highestSalary = employeeService.getHighestSalary();
-        log.info("Highest salary: {}", highestSalary);
-        return ResponseEntity.ok(highestSalary);
+        return conditional(ReadEndpoint.HIGHEST_SALARY, snapshot -> {
+            Integer highestSalary = employeeService.getHighestSalary(snapshot);
+            log.info("Highest salary: {}", highestSalary);
+            return highestSalary;
+        });
     }
 
     /**
@@ -86,9 +103,11 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     @Override
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         log.info("GET /api/v1/employee/topTenHighestEarningEmployeeNames - Fetching top earners");
-        List<String> topEarners = employeeService.getTop10HighestEarningEmployeeNames();
-        log.info("Returning top {} earners", topEarners.size());
-        return ResponseEntity.ok(topEarners);
+        return conditional(ReadEndpoint.TOP_EARNERS, snapshot -> {
+            List<String> topEarners = employeeService.getTop10HighestEarningEmployeeNames(snapshot);
+            log.info("Returning top {} earners", topEarners.size());
+            return topEarners;
+        });
     }
 
     /**
@@ -118,4 +137,27 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
         log.info("Deleted employee: {}", deletedEmployeeName);
         return ResponseEntity.ok(deletedEmployeeName);
     }
+
+    /**
+     * Answers 304 when the request's If-None-Match matches the snapshot's ETag, otherwise 200 with the body
+     * and the ETag. The snapshot is resolved once and both come from it, so a write landing in between cannot
+     * pair one snapshot's tag with another's body. The request is looked up from the current thread because
+     * IEmployeeController's signatures cannot take it as a parameter.
+     *
+     * @param body builds the body from the snapshot, or from upstream when given null
+     */
+    private <T> ResponseEntity<T> conditional(ReadEndpoint endpoint, Function<EmployeeSnapshot, T> body) {
+        EmployeeSnapshot snapshot = employeeService.getServingSnapshot(endpoint);
+        if (snapshot == null) {
+            return ResponseEntity.ok(body.apply(null));
+        }
+        String etag = snapshot.getETag();
+        ServletRequestAttributes attributes =
+                (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        if (new ServletWebRequest(attributes.getRequest(), attributes.getResponse()).checkNotModified(etag)) {
+            log.info("Snapshot unchanged for {}, returning 304", endpoint);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(body.apply(snapshot));
+    }
 }
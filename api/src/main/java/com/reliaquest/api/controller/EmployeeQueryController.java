@@ -0,0 +1,185 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeFilter;
+import com.reliaquest.api.model.SalaryRank;
+import com.reliaquest.api.model.SalaryStatistics;
+import com.reliaquest.api.model.TitleGroup;
+import com.reliaquest.api.service.EmployeeQueryService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Read endpoints added alongside the IEmployeeController contract, under the same base path.
+ * Kept out of EmployeeController so the assessment's interface stays the only contract it implements.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/employee")
+@RequiredArgsConstructor
+public class EmployeeQueryController {
+
+    private final EmployeeQueryService employeeQueryService;
+
+    /**
+     * Searches employees by name, tolerating typos.
+     *
+     * @param searchString the possibly misspelled name
+     * @param maxDistance the largest edit distance to accept
+     * @param limit the maximum number of results
+     * @return employees ranked by edit distance
+     */
+    @GetMapping("/search/fuzzy/{searchString}")
+    public ResponseEntity<List<Employee>> getEmployeesByFuzzyNameSearch(
+            @PathVariable String searchString,
+            @RequestParam(required = false) Integer maxDistance,
+            @RequestParam(required = false) Integer limit) {
+        log.info("GET /api/v1/employee/search/fuzzy/{} - Fuzzy searching employees by name", searchString);
+        List<Employee> employees = employeeQueryService.getEmployeesByFuzzyNameSearch(searchString, maxDistance, limit);
+        log.info("Found {} employees close to '{}'", employees.size(), searchString);
+        return ResponseEntity.ok(employees);
+    }
+
+    /**
+     * Filters employees by any combination of salary range, age range, title and name fragment.
+     * Range bounds are inclusive; omitted criteria are not applied.
+     *
+     * @return matching employees in list order
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<List<Employee>> getEmployeesByFilter(
+            @RequestParam(required = false) Integer minSalary,
+            @RequestParam(required = false) Integer maxSalary,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxAge,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String nameContains) {
+        EmployeeFilter filter = EmployeeFilter.builder()
+                .minSalary(minSalary)
+                .maxSalary(maxSalary)
+                .minAge(minAge)
+                .maxAge(maxAge)
+                .title(title)
+                .nameContains(nameContains)
+                .build();
+        log.info("GET /api/v1/employee/filter - Filtering employees by {}", filter);
+        List<Employee> employees = employeeQueryService.getEmployeesByFilter(filter);
+        log.info("Found {} employees matching filter", employees.size());
+        return ResponseEntity.ok(employees);
+    }
+
+    /**
+     * Ranks employees by salary or age.
+     *
+     * @param field {@code salary} or {@code age}
+     * @param order {@code desc} (default) or {@code asc}
+     * @param k the number of employees to return
+     * @return up to k employees, best first; ties in list order
+     */
+    @GetMapping("/top")
+    public ResponseEntity<List<Employee>> getTopEmployees(
+            @RequestParam(required = false) String field,
+            @RequestParam(required = false) String order,
+            @RequestParam(required = false) Integer k) {
+        log.info("GET /api/v1/employee/top - Ranking employees by {}", field);
+        List<Employee> employees = employeeQueryService.getTopEmployees(field, order, k);
+        log.info("Returning {} top employees by {}", employees.size(), field);
+        return ResponseEntity.ok(employees);
+    }
+
+    /**
+     * Summarizes the salary distribution: count, min, max, mean, standard deviation and p50/p90/p99.
+     *
+     * @return the statistics, with null values when no employee has a salary
+     */
+    @GetMapping("/salary/statistics")
+    public ResponseEntity<SalaryStatistics> getSalaryStatistics() {
+        log.info("GET /api/v1/employee/salary/statistics - Computing salary statistics");
+        SalaryStatistics statistics = employeeQueryService.getSalaryStatistics();
+        log.info("Salary statistics computed over {} employees", statistics.getCount());
+        return ResponseEntity.ok(statistics);
+    }
+
+    /**
+     * Groups employees by job title, with headcount and min, max and average salary per title.
+     *
+     * @return one group per title, ordered by title
+     */
+    @GetMapping("/group-by/title")
+    public ResponseEntity<List<TitleGroup>> getTitleGroups() {
+        log.info("GET /api/v1/employee/group-by/title - Grouping employees by title");
+        List<TitleGroup> groups = employeeQueryService.getTitleGroups();
+        log.info("Returning {} title groups", groups.size());
+        return ResponseEntity.ok(groups);
+    }
+
+    /**
+     * Counts employees whose salary or age lies within an inclusive range.
+     *
+     * @param field {@code salary} or {@code age}
+     * @param min the lower bound; omitted for none
+     * @param max the upper bound; omitted for none
+     * @return the number of employees in range
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Integer> countEmployees(
+            @RequestParam(required = false) String field,
+            @RequestParam(required = false) Integer min,
+            @RequestParam(required = false) Integer max) {
+        log.info("GET /api/v1/employee/count - Counting employees by {} in [{}, {}]", field, min, max);
+        int count = employeeQueryService.countEmployees(field, min, max);
+        log.info("Counted {} employees", count);
+        return ResponseEntity.ok(count);
+    }
+
+    /**
+     * Ranks an employee by salary, highest first with ties in list order.
+     *
+     * @param id the employee's ID
+     * @return the employee's rank, the number of ranked employees and the salary percentile
+     */
+    @GetMapping("/salary/rank/{id}")
+    public ResponseEntity<SalaryRank> getSalaryRank(@PathVariable String id) {
+        log.info("GET /api/v1/employee/salary/rank/{} - Ranking employee by salary", id);
+        SalaryRank rank = employeeQueryService.getSalaryRank(id);
+        log.info("Employee {} ranks {} of {}", id, rank.getRank(), rank.getRankedCount());
+        return ResponseEntity.ok(rank);
+    }
+
+    /**
+     * Returns the employee at a salary rank.
+     *
+     * @param rank 1-based rank, 1 being the highest earner
+     * @return the employee at that rank
+     */
+    @GetMapping("/salary/ranked/{rank}")
+    public ResponseEntity<Employee> getEmployeeAtSalaryRank(@PathVariable int rank) {
+        log.info("GET /api/v1/employee/salary/ranked/{} - Selecting employee by salary rank", rank);
+        Employee employee = employeeQueryService.getEmployeeAtSalaryRank(rank);
+        log.info("Employee at salary rank {}: {}", rank, employee.getName());
+        return ResponseEntity.ok(employee);
+    }
+
+    /**
+     * Lists employees by salary rank, highest salary first.
+     *
+     * @param from first 1-based rank, inclusive; 1 if omitted
+     * @param to last 1-based rank, inclusive; the largest allowed range if omitted
+     * @return the employees in that rank range
+     */
+    @GetMapping("/salary/ranked")
+    public ResponseEntity<List<Employee>> getEmployeesBySalaryRank(
+            @RequestParam(required = false) Integer from, @RequestParam(required = false) Integer to) {
+        log.info("GET /api/v1/employee/salary/ranked - Listing employees at salary ranks {} to {}", from, to);
+        List<Employee> employees = employeeQueryService.getEmployeesBySalaryRank(from, to);
+        log.info("Returning {} employees by salary rank", employees.size());
+        return ResponseEntity.ok(employees);
+    }
+}
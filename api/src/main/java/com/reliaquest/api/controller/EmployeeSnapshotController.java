@@ -0,0 +1,33 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.SnapshotStatus;
+import com.reliaquest.api.service.EmployeeSnapshotRefresher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Operational endpoints for the in-process employee snapshot.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/employee/snapshot")
+@RequiredArgsConstructor
+public class EmployeeSnapshotController {
+
+    private final EmployeeSnapshotRefresher snapshotRefresher;
+
+    /**
+     * Returns the snapshot version, the time and age of the last successful refresh, and refresher state.
+     *
+     * @return the snapshot status
+     */
+    @GetMapping("/status")
+    public ResponseEntity<SnapshotStatus> getStatus() {
+        log.info("GET /api/v1/employee/snapshot/status - Fetching snapshot status");
+        return ResponseEntity.ok(snapshotRefresher.getStatus());
+    }
+}
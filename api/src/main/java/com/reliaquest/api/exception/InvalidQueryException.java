@@ -0,0 +1,11 @@
+package com.reliaquest.api.exception;
+
+/**
+ * Exception thrown when query parameters of a read endpoint are out of range.
+ */
+public class InvalidQueryException extends RuntimeException {
+
+    public InvalidQueryException(String message) {
+        super(message);
+    }
+}
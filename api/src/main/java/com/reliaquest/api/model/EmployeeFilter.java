@@ -0,0 +1,32 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Criteria for the employee filter endpoint. Every criterion is optional; those given must all match.
+ * Range bounds are inclusive. An employee missing an attribute never matches a criterion on it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeFilter {
+
+    private Integer minSalary;
+    private Integer maxSalary;
+    private Integer minAge;
+    private Integer maxAge;
+
+    /**
+     * Matched against the whole title, ignoring case.
+     */
+    private String title;
+
+    /**
+     * Matched as a substring of the name, ignoring case, like the name search endpoint.
+     */
+    private String nameContains;
+}
@@ -0,0 +1,32 @@
+package com.reliaquest.api.model;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import lombok.Getter;
+
+/**
+ * Numeric employee attributes that can be ranked and aggregated.
+ */
+@Getter
+public enum NumericField {
+    SALARY("salary", Employee::getSalary),
+    AGE("age", Employee::getAge);
+
+    private final String parameter;
+    private final Function<Employee, Integer> accessor;
+
+    NumericField(String parameter, Function<Employee, Integer> accessor) {
+        this.parameter = parameter;
+        this.accessor = accessor;
+    }
+
+    /**
+     * @return the field named by a request parameter, ignoring case, or null if there is none
+     */
+    public static NumericField fromParameter(String parameter) {
+        return Arrays.stream(values())
+                .filter(field -> field.parameter.equalsIgnoreCase(parameter))
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.api.model;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Position of one employee in the salary ranking, highest salary first with ties in list order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryRank {
+
+    private UUID id;
+    private String name;
+    private Integer salary;
+
+    /**
+     * 1-based; rank 1 is the highest earner.
+     */
+    private Integer rank;
+
+    /**
+     * Number of employees that have a salary and are therefore ranked.
+     */
+    private Integer rankedCount;
+
+    /**
+     * Percentage of ranked employees earning at most this salary, rounded to two decimals.
+     */
+    private Double percentile;
+}
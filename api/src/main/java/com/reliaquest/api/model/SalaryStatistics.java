@@ -0,0 +1,34 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Distribution of salaries across employees that have one. Every field but count is null when no one does.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryStatistics {
+
+    private Integer count;
+    private Integer min;
+    private Integer max;
+    private Double mean;
+
+    /**
+     * Population standard deviation.
+     */
+    private Double stddev;
+
+    /**
+     * Percentiles are accurate to within 1% of the true value, and never outside [min, max].
+     */
+    private Integer p50;
+
+    private Integer p90;
+    private Integer p99;
+}
@@ -0,0 +1,34 @@
+package com.reliaquest.api.model;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Health of the in-process employee snapshot and its background refresher.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SnapshotStatus {
+
+    private Long version;
+    private Integer employeeCount;
+
+    /**
+     * When the snapshot's list was last fetched successfully, by the refresher or by a read.
+     */
+    private Instant lastRefreshAt;
+
+    private Long lastRefreshAgeMs;
+    private Instant lastScheduledRefreshAt;
+    private Instant nextScheduledRefreshAt;
+    private Integer consecutiveFailures;
+    private Boolean upstreamThrottled;
+    private Double learnedRequestsPerWindow;
+    private Long learnedWindowMs;
+    private Long refreshIntervalMs;
+}
@@ -0,0 +1,23 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Headcount and salary range of the employees sharing a job title.
+ * Salary fields are null when none of them has a salary.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TitleGroup {
+
+    private String title;
+    private Integer headcount;
+    private Integer minSalary;
+    private Integer maxSalary;
+    private Double averageSalary;
+}
@@ -0,0 +1,218 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.EmployeeApiProperties;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.InvalidQueryException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeFilter;
+import com.reliaquest.api.model.NumericField;
+import com.reliaquest.api.model.SalaryRank;
+import com.reliaquest.api.model.SalaryStatistics;
+import com.reliaquest.api.model.TitleGroup;
+import com.reliaquest.api.snapshot.ReadEndpoint;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Read-only queries beyond the assessment's API contract, answered from the employee snapshot.
+ * Validates request parameters and applies configured defaults; the work itself is done by the snapshot's indexes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmployeeQueryService {
+
+    private final EmployeeService employeeService;
+    private final EmployeeApiProperties properties;
+
+    /**
+     * Searches employee names tolerating typos.
+     *
+     * @param searchString the possibly misspelled name or word of a name
+     * @param maxDistance the largest edit distance to accept, or null for the configured default
+     * @param limit the maximum number of results, or null for the configured default
+     * @return matching employees, closest first
+     */
+    public List<Employee> getEmployeesByFuzzyNameSearch(String searchString, Integer maxDistance, Integer limit) {
+        EmployeeApiProperties.FuzzySearch fuzzySearch = properties.getFuzzySearch();
+        int distance = maxDistance != null ? maxDistance : fuzzySearch.getDefaultMaxDistance();
+        int size = limit != null ? limit : fuzzySearch.getDefaultLimit();
+        requireInRange("maxDistance", distance, 0, fuzzySearch.getMaxDistance());
+        requireInRange("limit", size, 1, fuzzySearch.getMaxLimit());
+
+        log.info("Fuzzy searching employees for '{}' within distance {}", searchString, distance);
+        List<Employee> matches = employeeService
+                .getSnapshot(ReadEndpoint.FUZZY_NAME_SEARCH)
+                .fuzzySearchByName(searchString, distance, size);
+        log.debug("Found {} employees within distance {} of '{}'", matches.size(), distance, searchString);
+        return matches;
+    }
+
+    /**
+     * Filters employees by salary range, age range, title and name fragment.
+     *
+     * @param filter the criteria; absent criteria match everyone
+     * @return matching employees in list order
+     */
+    public List<Employee> getEmployeesByFilter(EmployeeFilter filter) {
+        requireOrdered("minSalary", "maxSalary", filter.getMinSalary(), filter.getMaxSalary());
+        requireOrdered("minAge", "maxAge", filter.getMinAge(), filter.getMaxAge());
+
+        log.info("Filtering employees by {}", filter);
+        List<Employee> matches = employeeService.getSnapshot(ReadEndpoint.FILTER).filter(filter);
+        log.debug("Found {} employees matching {}", matches.size(), filter);
+        return matches;
+    }
+
+    /**
+     * Ranks employees by a numeric field.
+     *
+     * @param field the field to rank by, {@code salary} or {@code age}
+     * @param order {@code desc} for the highest values first, {@code asc} for the lowest, or null for {@code desc}
+     * @param k the number of employees to return, or null for the configured default
+     * @return up to k employees, best first; employees without the field are not ranked
+     */
+    public List<Employee> getTopEmployees(String field, String order, Integer k) {
+        NumericField numericField = requireField(field);
+        boolean descending = order == null || order.equalsIgnoreCase("desc");
+        if (!descending && !order.equalsIgnoreCase("asc")) {
+            throw new InvalidQueryException(String.format("order must be asc or desc, was '%s'", order));
+        }
+        EmployeeApiProperties.TopK topK = properties.getTopK();
+        int size = k != null ? k : topK.getDefaultK();
+        requireInRange("k", size, 1, topK.getMaxK());
+
+        log.info("Ranking top {} employees by {} {}", size, numericField.getParameter(), descending ? "desc" : "asc");
+        List<Employee> top = employeeService.getSnapshot(ReadEndpoint.TOP_K).topK(numericField, descending, size);
+        log.debug("Ranked {} employees by {}", top.size(), numericField.getParameter());
+        return top;
+    }
+
+    /**
+     * @return the salary distribution across all employees
+     */
+    public SalaryStatistics getSalaryStatistics() {
+        log.info("Computing salary statistics");
+        SalaryStatistics statistics =
+                employeeService.getSnapshot(ReadEndpoint.SALARY_STATISTICS).getSalaryStatistics();
+        log.debug("Salary statistics: {}", statistics);
+        return statistics;
+    }
+
+    /**
+     * @return headcount and salary range per job title, ordered by title
+     */
+    public List<TitleGroup> getTitleGroups() {
+        log.info("Grouping employees by title");
+        List<TitleGroup> groups = employeeService.getSnapshot(ReadEndpoint.TITLE_GROUPS).getTitleGroups();
+        log.debug("Found {} titles", groups.size());
+        return groups;
+    }
+
+    /**
+     * Counts employees whose salary or age lies within an inclusive range.
+     *
+     * @param field the field to test, {@code salary} or {@code age}
+     * @param min the lower bound, or null for none
+     * @param max the upper bound, or null for none
+     * @return the number of employees in range
+     */
+    public int countEmployees(String field, Integer min, Integer max) {
+        NumericField numericField = requireField(field);
+        requireOrdered("min", "max", min, max);
+
+        log.info("Counting employees with {} in [{}, {}]", numericField.getParameter(), min, max);
+        int count = employeeService.getSnapshot(ReadEndpoint.COUNT).countInRange(numericField, min, max);
+        log.debug("Counted {} employees with {} in [{}, {}]", count, numericField.getParameter(), min, max);
+        return count;
+    }
+
+    /**
+     * Ranks an employee by salary among all employees that have one.
+     *
+     * @param id the employee's ID
+     * @return the employee's rank and percentile
+     * @throws EmployeeNotFoundException if no employee has the ID
+     * @throws InvalidQueryException if the employee has no salary to rank by
+     */
+    public SalaryRank getSalaryRank(String id) {
+        log.info("Ranking employee {} by salary", id);
+        UUID uuid = EmployeeService.parseUuid(id);
+        Optional<SalaryRank> ranked = uuid != null
+                ? employeeService.getSnapshot(ReadEndpoint.SALARY_RANK).getSalaryRank(uuid)
+                : Optional.empty();
+        SalaryRank rank =
+                ranked.orElseThrow(() -> new EmployeeNotFoundException("Employee not found with ID: " + id));
+        if (rank.getRank() == null) {
+            throw new InvalidQueryException(String.format("employee %s has no salary to rank by", id));
+        }
+        log.debug("Employee {} ranks {} of {} by salary", id, rank.getRank(), rank.getRankedCount());
+        return rank;
+    }
+
+    /**
+     * @param rank 1-based salary rank, 1 being the highest earner
+     * @return the employee at that rank
+     * @throws InvalidQueryException if the rank is not positive
+     * @throws EmployeeNotFoundException if fewer employees have a salary
+     */
+    public Employee getEmployeeAtSalaryRank(int rank) {
+        requireInRange("rank", rank, 1, Integer.MAX_VALUE);
+        log.info("Selecting employee at salary rank {}", rank);
+        Employee employee = employeeService.getSnapshot(ReadEndpoint.SALARY_RANK).getEmployeeAtSalaryRank(rank);
+        if (employee == null) {
+            throw new EmployeeNotFoundException("No employee at salary rank: " + rank);
+        }
+        return employee;
+    }
+
+    /**
+     * Lists employees by salary rank.
+     *
+     * @param from first 1-based rank, inclusive, or null for 1
+     * @param to last 1-based rank, inclusive, or null for the largest range allowed from {@code from}
+     * @return the employees ranked from..to, highest salary first; empty past the last ranked employee
+     */
+    public List<Employee> getEmployeesBySalaryRank(Integer from, Integer to) {
+        int maxRange = properties.getSalaryRank().getMaxRange();
+        int first = from != null ? from : 1;
+        requireInRange("from", first, 1, Integer.MAX_VALUE);
+        int last = to != null ? to : (int) Math.min(Integer.MAX_VALUE, (long) first + maxRange - 1);
+        requireOrdered("from", "to", first, last);
+        if (last - first + 1 > maxRange) {
+            throw new InvalidQueryException(
+                    String.format("at most %d ranks may be requested, was %d", maxRange, last - first + 1));
+        }
+
+        log.info("Listing employees at salary ranks {} to {}", first, last);
+        List<Employee> employees =
+                employeeService.getSnapshot(ReadEndpoint.SALARY_RANK).getEmployeesBySalaryRank(first, last);
+        log.debug("Found {} employees at salary ranks {} to {}", employees.size(), first, last);
+        return employees;
+    }
+
+    private static NumericField requireField(String field) {
+        NumericField numericField = NumericField.fromParameter(field);
+        if (numericField == null) {
+            throw new InvalidQueryException(String.format("field must be one of salary, age, was '%s'", field));
+        }
+        return numericField;
+    }
+
+    private static void requireOrdered(String minParameter, String maxParameter, Integer min, Integer max) {
+        if (min != null && max != null && min > max) {
+            throw new InvalidQueryException(String.format("%s must not exceed %s", minParameter, maxParameter));
+        }
+    }
+
+    private static void requireInRange(String parameter, int value, int min, int max) {
+        if (value < min || value > max) {
+            throw new InvalidQueryException(
+                    String.format("%s must be between %d and %d, was %d", parameter, min, max, value));
+        }
+    }
+}
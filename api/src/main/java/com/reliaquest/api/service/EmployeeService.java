@@ -1,16 +1,28 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.client.EmployeeListReader;
+import com.reliaquest.api.concurrent.SingleFlight;
+import com.reliaquest.api.config.EmployeeApiProperties;
 import com.reliaquest.api.exception.EmployeeApiException;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.model.ApiResponse;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.DeleteEmployeeRequest;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.snapshot.EmployeeIdIndex;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.EmployeeSnapshotCache;
+import com.reliaquest.api.snapshot.NegativeIdCache;
+import com.reliaquest.api.snapshot.ReadEndpoint;
+import com.reliaquest.api.snapshot.SearchResultCache;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
@@ -25,71 +37,193 @@ import org.springframework.web.client.RestTemplate;
 
 /**
  * Service for interacting with the Mock Employee API.
- * Implements retry logic to handle rate limiting.
+ * Implements retry logic to handle rate limiting and serves list-based reads from an in-process snapshot.
+ * With the snapshot cache disabled, list-based reads are computed from a freshly fetched list instead.
  */
 @Slf4j
 @Service
 public class EmployeeService {
 
     private final RestTemplate restTemplate;
+    private final EmployeeSnapshotCache snapshotCache;
+    private final EmployeeIdIndex idIndex;
+    private final NegativeIdCache negativeIdCache;
+    private final SearchResultCache searchResultCache;
+
+    /**
+     * Streams the full list into the snapshot; null when the response is bound to an ApiResponse instead.
+     */
+    private final EmployeeListReader listReader;
+
     private final String baseUrl;
     private final int maxRetries;
     private final long retryDelayMs;
 
+    /**
+     * Concurrent full-list fetches with the same attempt budget share one upstream request, keyed by that
+     * budget: a reader must not inherit the 429 of a single-attempt background refresh it would have retried.
+     */
+    @Getter
+    private final SingleFlight<Integer> allEmployeesFlight = new SingleFlight<>();
+
+    /**
+     * Concurrent fetches of the same employee ID share one upstream request.
+     */
+    @Getter
+    private final SingleFlight<String> employeeByIdFlight = new SingleFlight<>();
+
+    /**
+     * Creates a service with its own snapshot cache and ID indexes using default settings,
+     * binding the full list to an ApiResponse.
+     */
+    public EmployeeService(RestTemplate restTemplate, String baseUrl, int maxRetries, long retryDelayMs) {
+        this(restTemplate, null, baseUrl, maxRetries, retryDelayMs);
+    }
+
+    /**
+     * Creates a service with its own snapshot cache and ID indexes using default settings.
+     *
+     * @param listReader streams the full list into the snapshot, or null to bind it to an ApiResponse
+     */
     public EmployeeService(
             RestTemplate restTemplate,
+            EmployeeListReader listReader,
+            String baseUrl,
+            int maxRetries,
+            long retryDelayMs) {
+        this(restTemplate, new EmployeeApiProperties(), listReader, baseUrl, maxRetries, retryDelayMs);
+    }
+
+    private EmployeeService(
+            RestTemplate restTemplate,
+            EmployeeApiProperties properties,
+            EmployeeListReader listReader,
+            String baseUrl,
+            int maxRetries,
+            long retryDelayMs) {
+        this(
+                restTemplate,
+                new EmployeeSnapshotCache(properties),
+                new EmployeeIdIndex(properties),
+                new NegativeIdCache(properties),
+                new SearchResultCache(properties),
+                properties,
+                listReader,
+                baseUrl,
+                maxRetries,
+                retryDelayMs);
+    }
+
+    @Autowired
+    public EmployeeService(
+            RestTemplate restTemplate,
+            EmployeeSnapshotCache snapshotCache,
+            EmployeeIdIndex idIndex,
+            NegativeIdCache negativeIdCache,
+            SearchResultCache searchResultCache,
+            EmployeeApiProperties properties,
+            EmployeeListReader listReader,
             @Value("${employee.api.base-url:http://localhost:8112/api/v1/employee}") String baseUrl,
             @Value("${employee.api.max-retries:3}") int maxRetries,
             @Value("${employee.api.retry-delay-ms:1000}") long retryDelayMs) {
         this.restTemplate = restTemplate;
+        this.snapshotCache = snapshotCache;
+        this.idIndex = idIndex;
+        this.negativeIdCache = negativeIdCache;
+        this.searchResultCache = searchResultCache;
+        this.listReader = properties.getIngestion().isStreaming() ? listReader : null;
         this.baseUrl = baseUrl;
         this.maxRetries = maxRetries;
         this.retryDelayMs = retryDelayMs;
     }
 
     /**
-     * Retrieves all employees from the Mock Employee API.
+     * Retrieves all employees, served from the snapshot when it is fresh enough.
      *
      * @return list of all employees
      */
     public List<Employee> getAllEmployees() {
+        return getAllEmployees(getServingSnapshot(ReadEndpoint.ALL_EMPLOYEES));
+    }
+
+    /**
+     * Retrieves all employees from the given snapshot.
+     *
+     * @param snapshot the snapshot to read, or null to fetch from upstream
+     * @return list of all employees
+     */
+    public List<Employee> getAllEmployees(EmployeeSnapshot snapshot) {
+        log.info("Fetching all employees");
+        return snapshot != null ? snapshot.getEmployees() : fetchAllEmployees();
+    }
+
+    /**
+     * Retrieves all employees from the Mock Employee API.
+     *
+     * @return list of all employees
+     */
+    private List<Employee> fetchAllEmployees() {
+        return fetchAllEmployees(maxRetries);
+    }
+
+    private List<Employee> fetchAllEmployees(int attempts) {
         log.info("Fetching all employees from Mock Employee API");
-        return executeWithRetry(() -> {
-            ResponseEntity<ApiResponse<List<Employee>>> response = restTemplate.exchange(
-                    baseUrl, HttpMethod.GET, null, new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {});
+        return allEmployeesFlight.execute(attempts, () -> executeWithRetry(attempts, () -> {
+            List<Employee> employees = listReader != null
+                    ? restTemplate.execute(baseUrl, HttpMethod.GET, listReader, listReader)
+                    : exchangeAllEmployees();
 
-            if (response.getBody() != null && response.getBody().getData() != null) {
-                log.debug(
-                        "Successfully retrieved {} employees",
-                        response.getBody().getData().size());
-                return response.getBody().getData();
+            if (employees != null) {
+                log.debug("Successfully retrieved {} employees", employees.size());
+                idIndex.putAll(employees);
+                negativeIdCache.invalidateAll();
+                return employees;
             }
             log.warn("Received empty response when fetching all employees");
             return Collections.emptyList();
-        });
+        }));
+    }
+
+    /**
+     * @return the data of the bound response, or null if it has none
+     */
+    private List<Employee> exchangeAllEmployees() {
+        ResponseEntity<ApiResponse<List<Employee>>> response = restTemplate.exchange(
+                baseUrl, HttpMethod.GET, null, new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {});
+        return response.getBody() != null ? response.getBody().getData() : null;
     }
 
     /**
-     * Searches employees by name fragment.
+     * Searches employees by name fragment, ignoring case, using the snapshot's trigram index.
+     * Results are cached per case-folded query until the snapshot changes.
      *
      * @param searchString the name fragment to search for
      * @return list of employees whose names contain the search string
      */
     public List<Employee> getEmployeesByNameSearch(String searchString) {
-        log.info("Searching employees with name containing: {}", searchString);
-        List<Employee> allEmployees = getAllEmployees();
+        return getEmployeesByNameSearch(getServingSnapshot(ReadEndpoint.NAME_SEARCH), searchString);
+    }
 
-        List<Employee> matchingEmployees = allEmployees.stream()
-                .filter(emp ->
-                        emp.getName() != null && emp.getName().toLowerCase().contains(searchString.toLowerCase()))
-                .collect(Collectors.toList());
+    /**
+     * Searches the given snapshot's employees by name fragment, ignoring case.
+     *
+     * @param snapshot the snapshot to search, or null to search a fresh upstream fetch
+     * @param searchString the name fragment to search for
+     * @return list of employees whose names contain the search string
+     */
+    public List<Employee> getEmployeesByNameSearch(EmployeeSnapshot snapshot, String searchString) {
+        log.info("Searching employees with name containing: {}", searchString);
+        List<Employee> matchingEmployees = snapshot != null
+                ? searchResultCache.get(snapshot, searchString, snapshot::searchByName)
+                : searchByName(fetchAllEmployees(), searchString);
 
         log.debug("Found {} employees matching search criteria", matchingEmployees.size());
         return matchingEmployees;
     }
 
     /**
-     * Retrieves an employee by ID.
+     * Retrieves an employee by ID, served from the ID index when it holds a fresh entry.
+     * IDs recently reported missing, or absent from a fresh snapshot's Bloom filter, are rejected locally.
      *
      * @param id the employee ID
      * @return the employee
@@ -97,7 +231,51 @@ public class EmployeeService {
      */
     public Employee getEmployeeById(String id) {
         log.info("Fetching employee with ID: {}", id);
-        return executeWithRetry(() -> {
+        UUID uuid = parseUuid(id);
+        if (uuid != null) {
+            Optional<Employee> indexed = idIndex.find(uuid);
+            if (indexed.isPresent()) {
+                log.debug("Serving employee {} from ID index", id);
+                return indexed.get();
+            }
+            if (isKnownAbsent(uuid)) {
+                log.debug("Rejecting unknown employee ID {} without upstream call", id);
+                throw new EmployeeNotFoundException("Employee not found with ID: " + id);
+            }
+        }
+
+        try {
+            Employee employee = fetchEmployeeById(id);
+            idIndex.put(employee);
+            return employee;
+        } catch (EmployeeNotFoundException e) {
+            if (uuid != null) {
+                negativeIdCache.add(uuid);
+            }
+            throw e;
+        }
+    }
+
+    private boolean isKnownAbsent(UUID id) {
+        if (!negativeIdCache.isEnabled()) {
+            return false;
+        }
+        if (negativeIdCache.contains(id)) {
+            return true;
+        }
+        EmployeeSnapshot snapshot = snapshotCache.peekFresh(ReadEndpoint.EMPLOYEE_BY_ID);
+        return snapshot != null && !snapshot.mightContain(id);
+    }
+
+    /**
+     * Retrieves an employee by ID from the Mock Employee API.
+     *
+     * @param id the employee ID
+     * @return the employee
+     * @throws EmployeeNotFoundException if employee is not found
+     */
+    private Employee fetchEmployeeById(String id) {
+        return employeeByIdFlight.execute(id, () -> executeWithRetry(() -> {
             try {
                 ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
                         baseUrl + "/" + id,
@@ -119,40 +297,48 @@ public class EmployeeService {
                 }
                 throw e;
             }
-        });
+        }));
     }
 
     /**
-     * Finds the highest salary among all employees.
+     * Finds the highest salary among all employees, maintained with the snapshot.
      *
      * @return the highest salary
      */
     public Integer getHighestSalary() {
-        log.info("Finding highest salary among all employees");
-        List<Employee> employees = getAllEmployees();
+        return getHighestSalary(getServingSnapshot(ReadEndpoint.HIGHEST_SALARY));
+    }
 
-        return employees.stream()
-                .map(Employee::getSalary)
-                .filter(salary -> salary != null)
-                .max(Integer::compareTo)
-                .orElse(0);
+    /**
+     * Finds the highest salary in the given snapshot.
+     *
+     * @param snapshot the snapshot to read, or null to compute it from a fresh upstream fetch
+     * @return the highest salary
+     */
+    public Integer getHighestSalary(EmployeeSnapshot snapshot) {
+        log.info("Finding highest salary among all employees");
+        return snapshot != null ? snapshot.getHighestSalary() : highestSalary(fetchAllEmployees());
     }
 
     /**
-     * Gets the names of top 10 highest earning employees.
+     * Gets the names of top 10 highest earning employees, maintained with the snapshot.
      *
      * @return list of employee names sorted by salary (highest first)
      */
     public List<String> getTop10HighestEarningEmployeeNames() {
-        log.info("Finding top 10 highest earning employees");
-        List<Employee> employees = getAllEmployees();
+        return getTop10HighestEarningEmployeeNames(getServingSnapshot(ReadEndpoint.TOP_EARNERS));
+    }
 
-        List<String> topEarners = employees.stream()
-                .filter(emp -> emp.getSalary() != null)
-                .sorted(Comparator.comparing(Employee::getSalary).reversed())
-                .limit(10)
-                .map(Employee::getName)
-                .collect(Collectors.toList());
+    /**
+     * Gets the names of the top 10 highest earning employees in the given snapshot.
+     *
+     * @param snapshot the snapshot to read, or null to compute them from a fresh upstream fetch
+     * @return list of employee names sorted by salary (highest first)
+     */
+    public List<String> getTop10HighestEarningEmployeeNames(EmployeeSnapshot snapshot) {
+        log.info("Finding top 10 highest earning employees");
+        List<String> topEarners =
+                snapshot != null ? snapshot.getTopEarnerNames() : topEarnerNames(fetchAllEmployees());
 
         log.debug("Top 10 highest earners: {}", topEarners);
         return topEarners;
@@ -166,7 +352,7 @@ public class EmployeeService {
      */
     public Employee createEmployee(CreateEmployeeInput input) {
         log.info("Creating new employee with name: {}", input.getName());
-        return executeWithRetry(() -> {
+        Employee createdEmployee = executeWithRetry(() -> {
             HttpEntity<CreateEmployeeInput> request = new HttpEntity<>(input);
             ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
                     baseUrl, HttpMethod.POST, request, new ParameterizedTypeReference<ApiResponse<Employee>>() {});
@@ -179,6 +365,14 @@ public class EmployeeService {
             }
             throw new EmployeeApiException("Failed to create employee - empty response received");
         });
+
+        // Write-through so the next read sees the new employee without another upstream GET
+        if (createdEmployee.getId() != null) {
+            negativeIdCache.invalidate(createdEmployee.getId());
+            idIndex.put(createdEmployee);
+        }
+        snapshotCache.applyCreated(createdEmployee);
+        return createdEmployee;
     }
 
     /**
@@ -195,7 +389,7 @@ public class EmployeeService {
         Employee employee = getEmployeeById(id);
         String employeeName = employee.getName();
 
-        return executeWithRetry(() -> {
+        String deletedName = executeWithRetry(() -> {
             // The Mock API expects a DELETE request with name in the body
             DeleteEmployeeRequest deleteRequest = new DeleteEmployeeRequest(employeeName);
             HttpEntity<DeleteEmployeeRequest> request = new HttpEntity<>(deleteRequest);
@@ -211,6 +405,93 @@ public class EmployeeService {
             }
             throw new EmployeeApiException("Failed to delete employee with ID: " + id);
         });
+
+        // Write-through; the Mock API removes the first employee with that name, which the snapshot mirrors
+        UUID removedId = snapshotCache
+                .applyDeleted(employee.getId(), employeeName)
+                .map(Employee::getId)
+                .orElse(employee.getId());
+        if (removedId != null) {
+            idIndex.remove(removedId);
+        }
+        return deletedName;
+    }
+
+    /**
+     * Returns the snapshot the given endpoint is currently served from, loading it if needed.
+     * Callers that send its ETag pass the same instance to the snapshot-taking read methods, so the tag always
+     * describes the body it is sent with.
+     *
+     * @param endpoint the endpoint being served
+     * @return the snapshot, or null when the snapshot is disabled and reads go straight upstream
+     */
+    public EmployeeSnapshot getServingSnapshot(ReadEndpoint endpoint) {
+        return snapshotCache.isEnabled() ? getSnapshot(endpoint) : null;
+    }
+
+    /**
+     * Fetches the full list with a single attempt and installs it as the new snapshot.
+     * Used by the background refresher, which handles throttling by backing off rather than retrying.
+     *
+     * @return the installed snapshot
+     */
+    public EmployeeSnapshot refreshSnapshot() {
+        return snapshotCache.refresh(() -> fetchAllEmployees(1));
+    }
+
+    /**
+     * Returns the snapshot to serve the given endpoint from, within that endpoint's staleness bounds.
+     *
+     * @param endpoint the endpoint being served
+     * @return the snapshot
+     */
+    public EmployeeSnapshot getSnapshot(ReadEndpoint endpoint) {
+        return snapshotCache.read(endpoint, this::fetchAllEmployees);
+    }
+
+    /**
+     * Uncached counterpart of the snapshot's trigram search, folding case the same way.
+     */
+    static List<Employee> searchByName(List<Employee> employees, String fragment) {
+        String folded = fragment.toLowerCase();
+        return employees.stream()
+                .filter(employee -> employee.getName() != null
+                        && employee.getName().toLowerCase().contains(folded))
+                .toList();
+    }
+
+    /**
+     * @return the highest salary in the list, or 0 if no employee has one
+     */
+    static int highestSalary(List<Employee> employees) {
+        return employees.stream()
+                .map(Employee::getSalary)
+                .filter(salary -> salary != null)
+                .max(Integer::compareTo)
+                .orElse(0);
+    }
+
+    /**
+     * @return names of the ten highest earners in the list, highest first with ties in list order
+     */
+    static List<String> topEarnerNames(List<Employee> employees) {
+        return employees.stream()
+                .filter(employee -> employee.getSalary() != null)
+                .sorted(Comparator.comparing(Employee::getSalary).reversed())
+                .limit(10)
+                .map(Employee::getName)
+                .toList();
+    }
+
+    /**
+     * @return the parsed ID, or null if it is not a UUID and can only be resolved upstream
+     */
+    static UUID parseUuid(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 
     /**
@@ -221,10 +502,14 @@ public class EmployeeService {
      * @return the result of the operation
      */
     private <T> T executeWithRetry(RetryableOperation<T> operation) {
+        return executeWithRetry(maxRetries, operation);
+    }
+
+    private <T> T executeWithRetry(int maxAttempts, RetryableOperation<T> operation) {
         int attempts = 0;
         Exception lastException = null;
 
-        while (attempts < maxRetries) {
+        while (attempts < maxAttempts) {
             try {
                 return operation.execute();
             } catch (HttpStatusCodeException e) {
@@ -237,9 +522,9 @@ public class EmployeeService {
                             "Rate limited or server error from Mock Employee API (status {}). Attempt {}/{}. Retrying after {}ms...",
                             statusCode.value(),
                             attempts,
-                            maxRetries,
+                            maxAttempts,
                             retryDelayMs);
-                    if (attempts < maxRetries) {
+                    if (attempts < maxAttempts) {
                         sleep();
                     }
                 } else {
@@ -252,17 +537,17 @@ public class EmployeeService {
                 log.warn(
                         "Error communicating with Mock Employee API. Attempt {}/{}. Error: {}",
                         attempts,
-                        maxRetries,
+                        maxAttempts,
                         e.getMessage());
-                if (attempts < maxRetries) {
+                if (attempts < maxAttempts) {
                     sleep();
                 }
             }
         }
 
-        log.error("Max retries ({}) exceeded while calling Mock Employee API", maxRetries);
+        log.error("Max retries ({}) exceeded while calling Mock Employee API", maxAttempts);
         throw new EmployeeApiException(
-                "Failed to communicate with Mock Employee API after " + maxRetries + " attempts", lastException);
+                "Failed to communicate with Mock Employee API after " + maxAttempts + " attempts", lastException);
     }
 
     private void sleep() {
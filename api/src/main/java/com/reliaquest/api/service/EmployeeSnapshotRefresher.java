@@ -0,0 +1,181 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.client.UpstreamRateBudget;
+import com.reliaquest.api.config.EmployeeApiProperties;
+import com.reliaquest.api.model.SnapshotStatus;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.EmployeeSnapshotCache;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the employee snapshot warm by refreshing it ahead of reads.
+ * Spends only the configured share of the upstream request budget learned by {@link UpstreamRateBudget},
+ * skips runs while the snapshot is still young, backs off exponentially after failures or a 429,
+ * and jitters every delay so several instances do not refresh in lockstep.
+ */
+@Slf4j
+@Component
+public class EmployeeSnapshotRefresher implements DisposableBean {
+
+    private final EmployeeService employeeService;
+    private final EmployeeSnapshotCache snapshotCache;
+    private final UpstreamRateBudget rateBudget;
+    private final EmployeeApiProperties.Refresh properties;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile Instant lastScheduledRefreshAt;
+    private volatile Instant nextScheduledRefreshAt;
+
+    @Autowired
+    public EmployeeSnapshotRefresher(
+            EmployeeService employeeService,
+            EmployeeSnapshotCache snapshotCache,
+            UpstreamRateBudget rateBudget,
+            EmployeeApiProperties properties) {
+        this(employeeService, snapshotCache, rateBudget, properties, Clock.systemUTC(), newScheduler());
+    }
+
+    EmployeeSnapshotRefresher(
+            EmployeeService employeeService,
+            EmployeeSnapshotCache snapshotCache,
+            UpstreamRateBudget rateBudget,
+            EmployeeApiProperties properties,
+            Clock clock,
+            ScheduledExecutorService scheduler) {
+        this.employeeService = employeeService;
+        this.snapshotCache = snapshotCache;
+        this.rateBudget = rateBudget;
+        this.properties = properties.getRefresh();
+        this.clock = clock;
+        this.scheduler = scheduler;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled() || !snapshotCache.isEnabled()) {
+            log.info("Background snapshot refresh is disabled");
+            return;
+        }
+        log.info(
+                "Starting background snapshot refresh, spending {} of the upstream budget",
+                properties.getBudgetFraction());
+        scheduleNext(properties.getMinInterval());
+    }
+
+    /**
+     * Runs one refresh cycle and returns the delay before the next one, without jitter.
+     */
+    Duration runOnce() {
+        if (rateBudget.isThrottled()) {
+            Duration delay = max(rateBudget.remainingThrottle(), properties.getBackoffInitial());
+            log.debug("Upstream is throttled, postponing snapshot refresh by {}ms", delay.toMillis());
+            return delay;
+        }
+
+        Duration interval = refreshInterval();
+        EmployeeSnapshot current = snapshotCache.peek();
+        if (current != null) {
+            Duration age = current.age(clock.instant());
+            if (age.compareTo(interval) < 0) {
+                return interval.minus(age);
+            }
+        }
+
+        try {
+            EmployeeSnapshot refreshed = employeeService.refreshSnapshot();
+            lastScheduledRefreshAt = refreshed.getFetchedAt();
+            consecutiveFailures.set(0);
+            return interval;
+        } catch (RuntimeException e) {
+            int failures = consecutiveFailures.incrementAndGet();
+            Duration delay = max(backoff(failures), rateBudget.remainingThrottle());
+            log.warn(
+                    "Background snapshot refresh failed ({} in a row), next attempt in {}ms: {}",
+                    failures,
+                    delay.toMillis(),
+                    e.getMessage());
+            return delay;
+        }
+    }
+
+    public SnapshotStatus getStatus() {
+        EmployeeSnapshot current = snapshotCache.peek();
+        SnapshotStatus.SnapshotStatusBuilder status = SnapshotStatus.builder()
+                .lastScheduledRefreshAt(lastScheduledRefreshAt)
+                .nextScheduledRefreshAt(nextScheduledRefreshAt)
+                .consecutiveFailures(consecutiveFailures.get())
+                .upstreamThrottled(rateBudget.isThrottled())
+                .learnedRequestsPerWindow(rateBudget.getRequestsPerWindow())
+                .learnedWindowMs(rateBudget.getWindow().toMillis())
+                .refreshIntervalMs(refreshInterval().toMillis());
+        if (current != null) {
+            status.version(current.getVersion())
+                    .employeeCount(current.getEmployees().size())
+                    .lastRefreshAt(current.getFetchedAt())
+                    .lastRefreshAgeMs(current.age(clock.instant()).toMillis());
+        }
+        return status.build();
+    }
+
+    Duration refreshInterval() {
+        Duration interval = rateBudget.intervalFor(properties.getBudgetFraction());
+        return min(max(interval, properties.getMinInterval()), properties.getMaxInterval());
+    }
+
+    private Duration backoff(int failures) {
+        Duration delay = properties.getBackoffInitial().multipliedBy(1L << Math.min(failures - 1, 20));
+        return min(delay, properties.getBackoffMax());
+    }
+
+    private Duration withJitter(Duration delay) {
+        double factor = 1 + properties.getJitter() * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        return Duration.ofMillis(Math.max(0, Math.round(delay.toMillis() * factor)));
+    }
+
+    private void scheduleNext(Duration delay) {
+        Duration jittered = withJitter(delay);
+        nextScheduledRefreshAt = clock.instant().plus(jittered);
+        try {
+            scheduler.schedule(() -> scheduleNext(runOnce()), jittered.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("Snapshot refresher is shut down");
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static ScheduledExecutorService newScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-snapshot-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
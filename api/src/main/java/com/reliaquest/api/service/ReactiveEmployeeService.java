@@ -0,0 +1,363 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.concurrent.AsyncSingleFlight;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.DeleteEmployeeRequest;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.snapshot.EmployeeIdIndex;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.EmployeeSnapshotCache;
+import com.reliaquest.api.snapshot.NegativeIdCache;
+import com.reliaquest.api.snapshot.ReadEndpoint;
+import com.reliaquest.api.snapshot.SearchResultCache;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeService}, calling the Mock Employee API through WebClient.
+ * Shares the snapshot, ID indexes and search cache with the blocking service, so both see the same data and
+ * write-throughs. Retries wait on a timer instead of a sleeping thread, and snapshot builds and write-throughs
+ * run on the bounded elastic scheduler rather than on the event loop. The full list is buffered and decoded
+ * whole, so its size is capped by {@code employee.api.reactive.max-in-memory-size}.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "employee.api.reactive", name = "enabled", havingValue = "true")
+public class ReactiveEmployeeService {
+
+    private static final ParameterizedTypeReference<ApiResponse<List<Employee>>> EMPLOYEE_LIST =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<Employee>> EMPLOYEE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<Boolean>> DELETED =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    private final EmployeeSnapshotCache snapshotCache;
+    private final EmployeeIdIndex idIndex;
+    private final NegativeIdCache negativeIdCache;
+    private final SearchResultCache searchResultCache;
+    private final int maxRetries;
+    private final Duration retryDelay;
+
+    /**
+     * Concurrent fetches of the same employee ID share one upstream request.
+     */
+    @Getter
+    private final AsyncSingleFlight<String> employeeByIdFlight = new AsyncSingleFlight<>();
+
+    @Autowired
+    public ReactiveEmployeeService(
+            WebClient upstreamWebClient,
+            EmployeeSnapshotCache snapshotCache,
+            EmployeeIdIndex idIndex,
+            NegativeIdCache negativeIdCache,
+            SearchResultCache searchResultCache,
+            @Value("${employee.api.max-retries:3}") int maxRetries,
+            @Value("${employee.api.retry-delay-ms:1000}") long retryDelayMs) {
+        this.webClient = upstreamWebClient;
+        this.snapshotCache = snapshotCache;
+        this.idIndex = idIndex;
+        this.negativeIdCache = negativeIdCache;
+        this.searchResultCache = searchResultCache;
+        this.maxRetries = maxRetries;
+        this.retryDelay = Duration.ofMillis(retryDelayMs);
+    }
+
+    /**
+     * Retrieves all employees, served from the snapshot when it is fresh enough.
+     *
+     * @return list of all employees
+     */
+    public Mono<List<Employee>> getAllEmployees() {
+        if (!snapshotCache.isEnabled()) {
+            return getAllEmployees(null);
+        }
+        return getSnapshot(ReadEndpoint.ALL_EMPLOYEES).flatMap(this::getAllEmployees);
+    }
+
+    /**
+     * @param snapshot the snapshot to read, or null to fetch from upstream
+     * @return list of all employees
+     */
+    public Mono<List<Employee>> getAllEmployees(EmployeeSnapshot snapshot) {
+        return snapshot != null ? Mono.just(snapshot.getEmployees()) : fetchAllEmployees();
+    }
+
+    /**
+     * Searches employees by name fragment, ignoring case, using the snapshot's trigram index.
+     *
+     * @param searchString the name fragment to search for
+     * @return list of employees whose names contain the search string
+     */
+    public Mono<List<Employee>> getEmployeesByNameSearch(String searchString) {
+        if (!snapshotCache.isEnabled()) {
+            return getEmployeesByNameSearch(null, searchString);
+        }
+        return getSnapshot(ReadEndpoint.NAME_SEARCH)
+                .flatMap(snapshot -> getEmployeesByNameSearch(snapshot, searchString));
+    }
+
+    /**
+     * @param snapshot the snapshot to search, or null to search a fresh upstream fetch
+     * @param searchString the name fragment to search for
+     * @return list of employees whose names contain the search string
+     */
+    public Mono<List<Employee>> getEmployeesByNameSearch(EmployeeSnapshot snapshot, String searchString) {
+        if (snapshot == null) {
+            return fetchAllEmployees().map(employees -> EmployeeService.searchByName(employees, searchString));
+        }
+        return Mono.fromSupplier(() -> searchResultCache.get(snapshot, searchString, snapshot::searchByName));
+    }
+
+    /**
+     * Retrieves an employee by ID, served from the ID index when it holds a fresh entry.
+     * IDs recently reported missing, or absent from a fresh snapshot's Bloom filter, are rejected locally.
+     *
+     * @param id the employee ID
+     * @return the employee, or an EmployeeNotFoundException error
+     */
+    public Mono<Employee> getEmployeeById(String id) {
+        return Mono.defer(() -> {
+            UUID uuid = EmployeeService.parseUuid(id);
+            if (uuid != null) {
+                Optional<Employee> indexed = idIndex.find(uuid);
+                if (indexed.isPresent()) {
+                    log.debug("Serving employee {} from ID index", id);
+                    return Mono.just(indexed.get());
+                }
+                if (isKnownAbsent(uuid)) {
+                    log.debug("Rejecting unknown employee ID {} without upstream call", id);
+                    return Mono.error(new EmployeeNotFoundException("Employee not found with ID: " + id));
+                }
+            }
+            return Mono.fromFuture(() -> employeeByIdFlight.execute(id, () -> fetchEmployeeById(id).toFuture()))
+                    .doOnNext(idIndex::put)
+                    .doOnError(EmployeeNotFoundException.class, e -> {
+                        if (uuid != null) {
+                            negativeIdCache.add(uuid);
+                        }
+                    });
+        });
+    }
+
+    /**
+     * @return the highest salary, maintained with the snapshot
+     */
+    public Mono<Integer> getHighestSalary() {
+        if (!snapshotCache.isEnabled()) {
+            return getHighestSalary(null);
+        }
+        return getSnapshot(ReadEndpoint.HIGHEST_SALARY).flatMap(this::getHighestSalary);
+    }
+
+    /**
+     * @param snapshot the snapshot to read, or null to compute it from a fresh upstream fetch
+     * @return the highest salary
+     */
+    public Mono<Integer> getHighestSalary(EmployeeSnapshot snapshot) {
+        return snapshot != null
+                ? Mono.just(snapshot.getHighestSalary())
+                : fetchAllEmployees().map(EmployeeService::highestSalary);
+    }
+
+    /**
+     * @return names of the ten highest earners, highest first, maintained with the snapshot
+     */
+    public Mono<List<String>> getTop10HighestEarningEmployeeNames() {
+        if (!snapshotCache.isEnabled()) {
+            return getTop10HighestEarningEmployeeNames(null);
+        }
+        return getSnapshot(ReadEndpoint.TOP_EARNERS).flatMap(this::getTop10HighestEarningEmployeeNames);
+    }
+
+    /**
+     * @param snapshot the snapshot to read, or null to compute them from a fresh upstream fetch
+     * @return names of the ten highest earners, highest first
+     */
+    public Mono<List<String>> getTop10HighestEarningEmployeeNames(EmployeeSnapshot snapshot) {
+        return snapshot != null
+                ? Mono.just(snapshot.getTopEarnerNames())
+                : fetchAllEmployees().map(EmployeeService::topEarnerNames);
+    }
+
+    /**
+     * Creates a new employee and applies it to the snapshot once the upstream confirms it.
+     *
+     * @param input the employee creation input
+     * @return the created employee
+     */
+    public Mono<Employee> createEmployee(CreateEmployeeInput input) {
+        return withRetry(maxRetries, webClient.post().bodyValue(input).retrieve().bodyToMono(EMPLOYEE))
+                .flatMap(response -> Mono.justOrEmpty(response.getData()))
+                .switchIfEmpty(Mono.error(
+                        () -> new EmployeeApiException("Failed to create employee - empty response received")))
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(created -> {
+                    log.info("Successfully created employee with ID: {}", created.getId());
+                    if (created.getId() != null) {
+                        negativeIdCache.invalidate(created.getId());
+                        idIndex.put(created);
+                    }
+                    snapshotCache.applyCreated(created);
+                });
+    }
+
+    /**
+     * Deletes an employee by ID; the Mock Employee API deletes by name, so the employee is looked up first.
+     *
+     * @param id the employee ID
+     * @return the name of the deleted employee
+     */
+    public Mono<String> deleteEmployeeById(String id) {
+        return getEmployeeById(id).flatMap(employee -> delete(id, employee));
+    }
+
+    private Mono<String> delete(String id, Employee employee) {
+        String name = employee.getName();
+        Mono<ApiResponse<Boolean>> call = webClient
+                .method(HttpMethod.DELETE)
+                .bodyValue(new DeleteEmployeeRequest(name))
+                .retrieve()
+                .bodyToMono(DELETED);
+        return withRetry(maxRetries, call)
+                .filter(response -> Boolean.TRUE.equals(response.getData()))
+                .switchIfEmpty(Mono.error(() -> new EmployeeApiException("Failed to delete employee with ID: " + id)))
+                .publishOn(Schedulers.boundedElastic())
+                .map(response -> {
+                    log.info("Successfully deleted employee: {}", name);
+                    // Write-through; the Mock API removes the first employee with that name, which the snapshot mirrors
+                    UUID removedId = snapshotCache
+                            .applyDeleted(employee.getId(), name)
+                            .map(Employee::getId)
+                            .orElse(employee.getId());
+                    if (removedId != null) {
+                        idIndex.remove(removedId);
+                    }
+                    return name;
+                });
+    }
+
+    /**
+     * Callers that send the snapshot's ETag pass the same instance to the snapshot-taking read methods, so the
+     * tag always describes the body it is sent with.
+     *
+     * @return the snapshot the endpoint is served from, or empty when the snapshot is disabled
+     */
+    public Mono<EmployeeSnapshot> getServingSnapshot(ReadEndpoint endpoint) {
+        return snapshotCache.isEnabled() ? getSnapshot(endpoint) : Mono.empty();
+    }
+
+    /**
+     * Serves the current snapshot when it satisfies the endpoint's staleness bounds and otherwise loads one
+     * without blocking. A stale snapshot is refreshed by the same asynchronous load, which the response
+     * does not wait for.
+     *
+     * @param endpoint the endpoint being served
+     * @return the snapshot
+     */
+    public Mono<EmployeeSnapshot> getSnapshot(ReadEndpoint endpoint) {
+        Supplier<CompletableFuture<List<Employee>>> loader = () ->
+                fetchAllEmployees().publishOn(Schedulers.boundedElastic()).toFuture();
+        return Mono.defer(() -> {
+            EmployeeSnapshot snapshot = snapshotCache.readIfServableAsync(endpoint, loader);
+            if (snapshot != null) {
+                return Mono.just(snapshot);
+            }
+            return Mono.fromFuture(() -> snapshotCache.loadAsync(loader));
+        });
+    }
+
+    private Mono<List<Employee>> fetchAllEmployees() {
+        return withRetry(maxRetries, webClient.get().retrieve().bodyToMono(EMPLOYEE_LIST))
+                .map(response -> {
+                    if (response.getData() == null) {
+                        log.warn("Received empty response when fetching all employees");
+                        return Collections.<Employee>emptyList();
+                    }
+                    log.debug("Successfully retrieved {} employees", response.getData().size());
+                    idIndex.putAll(response.getData());
+                    negativeIdCache.invalidateAll();
+                    return response.getData();
+                })
+                .defaultIfEmpty(Collections.emptyList());
+    }
+
+    private Mono<Employee> fetchEmployeeById(String id) {
+        Mono<ApiResponse<Employee>> call = webClient
+                .get()
+                .uri("/{id}", id)
+                .retrieve()
+                .bodyToMono(EMPLOYEE)
+                .onErrorMap(WebClientResponseException.NotFound.class, e -> {
+                    log.warn("Employee not found with ID: {}", id);
+                    return new EmployeeNotFoundException("Employee not found with ID: " + id);
+                });
+        return withRetry(maxRetries, call)
+                .flatMap(response -> Mono.justOrEmpty(response.getData()))
+                .switchIfEmpty(Mono.error(() -> new EmployeeNotFoundException("Employee not found with ID: " + id)));
+    }
+
+    private boolean isKnownAbsent(UUID id) {
+        if (!negativeIdCache.isEnabled()) {
+            return false;
+        }
+        if (negativeIdCache.contains(id)) {
+            return true;
+        }
+        EmployeeSnapshot snapshot = snapshotCache.peekFresh(ReadEndpoint.EMPLOYEE_BY_ID);
+        return snapshot != null && !snapshot.mightContain(id);
+    }
+
+    /**
+     * Resubscribes to the call after a 429, a 5xx or a connection failure, waiting on a timer in between.
+     * Other errors are passed on as they are; running out of attempts fails with an EmployeeApiException.
+     * The call is always made once, even when max-retries is set to zero.
+     */
+    private <T> Mono<T> withRetry(int maxAttempts, Mono<T> call) {
+        return call.retryWhen(Retry.fixedDelay(Math.max(0, maxAttempts - 1), retryDelay)
+                .filter(ReactiveEmployeeService::isRetryable)
+                .doBeforeRetry(signal -> log.warn(
+                        "Rate limited, server or connection error from Mock Employee API ({}). Attempt {}/{}. "
+                                + "Retrying after {}ms...",
+                        signal.failure().getMessage(),
+                        signal.totalRetries() + 1,
+                        maxAttempts,
+                        retryDelay.toMillis()))
+                .onRetryExhaustedThrow((spec, signal) -> {
+                    log.error("Max retries ({}) exceeded while calling Mock Employee API", maxAttempts);
+                    return new EmployeeApiException(
+                            "Failed to communicate with Mock Employee API after " + maxAttempts + " attempts",
+                            signal.failure());
+                }));
+    }
+
+    private static boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().value() == 429 || response.getStatusCode().is5xxServerError();
+        }
+        return error instanceof WebClientRequestException;
+    }
+}
@@ -0,0 +1,27 @@
+package com.reliaquest.api.snapshot;
+
+/**
+ * Aggregations over a slice [from, to) of a primitive int column. A null presence array means every value
+ * is present; otherwise only values whose presence flag is set take part.
+ */
+interface ColumnKernels {
+
+    /**
+     * @return the largest present value, or Integer.MIN_VALUE if there is none
+     */
+    int max(int[] values, boolean[] present, int from, int to);
+
+    /**
+     * @return the smallest present value, or Integer.MAX_VALUE if there is none
+     */
+    int min(int[] values, boolean[] present, int from, int to);
+
+    long sum(int[] values, boolean[] present, int from, int to);
+
+    int count(boolean[] present, int from, int to);
+
+    /**
+     * @return the number of present values within [min, max]
+     */
+    int countInRange(int[] values, boolean[] present, int from, int to, int min, int max);
+}
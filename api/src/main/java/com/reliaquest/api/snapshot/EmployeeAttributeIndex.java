@@ -0,0 +1,191 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeFilter;
+import com.reliaquest.api.model.NumericField;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Per-attribute indexes over a snapshot for the filter endpoint, positionally aligned with its list.
+ * Salary and age are sorted primitive columns searched by binary search; each title code of the snapshot's
+ * {@link TitleDictionary} maps to a bitmap of positions, so titles match exactly as they are grouped.
+ * Each criterion yields a bitmap of matching positions, most selective first, and the bitmaps are intersected.
+ */
+final class EmployeeAttributeIndex {
+
+    private final int size;
+    private final SortedColumn salaries;
+    private final SortedColumn ages;
+    private final TitleDictionary titles;
+    private final BitSet[] titled;
+
+    private EmployeeAttributeIndex(
+            int size, SortedColumn salaries, SortedColumn ages, TitleDictionary titles, BitSet[] titled) {
+        this.size = size;
+        this.salaries = salaries;
+        this.ages = ages;
+        this.titles = titles;
+        this.titled = titled;
+    }
+
+    /**
+     * @param columns the same snapshot's columns, whose title codes the index reuses
+     */
+    static EmployeeAttributeIndex of(List<Employee> employees, EmployeeColumns columns) {
+        BitSet[] titled = new BitSet[columns.titles().size()];
+        for (int position = 0; position < columns.size(); position++) {
+            int code = columns.titleCode(position);
+            if (code != TitleDictionary.NO_TITLE) {
+                if (titled[code] == null) {
+                    titled[code] = new BitSet();
+                }
+                titled[code].set(position);
+            }
+        }
+        return new EmployeeAttributeIndex(
+                employees.size(),
+                SortedColumn.of(employees, Employee::getSalary),
+                SortedColumn.of(employees, Employee::getAge),
+                columns.titles(),
+                titled);
+    }
+
+    /**
+     * Reads the k best positions straight off the field's sorted column.
+     *
+     * @return positions of up to k employees, best first; equal values in list order
+     */
+    int[] topK(NumericField field, boolean descending, int k) {
+        SortedColumn column =
+                switch (field) {
+                    case SALARY -> salaries;
+                    case AGE -> ages;
+                };
+        return TopK.fromSorted(column.values(), column.positions(), descending, k);
+    }
+
+    /**
+     * @return positions matching every criterion of the filter
+     */
+    BitSet filter(EmployeeFilter filter, NameTrigramIndex nameIndex) {
+        BitSet result = null;
+        if (filter.getTitle() != null) {
+            int code = titles.codeOf(filter.getTitle());
+            if (code == TitleDictionary.NO_TITLE || titled[code] == null) {
+                return new BitSet();
+            }
+            result = (BitSet) titled[code].clone();
+        }
+        if (filter.getNameContains() != null) {
+            result = intersect(result, toBitSet(nameIndex.search(filter.getNameContains())));
+        }
+
+        // Narrower ranges first, so an empty intersection stops before a wider range is materialized.
+        List<Range> ranges = Stream.of(
+                        salaries.range(filter.getMinSalary(), filter.getMaxSalary()),
+                        ages.range(filter.getMinAge(), filter.getMaxAge()))
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingInt(Range::size))
+                .toList();
+        for (Range range : ranges) {
+            if (result != null && result.isEmpty()) {
+                break;
+            }
+            result = intersect(result, range.toBitSet());
+        }
+
+        if (result == null) {
+            result = new BitSet(size);
+            result.set(0, size);
+        }
+        return result;
+    }
+
+    private static BitSet intersect(BitSet accumulated, BitSet next) {
+        if (accumulated == null) {
+            return next;
+        }
+        accumulated.and(next);
+        return accumulated;
+    }
+
+    private static BitSet toBitSet(int[] positions) {
+        BitSet bits = new BitSet();
+        for (int position : positions) {
+            bits.set(position);
+        }
+        return bits;
+    }
+
+    /**
+     * Positions of the employees that have the attribute, ordered by value (then position).
+     */
+    private record SortedColumn(int[] values, int[] positions) {
+
+        static SortedColumn of(List<Employee> employees, Function<Employee, Integer> attribute) {
+            long[] packed = new long[employees.size()];
+            int count = 0;
+            for (int i = 0; i < employees.size(); i++) {
+                Integer value = attribute.apply(employees.get(i));
+                if (value != null) {
+                    packed[count++] = ((long) value << 32) | i;
+                }
+            }
+            Arrays.sort(packed, 0, count);
+            int[] values = new int[count];
+            int[] positions = new int[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = (int) (packed[i] >> 32);
+                positions[i] = (int) packed[i];
+            }
+            return new SortedColumn(values, positions);
+        }
+
+        /**
+         * @return the slice of positions with values in [min, max], or null when neither bound is given
+         */
+        Range range(Integer min, Integer max) {
+            if (min == null && max == null) {
+                return null;
+            }
+            int from = min == null ? 0 : firstAtLeast(min);
+            int to = max == null ? values.length : (max == Integer.MAX_VALUE ? values.length : firstAtLeast(max + 1));
+            return new Range(positions, from, Math.max(from, to));
+        }
+
+        private int firstAtLeast(int value) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private record Range(int[] positions, int from, int to) {
+
+        int size() {
+            return to - from;
+        }
+
+        BitSet toBitSet() {
+            BitSet bits = new BitSet();
+            for (int i = from; i < to; i++) {
+                bits.set(positions[i]);
+            }
+            return bits;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.NumericField;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Struct-of-arrays copy of a snapshot's list, positionally aligned with it: primitive salary and age columns,
+ * IDs as pairs of longs and titles as dictionary codes. Scans and aggregations read contiguous primitive
+ * arrays instead of following a reference and unboxing per employee. Each row also carries a sequence number
+ * that identifies it across versions and increases in list order; an {@link IdTable} maps each ID to its
+ * sequence number, found among the rows by binary search. Creates and deletes are applied copy-on-write,
+ * as for the list itself.
+ */
+final class EmployeeColumns {
+
+    /**
+     * Most and least significant bits of each ID; a missing ID is stored as the nil UUID,
+     * which the Mock Employee API never assigns.
+     */
+    private final long[] ids;
+
+    private final IntColumn salaries;
+    private final IntColumn ages;
+    private final int[] titleCodes;
+    private final TitleDictionary titles;
+
+    /**
+     * Rows of a fresh list are numbered by position; appended rows continue from {@link #nextSequence},
+     * and removals keep the order, so sequence order is always list order.
+     */
+    private final long[] sequences;
+
+    private final long nextSequence;
+
+    private final IdTable idTable;
+
+    private EmployeeColumns(
+            long[] ids,
+            IntColumn salaries,
+            IntColumn ages,
+            int[] titleCodes,
+            TitleDictionary titles,
+            long[] sequences,
+            long nextSequence,
+            IdTable idTable) {
+        this.ids = ids;
+        this.salaries = salaries;
+        this.ages = ages;
+        this.titleCodes = titleCodes;
+        this.titles = titles;
+        this.sequences = sequences;
+        this.nextSequence = nextSequence;
+        this.idTable = idTable;
+    }
+
+    static EmployeeColumns of(List<Employee> employees) {
+        TitleDictionary titles = TitleDictionary.of(employees.stream().map(Employee::getTitle).toList());
+        long[] ids = new long[2 * employees.size()];
+        int[] titleCodes = new int[employees.size()];
+        long[] sequences = new long[employees.size()];
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            setId(ids, i, employee.getId());
+            titleCodes[i] = titles.codeOf(employee.getTitle());
+            sequences[i] = i;
+        }
+        return new EmployeeColumns(
+                ids,
+                IntColumn.of(employees, Employee::getSalary),
+                IntColumn.of(employees, Employee::getAge),
+                titleCodes,
+                titles,
+                sequences,
+                employees.size(),
+                IdTable.of(ids, sequences));
+    }
+
+    EmployeeColumns withAdded(Employee employee) {
+        int size = size();
+        long[] updatedIds = Arrays.copyOf(ids, ids.length + 2);
+        setId(updatedIds, size, employee.getId());
+        TitleDictionary updatedTitles = titles.with(employee.getTitle());
+        int[] updatedCodes = Arrays.copyOf(titleCodes, size + 1);
+        updatedCodes[size] = updatedTitles.codeOf(employee.getTitle());
+        long[] updatedSequences = Arrays.copyOf(sequences, size + 1);
+        updatedSequences[size] = nextSequence;
+        return new EmployeeColumns(
+                updatedIds,
+                salaries.withAppended(employee.getSalary()),
+                ages.withAppended(employee.getAge()),
+                updatedCodes,
+                updatedTitles,
+                updatedSequences,
+                nextSequence + 1,
+                idTable.withAdded(updatedIds[2 * size], updatedIds[2 * size + 1], nextSequence));
+    }
+
+    /**
+     * Removes the row at the given position; the title dictionary keeps every code.
+     */
+    EmployeeColumns withRemoved(int index) {
+        int size = size();
+        long[] updatedIds = new long[ids.length - 2];
+        System.arraycopy(ids, 0, updatedIds, 0, 2 * index);
+        System.arraycopy(ids, 2 * index + 2, updatedIds, 2 * index, ids.length - 2 * index - 2);
+        int[] updatedCodes = new int[size - 1];
+        System.arraycopy(titleCodes, 0, updatedCodes, 0, index);
+        System.arraycopy(titleCodes, index + 1, updatedCodes, index, size - index - 1);
+        long[] updatedSequences = new long[size - 1];
+        System.arraycopy(sequences, 0, updatedSequences, 0, index);
+        System.arraycopy(sequences, index + 1, updatedSequences, index, size - index - 1);
+        return new EmployeeColumns(
+                updatedIds,
+                salaries.withRemoved(index),
+                ages.withRemoved(index),
+                updatedCodes,
+                titles,
+                updatedSequences,
+                nextSequence,
+                idTable.withRemoved(
+                        ids[2 * index], ids[2 * index + 1], sequences[index], updatedIds, updatedSequences));
+    }
+
+    int size() {
+        return titleCodes.length;
+    }
+
+    IntColumn salaries() {
+        return salaries;
+    }
+
+    IntColumn ages() {
+        return ages;
+    }
+
+    IntColumn column(NumericField field) {
+        return switch (field) {
+            case SALARY -> salaries;
+            case AGE -> ages;
+        };
+    }
+
+    /**
+     * @return the title code at the position, or {@link TitleDictionary#NO_TITLE}
+     */
+    int titleCode(int position) {
+        return titleCodes[position];
+    }
+
+    TitleDictionary titles() {
+        return titles;
+    }
+
+    /**
+     * @return the sequence number of the row at the position
+     */
+    long sequence(int position) {
+        return sequences[position];
+    }
+
+    /**
+     * @return position of the first employee with the given ID, or -1
+     */
+    int indexOf(UUID id) {
+        long sequence = idTable.sequenceOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        if (sequence == IdTable.ABSENT) {
+            return -1;
+        }
+        return Arrays.binarySearch(sequences, sequence);
+    }
+
+    private static void setId(long[] ids, int position, UUID id) {
+        if (id != null) {
+            ids[2 * position] = id.getMostSignificantBits();
+            ids[2 * position + 1] = id.getLeastSignificantBits();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.config.EmployeeApiProperties;
+import com.reliaquest.api.model.Employee;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Size-bounded, UUID-keyed index of employees, filled from full-list fetches and individual lookups.
+ * Least recently used entries are evicted once the index is full; entries older than the configured TTL
+ * are treated as misses so callers fall back to the Mock Employee API.
+ */
+@Component
+public class EmployeeIdIndex {
+
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<UUID, Entry> entries;
+
+    @Autowired
+    public EmployeeIdIndex(EmployeeApiProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    EmployeeIdIndex(EmployeeApiProperties properties, Clock clock) {
+        this.maxEntries = properties.getIdIndex().getMaxEntries();
+        this.ttl = properties.getIdIndex().getTtl();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Looks up a fresh entry for the given ID.
+     *
+     * @param id the employee ID
+     * @return the indexed employee, or empty if absent or older than the TTL
+     */
+    public Optional<Employee> find(UUID id) {
+        Instant now = clock.instant();
+        lock.lock();
+        try {
+            Entry entry = entries.get(id);
+            if (entry == null || Duration.between(entry.indexedAt(), now).compareTo(ttl) > 0) {
+                return Optional.empty();
+            }
+            return Optional.of(entry.employee());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(Employee employee) {
+        if (employee.getId() == null) {
+            return;
+        }
+        Instant now = clock.instant();
+        lock.lock();
+        try {
+            entries.put(employee.getId(), new Entry(employee, now));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Indexes every employee of a freshly fetched full list.
+     *
+     * @param employees the employees to index
+     */
+    public void putAll(Collection<Employee> employees) {
+        Instant now = clock.instant();
+        lock.lock();
+        try {
+            for (Employee employee : employees) {
+                if (employee.getId() != null) {
+                    entries.put(employee.getId(), new Entry(employee, now));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.lock();
+        try {
+            entries.remove(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry(Employee employee, Instant indexedAt) {}
+}
@@ -0,0 +1,464 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeFilter;
+import com.reliaquest.api.model.NumericField;
+import com.reliaquest.api.model.SalaryRank;
+import com.reliaquest.api.model.SalaryStatistics;
+import com.reliaquest.api.model.TitleGroup;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Immutable, versioned copy of the employee list as last seen from the Mock Employee API.
+ * A snapshot is never modified once published; changes produce a new snapshot with a higher version.
+ */
+@Getter
+public final class EmployeeSnapshot {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long version;
+    private final Instant fetchedAt;
+    private final List<Employee> employees;
+    private final UuidBloomFilter knownIds;
+
+    @Getter(AccessLevel.NONE)
+    private final EmployeeColumns columns;
+
+    @Getter(AccessLevel.NONE)
+    private final SalaryAggregates salaryAggregates;
+
+    @Getter(AccessLevel.NONE)
+    private final SalaryDistribution salaryDistribution;
+
+    @Getter(AccessLevel.NONE)
+    private final TitleAggregates titleAggregates;
+
+    @Getter(AccessLevel.NONE)
+    private final NameTrigramIndex nameIndex;
+
+    @Getter(AccessLevel.NONE)
+    private final ParallelScans scans;
+
+    @Getter(AccessLevel.NONE)
+    private final LazyIndex<NameBkTree> fuzzyNameIndex = new LazyIndex<>(() -> NameBkTree.of(getEmployees()));
+
+    @Getter(AccessLevel.NONE)
+    private final LazyIndex<EmployeeAttributeIndex> attributeIndex =
+            new LazyIndex<>(() -> EmployeeAttributeIndex.of(getEmployees(), columns));
+
+    /**
+     * Built on the first rank query; once built, each create or delete derives the next snapshot's tree from it.
+     */
+    @Getter(AccessLevel.NONE)
+    private final LazyIndex<SalaryRankTree> salaryRanks;
+
+    /**
+     * Sum of a 64-bit FNV-1a hash over every field of each employee, so a create or delete adjusts it in O(1).
+     * The sum ignores list order, so it only backs a weak ETag: two snapshots holding the same employees in a
+     * different order share it, though their list bodies differ byte for byte.
+     */
+    private final long contentHash;
+
+    EmployeeSnapshot(long version, Instant fetchedAt, List<Employee> employees, double bloomFalsePositiveRate) {
+        this(version, fetchedAt, employees, bloomFalsePositiveRate, ParallelScans.SEQUENTIAL);
+    }
+
+    /**
+     * @param scans runs the per-query scans of this snapshot and of those derived from it
+     */
+    EmployeeSnapshot(
+            long version,
+            Instant fetchedAt,
+            List<Employee> employees,
+            double bloomFalsePositiveRate,
+            ParallelScans scans) {
+        this(
+                Collections.unmodifiableList(new ArrayList<>(employees)),
+                version,
+                fetchedAt,
+                bloomFalsePositiveRate,
+                scans);
+    }
+
+    /**
+     * @param employees an unmodifiable view of a list no one else modifies; the snapshot keeps it as is
+     */
+    private EmployeeSnapshot(
+            List<Employee> employees,
+            long version,
+            Instant fetchedAt,
+            double bloomFalsePositiveRate,
+            ParallelScans scans) {
+        this.version = version;
+        this.fetchedAt = fetchedAt;
+        this.employees = employees;
+        this.knownIds = UuidBloomFilter.of(
+                employees.stream().map(Employee::getId).filter(Objects::nonNull).toList(), bloomFalsePositiveRate);
+        this.columns = EmployeeColumns.of(this.employees);
+        this.salaryAggregates = SalaryAggregates.of(this.employees, columns.salaries());
+        this.salaryDistribution = SalaryDistribution.of(columns.salaries());
+        this.titleAggregates = TitleAggregates.of(columns);
+        this.nameIndex = NameTrigramIndex.of(this.employees);
+        this.salaryRanks = lazySalaryRanks(this.employees, columns);
+        this.scans = scans;
+        this.contentHash = contentHash(this.employees);
+    }
+
+    /**
+     * Builds a snapshot over a list handed over by the caller, without the defensive copy the constructor makes.
+     * The caller must not modify the list afterwards.
+     */
+    static EmployeeSnapshot adopting(
+            long version,
+            Instant fetchedAt,
+            List<Employee> employees,
+            double bloomFalsePositiveRate,
+            ParallelScans scans) {
+        return new EmployeeSnapshot(
+                Collections.unmodifiableList(employees), version, fetchedAt, bloomFalsePositiveRate, scans);
+    }
+
+    private EmployeeSnapshot(
+            long version,
+            Instant fetchedAt,
+            List<Employee> employees,
+            UuidBloomFilter knownIds,
+            EmployeeColumns columns,
+            SalaryAggregates salaryAggregates,
+            SalaryDistribution salaryDistribution,
+            TitleAggregates titleAggregates,
+            NameTrigramIndex nameIndex,
+            LazyIndex<SalaryRankTree> salaryRanks,
+            ParallelScans scans,
+            long contentHash) {
+        this.version = version;
+        this.fetchedAt = fetchedAt;
+        this.employees = employees;
+        this.knownIds = knownIds;
+        this.columns = columns;
+        this.salaryAggregates = salaryAggregates;
+        this.salaryDistribution = salaryDistribution;
+        this.titleAggregates = titleAggregates;
+        this.nameIndex = nameIndex;
+        this.salaryRanks = salaryRanks;
+        this.scans = scans;
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * @return false only if the ID is definitely not part of this snapshot
+     */
+    public boolean mightContain(UUID id) {
+        return knownIds.mightContain(id);
+    }
+
+    /**
+     * @return the highest salary, or 0 if no employee has one
+     */
+    public int getHighestSalary() {
+        return salaryAggregates.highestSalary();
+    }
+
+    /**
+     * @return names of the ten highest earners, highest first
+     */
+    public List<String> getTopEarnerNames() {
+        return salaryAggregates.topEarnerNames();
+    }
+
+    /**
+     * @return count, extremes, mean, standard deviation and percentiles of the salaries in this snapshot
+     */
+    public SalaryStatistics getSalaryStatistics() {
+        return salaryDistribution.toStatistics();
+    }
+
+    /**
+     * @return headcount and salary range per job title, ordered by title
+     */
+    public List<TitleGroup> getTitleGroups() {
+        return titleAggregates.groups();
+    }
+
+    /**
+     * Employees whose name contains the fragment, ignoring case, in list order.
+     *
+     * @param fragment the name fragment to search for
+     * @return the matching employees
+     */
+    public List<Employee> searchByName(String fragment) {
+        int[] positions = nameIndex.search(fragment, scans);
+        List<Employee> matches = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            matches.add(employees.get(position));
+        }
+        return matches;
+    }
+
+    /**
+     * Employees whose name words are within the given total edit distance of the query's words, ignoring case.
+     *
+     * @param query the possibly misspelled name
+     * @param maxDistance the largest Levenshtein distance to accept
+     * @param limit the maximum number of results
+     * @return the matching employees, closest first, then in list order
+     */
+    public List<Employee> fuzzySearchByName(String query, int maxDistance, int limit) {
+        List<NameBkTree.Match> matches = fuzzyNameIndex.get().search(query, maxDistance, limit);
+        List<Employee> result = new ArrayList<>(matches.size());
+        for (NameBkTree.Match match : matches) {
+            result.add(employees.get(match.position()));
+        }
+        return result;
+    }
+
+    /**
+     * Employees matching every criterion of the filter, in list order.
+     *
+     * @param filter the criteria
+     * @return the matching employees
+     */
+    public List<Employee> filter(EmployeeFilter filter) {
+        BitSet positions = attributeIndex.get().filter(filter, nameIndex);
+        List<Employee> matches = new ArrayList<>(positions.cardinality());
+        for (int position = positions.nextSetBit(0); position >= 0; position = positions.nextSetBit(position + 1)) {
+            matches.add(employees.get(position));
+        }
+        return matches;
+    }
+
+    /**
+     * The k employees ranking highest (or lowest) by a numeric field. Reads the filter endpoint's sorted
+     * columns when a filter has already built them, and otherwise selects with a bounded heap over the field's column.
+     *
+     * @param field the field to rank by
+     * @param descending whether the highest values come first
+     * @param k the maximum number of results
+     * @return up to k employees, best first; equal values in list order; employees without the field excluded
+     */
+    public List<Employee> topK(NumericField field, boolean descending, int k) {
+        EmployeeAttributeIndex sorted = attributeIndex.getIfBuilt();
+        int[] positions = sorted != null
+                ? sorted.topK(field, descending, k)
+                : TopK.select(columns.column(field), descending, k, scans);
+        List<Employee> result = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            result.add(employees.get(position));
+        }
+        return result;
+    }
+
+    /**
+     * Counts employees whose value of a numeric field lies within an inclusive range.
+     *
+     * @param field the field to test
+     * @param min the lower bound, or null for none
+     * @param max the upper bound, or null for none
+     * @return the number of employees in range; employees without the field are not counted
+     */
+    public int countInRange(NumericField field, Integer min, Integer max) {
+        int lower = min != null ? min : Integer.MIN_VALUE;
+        int upper = max != null ? max : Integer.MAX_VALUE;
+        IntColumn column = columns.column(field);
+        return scans.reduce(
+                column.size(), (from, to) -> column.countInRange(from, to, lower, upper), Integer::sum);
+    }
+
+    /**
+     * Ranks the first employee with the given ID by salary, highest first with ties in list order.
+     *
+     * @param id the employee's ID
+     * @return the ranking, with null rank and percentile if the employee has no salary;
+     *     empty if no employee has the ID
+     */
+    public Optional<SalaryRank> getSalaryRank(UUID id) {
+        int position = columns.indexOf(id);
+        if (position < 0) {
+            return Optional.empty();
+        }
+        Employee employee = employees.get(position);
+        SalaryRank.SalaryRankBuilder rank = SalaryRank.builder()
+                .id(employee.getId())
+                .name(employee.getName())
+                .salary(employee.getSalary())
+                .rankedCount(getSalaryRankedCount());
+        if (employee.getSalary() != null) {
+            SalaryRankTree tree = salaryRanks.get();
+            int salary = employee.getSalary();
+            int atMost = tree.size() - tree.countAbove(salary);
+            rank.rank(tree.rankOf(salary, columns.sequence(position)))
+                    .percentile(Math.round(10_000.0 * atMost / tree.size()) / 100.0);
+        }
+        return Optional.of(rank.build());
+    }
+
+    /**
+     * @param rank 1-based salary rank
+     * @return the employee at that rank, or null if fewer employees have a salary
+     */
+    public Employee getEmployeeAtSalaryRank(int rank) {
+        return rank < 1 ? null : salaryRanks.get().select(rank);
+    }
+
+    /**
+     * @param from first 1-based salary rank, inclusive
+     * @param to last 1-based salary rank, inclusive
+     * @return the employees ranked from..to, highest salary first; ranks beyond the last are skipped
+     */
+    public List<Employee> getEmployeesBySalaryRank(int from, int to) {
+        return salaryRanks.get().range(from, to);
+    }
+
+    /**
+     * @return the number of employees with a salary, all of whom are ranked
+     */
+    public int getSalaryRankedCount() {
+        return columns.salaries().count();
+    }
+
+    /**
+     * @return position of the first employee with the given ID, or -1
+     */
+    int indexOf(UUID id) {
+        return columns.indexOf(id);
+    }
+
+    /**
+     * Mirrors the Mock Employee API's delete, which removes the first employee whose name matches ignoring case.
+     *
+     * @return position of that employee, or -1
+     */
+    int indexOfName(String name) {
+        for (int i = 0; i < employees.size(); i++) {
+            String candidate = employees.get(i).getName();
+            if (candidate != null && candidate.equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Copy-on-write append of a newly created employee; the fetch time is kept so the rest of the list ages normally.
+     */
+    EmployeeSnapshot withAdded(long newVersion, Employee employee) {
+        List<Employee> updated = new ArrayList<>(employees.size() + 1);
+        updated.addAll(employees);
+        updated.add(employee);
+        List<Employee> unmodifiable = Collections.unmodifiableList(updated);
+        UuidBloomFilter ids = employee.getId() != null ? knownIds.withAdded(employee.getId()) : knownIds;
+        EmployeeColumns updatedColumns = columns.withAdded(employee);
+        SalaryRankTree ranks = salaryRanks.getIfBuilt();
+        return new EmployeeSnapshot(
+                newVersion,
+                fetchedAt,
+                unmodifiable,
+                ids,
+                updatedColumns,
+                salaryAggregates.withAdded(employee),
+                salaryDistribution.withAdded(employee),
+                titleAggregates.withAdded(updatedColumns),
+                nameIndex.withAdded(employee),
+                ranks != null
+                        ? LazyIndex.built(ranks.withAdded(employee, updatedColumns.sequence(employees.size())))
+                        : lazySalaryRanks(unmodifiable, updatedColumns),
+                scans,
+                contentHash + hash(employee));
+    }
+
+    /**
+     * Copy-on-write removal of the employee at the given position. The Bloom filter keeps the removed ID,
+     * which only costs an upstream lookup should that ID be probed again.
+     */
+    EmployeeSnapshot withRemoved(long newVersion, int index) {
+        List<Employee> updated = new ArrayList<>(employees);
+        Employee removed = updated.remove(index);
+        List<Employee> unmodifiable = Collections.unmodifiableList(updated);
+        EmployeeColumns updatedColumns = columns.withRemoved(index);
+        SalaryRankTree ranks = salaryRanks.getIfBuilt();
+        return new EmployeeSnapshot(
+                newVersion,
+                fetchedAt,
+                unmodifiable,
+                knownIds,
+                updatedColumns,
+                salaryAggregates.withRemoved(removed, updated),
+                salaryDistribution.withRemoved(removed, updatedColumns.salaries()),
+                titleAggregates.withRemoved(removed, updatedColumns),
+                nameIndex.withRemoved(index),
+                ranks != null
+                        ? LazyIndex.built(ranks.withRemoved(removed, columns.sequence(index)))
+                        : lazySalaryRanks(unmodifiable, updatedColumns),
+                scans,
+                contentHash - hash(removed));
+    }
+
+    private static LazyIndex<SalaryRankTree> lazySalaryRanks(List<Employee> employees, EmployeeColumns columns) {
+        return new LazyIndex<>(() -> SalaryRankTree.of(employees, columns));
+    }
+
+    public Duration age(Instant now) {
+        return Duration.between(fetchedAt, now);
+    }
+
+    /**
+     * Weak entity tag for responses derived from this snapshot. Built from the content rather than the version,
+     * so a refresh that returns an unchanged list, a restart, or another instance with the same list all keep it.
+     * Weak because the content hash ignores order, so equal tags promise the same employees rather than identical
+     * bytes; If-None-Match compares weakly, so conditional GETs still get 304.
+     *
+     * @return the ETag value, with its {@code W/} prefix
+     */
+    public String getETag() {
+        return "W/\"" + Long.toHexString(contentHash) + "\"";
+    }
+
+    private static long contentHash(List<Employee> employees) {
+        long sum = 0;
+        for (Employee employee : employees) {
+            sum += hash(employee);
+        }
+        return sum;
+    }
+
+    private static long hash(Employee employee) {
+        UUID id = employee.getId();
+        long hash = FNV_OFFSET_BASIS;
+        hash = fnv(hash, id != null ? id.getMostSignificantBits() : 0);
+        hash = fnv(hash, id != null ? id.getLeastSignificantBits() : 0);
+        hash = fnv(hash, employee.getName());
+        hash = fnv(hash, employee.getSalary() != null ? employee.getSalary() : Long.MIN_VALUE);
+        hash = fnv(hash, employee.getAge() != null ? employee.getAge() : Long.MIN_VALUE);
+        hash = fnv(hash, employee.getTitle());
+        return fnv(hash, employee.getEmail());
+    }
+
+    private static long fnv(long hash, String value) {
+        if (value == null) {
+            return fnv(hash, Long.MIN_VALUE);
+        }
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return fnv(hash, value.length());
+    }
+
+    private static long fnv(long hash, long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash = (hash ^ ((value >>> shift) & 0xFF)) * FNV_PRIME;
+        }
+        return hash;
+    }
+}
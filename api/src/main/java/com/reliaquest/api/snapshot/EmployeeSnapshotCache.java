@@ -0,0 +1,491 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.concurrent.AsyncSingleFlight;
+import com.reliaquest.api.concurrent.SingleFlight;
+import com.reliaquest.api.config.EmployeeApiProperties;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.model.Employee;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the current {@link EmployeeSnapshot} and decides, per read, whether it can be served as is,
+ * served while a background refresh runs (stale-while-revalidate), or must be reloaded first.
+ * At most one background refresh is in flight at a time; a finished refresh replaces the snapshot atomically.
+ * Creates and deletes confirmed upstream are applied copy-on-write, each publishing a new, higher version.
+ * Every published snapshot is handed to the {@link EmployeeSnapshotStore}, which also supplies the first
+ * snapshot after a restart.
+ * Non-blocking callers use {@link #readIfServableAsync} and {@link #loadAsync} instead of {@link #read}, so no
+ * thread waits on an upstream fetch, not even the refresh thread.
+ * With {@code employee.api.cache.enabled=false} nothing is kept: each load returns a snapshot that is neither
+ * published nor persisted, and write-throughs are ignored. Callers that only need the list should then not
+ * ask for a snapshot at all, see {@link #isEnabled}.
+ */
+@Slf4j
+@Component
+public class EmployeeSnapshotCache implements InitializingBean, DisposableBean {
+
+    private static final int MAX_RECENT_WRITES = 1024;
+
+    /**
+     * Fetches discarded in a row because more writes arrived meanwhile than could be kept for replay.
+     */
+    private static final int MAX_OVERTAKEN_LOADS = 3;
+
+    private final EmployeeApiProperties.Cache properties;
+    private final double bloomFalsePositiveRate;
+    private final EmployeeSnapshotStore store;
+    private final ParallelScans scans;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+
+    private final AtomicReference<EmployeeSnapshot> current = new AtomicReference<>();
+    private final AtomicBoolean refreshInFlight = new AtomicBoolean();
+    private final ReentrantLock installLock = new ReentrantLock();
+    private final Deque<WriteThrough> recentWrites = new ArrayDeque<>();
+
+    /**
+     * Callers that miss at the same time share one load and one install. Forced refreshes are keyed apart from
+     * reads, because their loader may give up sooner than a reader's would.
+     */
+    private final SingleFlight<String> loadFlight = new SingleFlight<>();
+
+    /**
+     * Asynchronous loads are coalesced among themselves; one racing a blocking load simply installs after it.
+     */
+    private final AsyncSingleFlight<String> asyncLoadFlight = new AsyncSingleFlight<>();
+
+    /**
+     * Only written while holding installLock; volatile so loads can note it before fetching.
+     */
+    private volatile long lastVersion;
+
+    /**
+     * Version of the newest write-through dropped from recentWrites; a fetch started before it cannot be
+     * brought up to date and is discarded. Only accessed while holding installLock.
+     */
+    private long droppedThroughVersion;
+
+    @Autowired
+    public EmployeeSnapshotCache(EmployeeApiProperties properties, EmployeeSnapshotStore store, ParallelScans scans) {
+        this(properties, store, scans, Clock.systemUTC(), newRefreshExecutor());
+    }
+
+    public EmployeeSnapshotCache(EmployeeApiProperties properties, EmployeeSnapshotStore store) {
+        this(properties, store, ParallelScans.SEQUENTIAL);
+    }
+
+    public EmployeeSnapshotCache(EmployeeApiProperties properties) {
+        this(properties, new EmployeeSnapshotStore(properties));
+    }
+
+    EmployeeSnapshotCache(EmployeeApiProperties properties, Clock clock, Executor refreshExecutor) {
+        this(properties, new EmployeeSnapshotStore(properties), clock, refreshExecutor);
+    }
+
+    EmployeeSnapshotCache(
+            EmployeeApiProperties properties, EmployeeSnapshotStore store, Clock clock, Executor refreshExecutor) {
+        this(properties, store, ParallelScans.SEQUENTIAL, clock, refreshExecutor);
+    }
+
+    EmployeeSnapshotCache(
+            EmployeeApiProperties properties,
+            EmployeeSnapshotStore store,
+            ParallelScans scans,
+            Clock clock,
+            Executor refreshExecutor) {
+        this.properties = properties.getCache();
+        this.bloomFalsePositiveRate = properties.getNegativeCache().getBloomFalsePositiveRate();
+        this.store = store;
+        this.scans = scans;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        restore();
+    }
+
+    /**
+     * Installs the persisted snapshot, if any, keeping its version and fetch time so it ages normally:
+     * reads are served from it within each endpoint's max staleness while a refresh runs.
+     */
+    void restore() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        store.load().ifPresent(snapshot -> {
+            installLock.lock();
+            try {
+                if (current.get() == null) {
+                    lastVersion = Math.max(lastVersion, snapshot.getVersion());
+                    current.set(snapshot);
+                }
+            } finally {
+                installLock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Returns a snapshot that satisfies the staleness bounds of the given endpoint, loading one if necessary.
+     *
+     * @param endpoint the endpoint being served
+     * @param loader fetches the full employee list from upstream; the snapshot takes over the returned list
+     * @return the snapshot to serve from
+     */
+    public EmployeeSnapshot read(ReadEndpoint endpoint, Supplier<List<Employee>> loader) {
+        if (!properties.isEnabled()) {
+            return loadUnpublished("load", loader);
+        }
+        EmployeeSnapshot snapshot = readIfServable(endpoint, loader);
+        return snapshot != null ? snapshot : load("load", loader);
+    }
+
+    /**
+     * Returns the current snapshot if it satisfies the staleness bounds of the given endpoint, starting a
+     * background refresh when it is stale, without ever loading on the calling thread.
+     *
+     * @param endpoint the endpoint being served
+     * @param backgroundLoader fetches the full employee list on the refresh thread; the snapshot takes it over
+     * @return the snapshot to serve from, or null if one has to be loaded first
+     */
+    public EmployeeSnapshot readIfServable(ReadEndpoint endpoint, Supplier<List<Employee>> backgroundLoader) {
+        return servable(endpoint, () -> refreshInBackground(backgroundLoader));
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #readIfServable}: a stale snapshot is refreshed through
+     * {@link #loadAsync} rather than on the refresh thread.
+     *
+     * @param endpoint the endpoint being served
+     * @param backgroundLoader starts fetching the full employee list from upstream; the snapshot takes it over
+     * @return the snapshot to serve from, or null if one has to be loaded first
+     */
+    public EmployeeSnapshot readIfServableAsync(
+            ReadEndpoint endpoint, Supplier<? extends CompletionStage<List<Employee>>> backgroundLoader) {
+        return servable(endpoint, () -> refreshAsync(backgroundLoader));
+    }
+
+    private EmployeeSnapshot servable(ReadEndpoint endpoint, Runnable staleRefresh) {
+        EmployeeSnapshot snapshot = current.get();
+        if (!properties.isEnabled() || snapshot == null) {
+            return null;
+        }
+
+        Duration age = snapshot.age(clock.instant());
+        if (age.compareTo(properties.ttlFor(endpoint.getKey())) <= 0) {
+            return snapshot;
+        }
+        if (age.compareTo(properties.maxStaleFor(endpoint.getKey())) <= 0) {
+            log.debug("Serving {} from stale snapshot v{} (age {}ms)", endpoint, snapshot.getVersion(), age.toMillis());
+            staleRefresh.run();
+            return snapshot;
+        }
+
+        log.debug("Snapshot v{} is past max staleness for {}, reloading", snapshot.getVersion(), endpoint);
+        return null;
+    }
+
+    /**
+     * Loads and installs a new snapshot regardless of the current one's age.
+     * Only shares a load with other refreshes, so a reader never waits on, or inherits the failure of, a loader
+     * that retries less than its own.
+     *
+     * @param loader fetches the full employee list from upstream; the snapshot takes over the returned list
+     * @return the installed snapshot
+     */
+    public EmployeeSnapshot refresh(Supplier<List<Employee>> loader) {
+        return properties.isEnabled() ? load("refresh", loader) : loadUnpublished("refresh", loader);
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #refresh}: installs the list once the loader's stage completes.
+     * The install runs on the thread completing the stage, so loaders should complete off any event loop.
+     *
+     * @param loader starts fetching the full employee list from upstream; the snapshot takes over the list
+     * @return the installed snapshot, shared with every asynchronous load started before it completed
+     */
+    public CompletableFuture<EmployeeSnapshot> loadAsync(Supplier<? extends CompletionStage<List<Employee>>> loader) {
+        return asyncLoadFlight.execute("load", () -> loadAsync(loader, 1));
+    }
+
+    private CompletionStage<EmployeeSnapshot> loadAsync(
+            Supplier<? extends CompletionStage<List<Employee>>> loader, int attempt) {
+        long versionAtStart = lastVersion;
+        return loader.get().thenCompose(employees -> {
+            if (!properties.isEnabled()) {
+                return CompletableFuture.completedFuture(unpublished(employees));
+            }
+            EmployeeSnapshot snapshot = install(employees, versionAtStart);
+            if (snapshot != null) {
+                return CompletableFuture.completedFuture(snapshot);
+            }
+            checkNotOvertakenTooOften(attempt);
+            return loadAsync(loader, attempt + 1);
+        });
+    }
+
+    /**
+     * @return false if snapshots are not kept, in which case every read loads and nothing is persisted
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * @return the current snapshot, or null if none has been loaded yet
+     */
+    public EmployeeSnapshot peek() {
+        return current.get();
+    }
+
+    /**
+     * Returns the current snapshot only if it is within the endpoint's TTL, without triggering any load.
+     *
+     * @param endpoint the endpoint being served
+     * @return the fresh snapshot, or null if there is none
+     */
+    public EmployeeSnapshot peekFresh(ReadEndpoint endpoint) {
+        EmployeeSnapshot snapshot = current.get();
+        if (snapshot == null || snapshot.age(clock.instant()).compareTo(properties.ttlFor(endpoint.getKey())) > 0) {
+            return null;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Applies a create confirmed by the Mock Employee API to the current snapshot (read-your-writes).
+     *
+     * @param employee the created employee
+     */
+    public void applyCreated(Employee employee) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        installLock.lock();
+        try {
+            long version = ++lastVersion;
+            recordWrite(new WriteThrough(version, employee, null));
+            EmployeeSnapshot snapshot = current.get();
+            if (snapshot != null) {
+                publish(snapshot.withAdded(version, employee));
+                log.debug("Applied create of {} as snapshot v{}", employee.getId(), version);
+            }
+        } finally {
+            installLock.unlock();
+        }
+    }
+
+    /**
+     * Applies a delete confirmed by the Mock Employee API to the current snapshot (read-your-writes).
+     * Like the Mock Employee API, removes the first employee with the given name.
+     *
+     * @param requestedId the ID the caller asked to delete, used when no snapshot is loaded
+     * @param name the name sent in the delete request
+     * @return the employee removed from the snapshot, if any
+     */
+    public Optional<Employee> applyDeleted(UUID requestedId, String name) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        installLock.lock();
+        try {
+            long version = ++lastVersion;
+            EmployeeSnapshot snapshot = current.get();
+            int index = snapshot != null ? snapshot.indexOfName(name) : -1;
+            if (index < 0) {
+                recordWrite(new WriteThrough(version, null, requestedId));
+                return Optional.empty();
+            }
+            Employee removed = snapshot.getEmployees().get(index);
+            recordWrite(new WriteThrough(version, null, removed.getId()));
+            publish(snapshot.withRemoved(version, index));
+            log.debug("Applied delete of {} as snapshot v{}", removed.getId(), version);
+            return Optional.of(removed);
+        } finally {
+            installLock.unlock();
+        }
+    }
+
+    /**
+     * Publishes a freshly fetched employee list as the new current snapshot.
+     *
+     * @param employees the full employee list
+     * @return the published snapshot
+     */
+    public EmployeeSnapshot install(List<Employee> employees) {
+        return install(new ArrayList<>(employees), lastVersion);
+    }
+
+    private EmployeeSnapshot load(String key, Supplier<List<Employee>> loader) {
+        return loadFlight.execute(key, () -> {
+            for (int attempt = 1; ; attempt++) {
+                long versionAtStart = lastVersion;
+                EmployeeSnapshot snapshot = install(loader.get(), versionAtStart);
+                if (snapshot != null) {
+                    return snapshot;
+                }
+                checkNotOvertakenTooOften(attempt);
+            }
+        });
+    }
+
+    private static void checkNotOvertakenTooOften(int attempt) {
+        if (attempt >= MAX_OVERTAKEN_LOADS) {
+            throw new EmployeeApiException("Employee list kept changing faster than it could be fetched after "
+                    + attempt + " attempts");
+        }
+    }
+
+    private EmployeeSnapshot loadUnpublished(String key, Supplier<List<Employee>> loader) {
+        return loadFlight.execute(key, () -> unpublished(loader.get()));
+    }
+
+    /**
+     * Wraps a fetched list for a single read while the cache is disabled, leaving the current snapshot and
+     * the store untouched. Only the query endpoints, which need its indexes, still ask for one.
+     */
+    private EmployeeSnapshot unpublished(List<Employee> employees) {
+        return EmployeeSnapshot.adopting(lastVersion, clock.instant(), employees, bloomFalsePositiveRate, scans);
+    }
+
+    /**
+     * Installs a fetched list, replaying write-throughs applied after the fetch started.
+     * The upstream response may or may not include them, so replays are idempotent by ID.
+     * The list is owned by the cache from here on, so the snapshot adopts it instead of copying it once more.
+     *
+     * @return the installed snapshot, or null if write-throughs the fetch may predate were dropped from the
+     *     replay queue, in which case the list is discarded and has to be fetched again
+     */
+    private EmployeeSnapshot install(List<Employee> fetched, long versionAtStart) {
+        installLock.lock();
+        try {
+            if (versionAtStart < droppedThroughVersion) {
+                log.warn(
+                        "Discarding employee list fetched before v{}: write-throughs up to v{} can no longer be "
+                                + "replayed onto it",
+                        versionAtStart,
+                        droppedThroughVersion);
+                return null;
+            }
+            List<Employee> employees = fetched;
+            recentWrites.removeIf(write -> write.version() <= versionAtStart);
+            if (!recentWrites.isEmpty()) {
+                employees = new ArrayList<>(fetched);
+                for (WriteThrough write : recentWrites) {
+                    write.replay(employees);
+                }
+            }
+            EmployeeSnapshot snapshot = EmployeeSnapshot.adopting(
+                    ++lastVersion, clock.instant(), employees, bloomFalsePositiveRate, scans);
+            publish(snapshot);
+            log.debug("Installed employee snapshot v{} with {} employees", snapshot.getVersion(), employees.size());
+            return snapshot;
+        } finally {
+            installLock.unlock();
+        }
+    }
+
+    private void publish(EmployeeSnapshot snapshot) {
+        current.set(snapshot);
+        store.saveAsync(snapshot);
+    }
+
+    private void refreshInBackground(Supplier<List<Employee>> loader) {
+        if (!refreshInFlight.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load("load", loader);
+                } catch (RuntimeException e) {
+                    log.warn("Background refresh of employee snapshot failed: {}", e.getMessage());
+                } finally {
+                    refreshInFlight.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshInFlight.set(false);
+            log.debug("Background refresh rejected: {}", e.getMessage());
+        }
+    }
+
+    private void refreshAsync(Supplier<? extends CompletionStage<List<Employee>>> loader) {
+        if (!refreshInFlight.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            loadAsync(loader).whenComplete((snapshot, failure) -> {
+                refreshInFlight.set(false);
+                if (failure != null) {
+                    log.warn("Background refresh of employee snapshot failed: {}", failure.getMessage());
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshInFlight.set(false);
+            log.warn("Background refresh of employee snapshot failed: {}", e.getMessage());
+        }
+    }
+
+    private void recordWrite(WriteThrough write) {
+        recentWrites.addLast(write);
+        if (recentWrites.size() > MAX_RECENT_WRITES) {
+            droppedThroughVersion = recentWrites.removeFirst().version();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static ExecutorService newRefreshExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-snapshot-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * A create (created set) or delete (deletedId set) applied on top of the last fetched list.
+     */
+    private record WriteThrough(long version, Employee created, UUID deletedId) {
+
+        void replay(List<Employee> employees) {
+            if (created != null) {
+                if (created.getId() == null || employees.stream().noneMatch(e -> created.getId().equals(e.getId()))) {
+                    employees.add(created);
+                }
+            } else if (deletedId != null) {
+                employees.removeIf(e -> deletedId.equals(e.getId()));
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.model.Employee;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Compact binary layout of an {@link EmployeeSnapshot} on disk.
+ *
+ * <pre>
+ * header  magic "EMPS" | format version (int) | snapshot version (long) | fetched-at epoch millis (long)
+ *         | employee count (int) | payload length (int) | payload CRC32 (int)
+ * payload per employee: presence bits (byte) | id (2 longs) | salary (int) | age (int)
+ *         | name, title, email as UTF-8 (int length + bytes)
+ * </pre>
+ *
+ * Absent fields are flagged in the presence bits and take no space beyond it. All numbers are big-endian.
+ */
+final class EmployeeSnapshotFormat {
+
+    static final int MAGIC = 0x454D5053;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 4 + 4 + 4;
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_NAME = 1 << 1;
+    private static final int HAS_SALARY = 1 << 2;
+    private static final int HAS_AGE = 1 << 3;
+    private static final int HAS_TITLE = 1 << 4;
+    private static final int HAS_EMAIL = 1 << 5;
+
+    private EmployeeSnapshotFormat() {}
+
+    static ByteBuffer encode(EmployeeSnapshot snapshot) {
+        List<Employee> employees = snapshot.getEmployees();
+        List<byte[][]> strings = new ArrayList<>(employees.size());
+        int payloadBytes = 0;
+        for (Employee employee : employees) {
+            byte[][] encoded = {utf8(employee.getName()), utf8(employee.getTitle()), utf8(employee.getEmail())};
+            strings.add(encoded);
+            payloadBytes += 1
+                    + (employee.getId() != null ? 16 : 0)
+                    + (employee.getSalary() != null ? 4 : 0)
+                    + (employee.getAge() != null ? 4 : 0);
+            for (byte[] value : encoded) {
+                payloadBytes += value != null ? 4 + value.length : 0;
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + payloadBytes).order(ByteOrder.BIG_ENDIAN);
+        buffer.position(HEADER_BYTES);
+        for (int i = 0; i < employees.size(); i++) {
+            writeEmployee(buffer, employees.get(i), strings.get(i));
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), HEADER_BYTES, payloadBytes);
+        buffer.position(0);
+        buffer.putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(snapshot.getVersion())
+                .putLong(snapshot.getFetchedAt().toEpochMilli())
+                .putInt(employees.size())
+                .putInt(payloadBytes)
+                .putInt((int) crc.getValue());
+        buffer.rewind();
+        return buffer;
+    }
+
+    /**
+     * Reads a snapshot, typically from a memory-mapped file.
+     *
+     * @throws IllegalArgumentException if the buffer is not a complete snapshot of a supported format version
+     */
+    static EmployeeSnapshot decode(ByteBuffer buffer, double bloomFalsePositiveRate) {
+        return decode(buffer, bloomFalsePositiveRate, ParallelScans.SEQUENTIAL);
+    }
+
+    /**
+     * Reads a snapshot whose scans run on the given pool.
+     *
+     * @throws IllegalArgumentException if the buffer is not a complete snapshot of a supported format version
+     */
+    static EmployeeSnapshot decode(ByteBuffer buffer, double bloomFalsePositiveRate, ParallelScans scans) {
+        ByteBuffer in = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        if (in.remaining() < HEADER_BYTES || in.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not an employee snapshot file");
+        }
+        int formatVersion = in.getInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot format version " + formatVersion);
+        }
+        long version = in.getLong();
+        Instant fetchedAt = Instant.ofEpochMilli(in.getLong());
+        int count = in.getInt();
+        int payloadBytes = in.getInt();
+        int expectedCrc = in.getInt();
+        if (count < 0 || payloadBytes < 0 || in.remaining() < payloadBytes) {
+            throw new IllegalArgumentException("Truncated snapshot file");
+        }
+
+        ByteBuffer payload = in.slice(in.position(), payloadBytes);
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != expectedCrc) {
+            throw new IllegalArgumentException("Snapshot file checksum mismatch");
+        }
+
+        List<Employee> employees = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                employees.add(readEmployee(payload));
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed snapshot file", e);
+        }
+        return new EmployeeSnapshot(version, fetchedAt, employees, bloomFalsePositiveRate, scans);
+    }
+
+    private static void writeEmployee(ByteBuffer out, Employee employee, byte[][] strings) {
+        int presence = (employee.getId() != null ? HAS_ID : 0)
+                | (strings[0] != null ? HAS_NAME : 0)
+                | (employee.getSalary() != null ? HAS_SALARY : 0)
+                | (employee.getAge() != null ? HAS_AGE : 0)
+                | (strings[1] != null ? HAS_TITLE : 0)
+                | (strings[2] != null ? HAS_EMAIL : 0);
+        out.put((byte) presence);
+        if (employee.getId() != null) {
+            out.putLong(employee.getId().getMostSignificantBits());
+            out.putLong(employee.getId().getLeastSignificantBits());
+        }
+        if (employee.getSalary() != null) {
+            out.putInt(employee.getSalary());
+        }
+        if (employee.getAge() != null) {
+            out.putInt(employee.getAge());
+        }
+        for (byte[] value : strings) {
+            if (value != null) {
+                out.putInt(value.length);
+                out.put(value);
+            }
+        }
+    }
+
+    private static Employee readEmployee(ByteBuffer in) {
+        int presence = in.get();
+        Employee.EmployeeBuilder employee = Employee.builder();
+        if ((presence & HAS_ID) != 0) {
+            employee.id(new UUID(in.getLong(), in.getLong()));
+        }
+        if ((presence & HAS_SALARY) != 0) {
+            employee.salary(in.getInt());
+        }
+        if ((presence & HAS_AGE) != 0) {
+            employee.age(in.getInt());
+        }
+        if ((presence & HAS_NAME) != 0) {
+            employee.name(readString(in));
+        }
+        if ((presence & HAS_TITLE) != 0) {
+            employee.title(readString(in));
+        }
+        if ((presence & HAS_EMAIL) != 0) {
+            employee.email(readString(in));
+        }
+        return employee.build();
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+}
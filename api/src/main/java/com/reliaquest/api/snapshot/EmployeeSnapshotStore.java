@@ -0,0 +1,182 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.config.EmployeeApiProperties;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps a copy of the latest {@link EmployeeSnapshot} on disk so a restarted instance can serve reads
+ * before its first upstream fetch. Writes happen off the request path and are coalesced: while one write
+ * runs, only the newest pending snapshot is written next. Files are replaced atomically and read back
+ * through a memory mapping in {@link EmployeeSnapshotFormat}.
+ */
+@Slf4j
+@Component
+public class EmployeeSnapshotStore implements DisposableBean {
+
+    @Getter
+    private final boolean enabled;
+
+    private final Path path;
+    private final double bloomFalsePositiveRate;
+    private final ParallelScans scans;
+    private final Executor writeExecutor;
+
+    private final AtomicReference<EmployeeSnapshot> pending = new AtomicReference<>();
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+    private volatile long lastWrittenVersion = -1;
+
+    @Autowired
+    public EmployeeSnapshotStore(EmployeeApiProperties properties, ParallelScans scans) {
+        this(properties, scans, properties.getPersistence().isEnabled() ? newWriteExecutor() : Runnable::run);
+    }
+
+    public EmployeeSnapshotStore(EmployeeApiProperties properties) {
+        this(properties, ParallelScans.SEQUENTIAL);
+    }
+
+    EmployeeSnapshotStore(EmployeeApiProperties properties, Executor writeExecutor) {
+        this(properties, ParallelScans.SEQUENTIAL, writeExecutor);
+    }
+
+    EmployeeSnapshotStore(EmployeeApiProperties properties, ParallelScans scans, Executor writeExecutor) {
+        this.enabled = properties.getPersistence().isEnabled();
+        this.path = properties.getPersistence().getPath();
+        this.bloomFalsePositiveRate = properties.getNegativeCache().getBloomFalsePositiveRate();
+        this.scans = scans;
+        this.writeExecutor = writeExecutor;
+    }
+
+    /**
+     * Maps the snapshot file and decodes it. A missing, truncated or incompatible file is ignored.
+     *
+     * @return the persisted snapshot, if there is a usable one
+     */
+    public Optional<EmployeeSnapshot> load() {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            EmployeeSnapshot snapshot = EmployeeSnapshotFormat.decode(mapped, bloomFalsePositiveRate, scans);
+            lastWrittenVersion = snapshot.getVersion();
+            log.info(
+                    "Loaded employee snapshot v{} with {} employees from {}",
+                    snapshot.getVersion(),
+                    snapshot.getEmployees().size(),
+                    path);
+            return Optional.of(snapshot);
+        } catch (NoSuchFileException e) {
+            log.info("No persisted employee snapshot at {}", path);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Ignoring unreadable employee snapshot at {}: {}", path, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Queues the snapshot to be written; returns immediately.
+     *
+     * @param snapshot the snapshot that was just published
+     */
+    public void saveAsync(EmployeeSnapshot snapshot) {
+        if (!enabled) {
+            return;
+        }
+        pending.accumulateAndGet(snapshot, EmployeeSnapshotStore::newer);
+        if (writeScheduled.compareAndSet(false, true)) {
+            try {
+                writeExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                writeScheduled.set(false);
+                log.debug("Snapshot write rejected: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void drain() {
+        do {
+            try {
+                EmployeeSnapshot snapshot;
+                while ((snapshot = pending.getAndSet(null)) != null) {
+                    if (snapshot.getVersion() > lastWrittenVersion) {
+                        write(snapshot);
+                    }
+                }
+            } finally {
+                writeScheduled.set(false);
+            }
+            // A snapshot offered between the last poll and the reset above found the flag still set.
+        } while (pending.get() != null && writeScheduled.compareAndSet(false, true));
+    }
+
+    private void write(EmployeeSnapshot snapshot) {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            ByteBuffer encoded = EmployeeSnapshotFormat.encode(snapshot);
+            try (FileChannel channel = FileChannel.open(
+                    temp,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (encoded.hasRemaining()) {
+                    channel.write(encoded);
+                }
+                channel.force(false);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            lastWrittenVersion = snapshot.getVersion();
+            log.debug("Persisted employee snapshot v{} to {}", snapshot.getVersion(), path);
+        } catch (IOException e) {
+            log.warn("Failed to persist employee snapshot v{} to {}: {}", snapshot.getVersion(), path, e.getMessage());
+        }
+    }
+
+    /**
+     * Lets a queued write finish so the file reflects the last snapshot served before shutdown.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        if (writeExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+            if (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {
+                executorService.shutdownNow();
+            }
+        }
+    }
+
+    private static EmployeeSnapshot newer(EmployeeSnapshot queued, EmployeeSnapshot offered) {
+        return queued == null || offered.getVersion() > queued.getVersion() ? offered : queued;
+    }
+
+    private static ExecutorService newWriteExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-snapshot-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,185 @@
+package com.reliaquest.api.snapshot;
+
+import java.util.Arrays;
+
+/**
+ * Immutable open-addressing hash table from employee ID to the sequence number of the first row with that ID,
+ * held by {@link EmployeeColumns} so an ID lookup costs a hash probe and a binary search over the sequences
+ * rather than a scan of every row. Sequence numbers outlive position shifts, so a removal only deletes its
+ * own entry. Slots are parallel primitive arrays probed linearly; removal shifts later entries back instead
+ * of leaving tombstones. Creates and deletes are applied copy-on-write, as for the columns themselves.
+ */
+final class IdTable {
+
+    static final long ABSENT = -1;
+
+    private final long[] mostBits;
+    private final long[] leastBits;
+
+    /**
+     * {@link #ABSENT} marks an empty slot.
+     */
+    private final long[] sequences;
+
+    /**
+     * Only change while a fresh copy is filled, before it is returned.
+     */
+    private int count;
+
+    /**
+     * Set once any two rows shared an ID, after which removing the first of them looks for the next one.
+     */
+    private boolean duplicates;
+
+    private IdTable(long[] mostBits, long[] leastBits, long[] sequences, int count, boolean duplicates) {
+        this.mostBits = mostBits;
+        this.leastBits = leastBits;
+        this.sequences = sequences;
+        this.count = count;
+        this.duplicates = duplicates;
+    }
+
+    /**
+     * @param ids most and least significant bits of each row's ID; the nil UUID marks a missing ID
+     * @param sequences each row's sequence number, ascending
+     */
+    static IdTable of(long[] ids, long[] sequences) {
+        IdTable table = empty(capacityFor(sequences.length));
+        for (int row = 0; row < sequences.length; row++) {
+            table.put(ids[2 * row], ids[2 * row + 1], sequences[row]);
+        }
+        return table;
+    }
+
+    /**
+     * @return the sequence number of the first row with the ID, or {@link #ABSENT}
+     */
+    long sequenceOf(long most, long least) {
+        if (most == 0 && least == 0) {
+            return ABSENT;
+        }
+        int mask = sequences.length - 1;
+        for (int slot = home(most, least, mask); sequences[slot] != ABSENT; slot = (slot + 1) & mask) {
+            if (mostBits[slot] == most && leastBits[slot] == least) {
+                return sequences[slot];
+            }
+        }
+        return ABSENT;
+    }
+
+    /**
+     * @param sequence the appended row's sequence number, above every other
+     */
+    IdTable withAdded(long most, long least, long sequence) {
+        IdTable updated = count + 1 > sequences.length / 2 ? rehash(capacityFor(count + 1)) : copy();
+        updated.put(most, least, sequence);
+        return updated;
+    }
+
+    /**
+     * @param remainingIds the remaining rows' IDs, searched for another row with the removed ID only if IDs
+     *     ever repeated
+     * @param remainingSequences the remaining rows' sequence numbers
+     */
+    IdTable withRemoved(long most, long least, long sequence, long[] remainingIds, long[] remainingSequences) {
+        if (sequenceOf(most, least) != sequence) {
+            return this;
+        }
+        IdTable updated = copy();
+        updated.delete(most, least);
+        if (duplicates) {
+            for (int row = 0; row < remainingSequences.length; row++) {
+                if (remainingIds[2 * row] == most && remainingIds[2 * row + 1] == least) {
+                    updated.put(most, least, remainingSequences[row]);
+                    break;
+                }
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * Mutates the table, so only on a fresh copy; keeps the earlier row when the ID is already present.
+     */
+    private void put(long most, long least, long sequence) {
+        if (most == 0 && least == 0) {
+            return;
+        }
+        int mask = sequences.length - 1;
+        int slot = home(most, least, mask);
+        while (sequences[slot] != ABSENT) {
+            if (mostBits[slot] == most && leastBits[slot] == least) {
+                duplicates = true;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        mostBits[slot] = most;
+        leastBits[slot] = least;
+        sequences[slot] = sequence;
+        count++;
+    }
+
+    /**
+     * Empties the ID's slot, then moves back each later entry of the probe run that could live in it.
+     */
+    private void delete(long most, long least) {
+        int mask = sequences.length - 1;
+        int gap = home(most, least, mask);
+        while (mostBits[gap] != most || leastBits[gap] != least) {
+            gap = (gap + 1) & mask;
+        }
+        for (int slot = (gap + 1) & mask; sequences[slot] != ABSENT; slot = (slot + 1) & mask) {
+            int home = home(mostBits[slot], leastBits[slot], mask);
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                mostBits[gap] = mostBits[slot];
+                leastBits[gap] = leastBits[slot];
+                sequences[gap] = sequences[slot];
+                gap = slot;
+            }
+        }
+        sequences[gap] = ABSENT;
+        count--;
+    }
+
+    private IdTable copy() {
+        return new IdTable(
+                Arrays.copyOf(mostBits, mostBits.length),
+                Arrays.copyOf(leastBits, leastBits.length),
+                Arrays.copyOf(sequences, sequences.length),
+                count,
+                duplicates);
+    }
+
+    private IdTable rehash(int capacity) {
+        IdTable table = empty(capacity);
+        for (int slot = 0; slot < sequences.length; slot++) {
+            if (sequences[slot] != ABSENT) {
+                table.put(mostBits[slot], leastBits[slot], sequences[slot]);
+            }
+        }
+        table.duplicates = duplicates;
+        return table;
+    }
+
+    private static IdTable empty(int capacity) {
+        long[] sequences = new long[capacity];
+        Arrays.fill(sequences, ABSENT);
+        return new IdTable(new long[capacity], new long[capacity], sequences, 0, false);
+    }
+
+    /**
+     * @return a power of two at least twice the number of IDs, so probe runs stay short
+     */
+    private static int capacityFor(int ids) {
+        return Math.max(16, Integer.highestOneBit(Math.max(1, ids) * 4 - 1));
+    }
+
+    /**
+     * Employee IDs are random UUIDs, but a mix keeps sequential or hand-made IDs from clustering.
+     */
+    private static int home(long most, long least, int mask) {
+        long z = (most ^ Long.rotateLeft(least, 32)) * 0x9E3779B97F4A7C15L;
+        return (int) (z ^ (z >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,143 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Immutable primitive column of an optional int attribute, positionally aligned with a snapshot's list.
+ * Aggregations run on the Vector API when the JVM was started with {@code --add-modules jdk.incubator.vector},
+ * and on plain loops otherwise.
+ */
+@Slf4j
+final class IntColumn {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    static final ColumnKernels KERNELS = loadKernels();
+
+    private final int[] values;
+    private final boolean[] present;
+    private final int missing;
+
+    private IntColumn(int[] values, boolean[] present, int missing) {
+        this.values = values;
+        this.present = present;
+        this.missing = missing;
+    }
+
+    static IntColumn of(List<Employee> employees, Function<Employee, Integer> attribute) {
+        int[] values = new int[employees.size()];
+        boolean[] present = new boolean[employees.size()];
+        int missing = 0;
+        for (int i = 0; i < values.length; i++) {
+            Integer value = attribute.apply(employees.get(i));
+            if (value != null) {
+                values[i] = value;
+                present[i] = true;
+            } else {
+                missing++;
+            }
+        }
+        return new IntColumn(values, present, missing);
+    }
+
+    IntColumn withAppended(Integer value) {
+        int[] updatedValues = Arrays.copyOf(values, values.length + 1);
+        boolean[] updatedPresent = Arrays.copyOf(present, present.length + 1);
+        if (value != null) {
+            updatedValues[values.length] = value;
+            updatedPresent[values.length] = true;
+        }
+        return new IntColumn(updatedValues, updatedPresent, value != null ? missing : missing + 1);
+    }
+
+    IntColumn withRemoved(int index) {
+        int[] updatedValues = new int[values.length - 1];
+        boolean[] updatedPresent = new boolean[present.length - 1];
+        System.arraycopy(values, 0, updatedValues, 0, index);
+        System.arraycopy(values, index + 1, updatedValues, index, values.length - index - 1);
+        System.arraycopy(present, 0, updatedPresent, 0, index);
+        System.arraycopy(present, index + 1, updatedPresent, index, present.length - index - 1);
+        return new IntColumn(updatedValues, updatedPresent, present[index] ? missing : missing - 1);
+    }
+
+    int size() {
+        return values.length;
+    }
+
+    boolean isPresent(int position) {
+        return present[position];
+    }
+
+    int get(int position) {
+        return values[position];
+    }
+
+    /**
+     * @return the number of present values
+     */
+    int count() {
+        return values.length - missing;
+    }
+
+    /**
+     * @return the largest value, or Integer.MIN_VALUE if none is present
+     */
+    int max() {
+        return KERNELS.max(values, mask(), 0, values.length);
+    }
+
+    /**
+     * @return the smallest value, or Integer.MAX_VALUE if none is present
+     */
+    int min() {
+        return KERNELS.min(values, mask(), 0, values.length);
+    }
+
+    long sum() {
+        return KERNELS.sum(values, mask(), 0, values.length);
+    }
+
+    /**
+     * @return the number of present values within [min, max]
+     */
+    int countInRange(int min, int max) {
+        return countInRange(0, values.length, min, max);
+    }
+
+    /**
+     * @return the number of present values within [min, max] among the positions [from, to)
+     */
+    int countInRange(int from, int to, int min, int max) {
+        return KERNELS.countInRange(values, mask(), from, to, min, max);
+    }
+
+    int[] values() {
+        return values;
+    }
+
+    /**
+     * @return the presence flags, or null when every value is present so kernels can skip masking
+     */
+    boolean[] mask() {
+        return missing == 0 ? null : present;
+    }
+
+    private static ColumnKernels loadKernels() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                String name = IntColumn.class.getPackageName() + ".VectorColumnKernels";
+                ColumnKernels kernels = (ColumnKernels) Class.forName(name).getDeclaredConstructor().newInstance();
+                log.info("Column aggregations use the Vector API");
+                return kernels;
+            } catch (ReflectiveOperationException | LinkageError e) {
+                log.warn("Vector API present but unusable, column aggregations use scalar loops: {}", e.toString());
+            }
+        }
+        log.info("Column aggregations use scalar loops; start with --add-modules {} to vectorize", VECTOR_MODULE);
+        return new ScalarColumnKernels();
+    }
+}
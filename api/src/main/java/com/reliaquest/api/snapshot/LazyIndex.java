@@ -0,0 +1,52 @@
+package com.reliaquest.api.snapshot;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * An index of a snapshot built on first use, at most once. Suits indexes that only some queries need,
+ * since most snapshots are replaced before such a query arrives.
+ */
+final class LazyIndex<T> {
+
+    private final Supplier<T> builder;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile T index;
+
+    LazyIndex(Supplier<T> builder) {
+        this.builder = builder;
+    }
+
+    /**
+     * @return an index that is already built, such as one derived from the previous snapshot's
+     */
+    static <T> LazyIndex<T> built(T index) {
+        LazyIndex<T> lazy = new LazyIndex<>(() -> index);
+        lazy.index = index;
+        return lazy;
+    }
+
+    T get() {
+        T built = index;
+        if (built == null) {
+            lock.lock();
+            try {
+                built = index;
+                if (built == null) {
+                    built = builder.get();
+                    index = built;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return built;
+    }
+
+    /**
+     * @return the index if it has already been built, without building it
+     */
+    T getIfBuilt() {
+        return index;
+    }
+}
@@ -0,0 +1,394 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BK-tree over the words of case-folded employee names for typo-tolerant search, positionally aligned with a
+ * snapshot's list. Indexing words rather than full names keeps the tree as small as the name vocabulary, which
+ * for people's names grows far slower than headcount. Levenshtein distance is a metric, so a search only
+ * descends into children whose edge distance lies within {@code maxDistance} of the query's distance to their
+ * parent. Short vocabularies of short words make that bound loose, so a search visits a large share of the
+ * tree; query words of up to 64 characters are therefore compared with Myers' bit-parallel algorithm, which
+ * costs a few word operations per character of the term instead of a full dynamic-programming row.
+ */
+final class NameBkTree {
+
+    /**
+     * A result: position in the snapshot's list and the employee's distance to the query.
+     */
+    record Match(int position, int distance) {}
+
+    private final Node root;
+    private final int maxTermLength;
+
+    private NameBkTree(Node root, int maxTermLength) {
+        this.root = root;
+        this.maxTermLength = maxTermLength;
+    }
+
+    static NameBkTree of(List<Employee> employees) {
+        Map<String, Node> nodes = new HashMap<>();
+        Node root = null;
+        int maxTermLength = 0;
+        Levenshtein levenshtein = new Levenshtein(0);
+        for (int position = 0; position < employees.size(); position++) {
+            String name = employees.get(position).getName();
+            if (name == null) {
+                continue;
+            }
+            for (String term : words(name.toLowerCase())) {
+                Node node = nodes.get(term);
+                if (node == null) {
+                    node = new Node(term);
+                    nodes.put(term, node);
+                    maxTermLength = Math.max(maxTermLength, term.length());
+                    levenshtein = levenshtein.ensureCapacity(term.length());
+                    if (root == null) {
+                        root = node;
+                    } else {
+                        insert(root, node, levenshtein);
+                    }
+                }
+                node.addPosition(position);
+            }
+        }
+        return new NameBkTree(root, maxTermLength);
+    }
+
+    /**
+     * Finds employees whose name has, for every word of the query, a word within a total of
+     * {@code maxDistance} edits, ignoring case. Each query word is charged its closest name word; a word the query
+     * repeats needs as many words of the name, each charged separately, so "john john" does not match "John Doe".
+     *
+     * @return up to {@code limit} matches, closest first, then in list order
+     */
+    List<Match> search(String query, int maxDistance, int limit) {
+        Map<String, Integer> queryWords = new LinkedHashMap<>();
+        for (String word : words(query.toLowerCase())) {
+            queryWords.merge(word, 1, Integer::sum);
+        }
+        if (root == null || queryWords.isEmpty()) {
+            return List.of();
+        }
+        long[] total = null;
+        for (Map.Entry<String, Integer> word : queryWords.entrySet()) {
+            long[] closest = closestWords(word.getKey(), word.getValue(), maxDistance);
+            total = total == null ? closest : combine(total, closest, maxDistance);
+            if (total.length == 0) {
+                return List.of();
+            }
+        }
+        long[] ranked = new long[total.length];
+        for (int i = 0; i < total.length; i++) {
+            ranked[i] = pack(distance(total[i]), position(total[i]));
+        }
+        Arrays.sort(ranked);
+        List<Match> matches = new ArrayList<>(Math.min(limit, ranked.length));
+        for (int i = 0; i < ranked.length && matches.size() < limit; i++) {
+            matches.add(new Match((int) ranked[i], (int) (ranked[i] >>> Integer.SIZE)));
+        }
+        return matches;
+    }
+
+    /**
+     * Keeps the employees present in both lists, at the sum of their distances while that stays within
+     * maxDistance.
+     *
+     * @param total packed matches in position order
+     * @param closest packed matches in position order
+     */
+    private static long[] combine(long[] total, long[] closest, int maxDistance) {
+        long[] combined = new long[Math.min(total.length, closest.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < total.length && j < closest.length) {
+            int position = position(total[i]);
+            int other = position(closest[j]);
+            if (position < other) {
+                i++;
+            } else if (position > other) {
+                j++;
+            } else {
+                int distance = distance(total[i++]) + distance(closest[j++]);
+                if (distance <= maxDistance) {
+                    combined[size++] = pack(position, distance);
+                }
+            }
+        }
+        return Arrays.copyOf(combined, size);
+    }
+
+    /**
+     * Collects matches as packed longs rather than boxed map entries: a common word matches thousands of
+     * employees, and at a distance of 2 merging those into a map cost as much as walking the tree.
+     *
+     * @param occurrences how many times the query repeats the word, and so how many name words it takes
+     * @return packed matches in position order, each at the summed distance of that employee's closest words
+     */
+    private long[] closestWords(String word, int occurrences, int maxDistance) {
+        Distance toWord = word.length() <= BitParallelDistance.MAX_PATTERN_LENGTH
+                ? new BitParallelDistance(word)
+                : new Levenshtein(Math.max(word.length(), maxTermLength)).from(word);
+        long[] matches = new long[16];
+        int size = 0;
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = toWord.to(node.term);
+            if (distance <= maxDistance) {
+                if (size + node.positionCount > matches.length) {
+                    matches = Arrays.copyOf(matches, Math.max(matches.length * 2, size + node.positionCount));
+                }
+                for (int i = 0; i < node.positionCount; i++) {
+                    matches[size++] = pack(node.positions[i], distance);
+                }
+            }
+            for (int i = 0; i < node.childCount; i++) {
+                if (Math.abs(node.childDistances[i] - distance) <= maxDistance) {
+                    pending.push(node.children[i]);
+                }
+            }
+        }
+        Arrays.sort(matches, 0, size);
+        int distinct = 0;
+        for (int start = 0, end; start < size; start = end) {
+            int position = position(matches[start]);
+            end = start + 1;
+            while (end < size && position(matches[end]) == position) {
+                end++;
+            }
+            if (end - start >= occurrences) {
+                int distance = 0;
+                for (int i = start; i < start + occurrences; i++) {
+                    distance += distance(matches[i]);
+                }
+                if (distance <= maxDistance) {
+                    matches[distinct++] = pack(position, distance);
+                }
+            }
+        }
+        return Arrays.copyOf(matches, distinct);
+    }
+
+    /**
+     * Orders by the high int first, so packing (position, distance) sorts by position and then keeps an
+     * employee's closest word first.
+     */
+    private static long pack(int high, int low) {
+        return (long) high << Integer.SIZE | low;
+    }
+
+    private static int position(long packed) {
+        return (int) (packed >>> Integer.SIZE);
+    }
+
+    private static int distance(long packed) {
+        return (int) packed;
+    }
+
+    private static void insert(Node root, Node node, Levenshtein levenshtein) {
+        Node current = root;
+        while (true) {
+            int distance = levenshtein.distance(node.term, current.term);
+            Node child = current.child(distance);
+            if (child == null) {
+                current.addChild(distance, node);
+                return;
+            }
+            current = child;
+        }
+    }
+
+    private static List<String> words(String folded) {
+        List<String> words = new ArrayList<>();
+        for (String word : folded.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static final class Node {
+
+        private final String term;
+        private int[] positions = new int[1];
+        private int positionCount;
+        private int[] childDistances = new int[0];
+        private Node[] children = new Node[0];
+        private int childCount;
+
+        private Node(String term) {
+            this.term = term;
+        }
+
+        /**
+         * Records every occurrence, so a name repeating the word lists its position once per occurrence.
+         */
+        private void addPosition(int position) {
+            if (positionCount == positions.length) {
+                positions = Arrays.copyOf(positions, positionCount * 2);
+            }
+            positions[positionCount++] = position;
+        }
+
+        private Node child(int distance) {
+            for (int i = 0; i < childCount; i++) {
+                if (childDistances[i] == distance) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private void addChild(int distance, Node child) {
+            if (childCount == children.length) {
+                int capacity = Math.max(4, childCount * 2);
+                childDistances = Arrays.copyOf(childDistances, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            childDistances[childCount] = distance;
+            children[childCount++] = child;
+        }
+    }
+
+    /**
+     * Levenshtein distance from a fixed query word.
+     */
+    private interface Distance {
+
+        int to(String term);
+    }
+
+    /**
+     * Myers' bit-parallel Levenshtein distance, in Hyyrö's formulation for whole strings: one bit per
+     * character of the query word, which must not be longer than 64 characters.
+     * Not thread-safe, one per query word.
+     */
+    static final class BitParallelDistance implements Distance {
+
+        static final int MAX_PATTERN_LENGTH = Long.SIZE;
+
+        private static final int ASCII = 128;
+
+        private final int length;
+        private final long lastBit;
+        private final long[] asciiMasks = new long[ASCII];
+        private final char[] otherChars;
+        private final long[] otherMasks;
+
+        BitParallelDistance(String pattern) {
+            length = pattern.length();
+            lastBit = length == 0 ? 0 : 1L << (length - 1);
+            char[] others = new char[length];
+            long[] masks = new long[length];
+            int otherCount = 0;
+            for (int i = 0; i < length; i++) {
+                char c = pattern.charAt(i);
+                if (c < ASCII) {
+                    asciiMasks[c] |= 1L << i;
+                    continue;
+                }
+                int slot = 0;
+                while (slot < otherCount && others[slot] != c) {
+                    slot++;
+                }
+                if (slot == otherCount) {
+                    others[otherCount++] = c;
+                }
+                masks[slot] |= 1L << i;
+            }
+            otherChars = Arrays.copyOf(others, otherCount);
+            otherMasks = Arrays.copyOf(masks, otherCount);
+        }
+
+        @Override
+        public int to(String term) {
+            if (length == 0) {
+                return term.length();
+            }
+            long positive = -1L;
+            long negative = 0;
+            int score = length;
+            for (int j = 0; j < term.length(); j++) {
+                long equal = mask(term.charAt(j));
+                long xv = equal | negative;
+                long xh = (((equal & positive) + positive) ^ positive) | equal;
+                long horizontalPositive = negative | ~(xh | positive);
+                long horizontalNegative = positive & xh;
+                if ((horizontalPositive & lastBit) != 0) {
+                    score++;
+                } else if ((horizontalNegative & lastBit) != 0) {
+                    score--;
+                }
+                horizontalPositive = (horizontalPositive << 1) | 1;
+                horizontalNegative <<= 1;
+                positive = horizontalNegative | ~(xv | horizontalPositive);
+                negative = horizontalPositive & xv;
+            }
+            return score;
+        }
+
+        private long mask(char c) {
+            if (c < ASCII) {
+                return asciiMasks[c];
+            }
+            for (int i = 0; i < otherChars.length; i++) {
+                if (otherChars[i] == c) {
+                    return otherMasks[i];
+                }
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Two-row Levenshtein distance with reusable rows; not thread-safe, one per build or search.
+     */
+    private static final class Levenshtein {
+
+        private int[] previous;
+        private int[] current;
+
+        private Levenshtein(int maxLength) {
+            this.previous = new int[maxLength + 1];
+            this.current = new int[maxLength + 1];
+        }
+
+        private Distance from(String word) {
+            return term -> distance(word, term);
+        }
+
+        private Levenshtein ensureCapacity(int length) {
+            return length + 1 <= previous.length ? this : new Levenshtein(Math.max(length, previous.length * 2));
+        }
+
+        private int distance(String a, String b) {
+            for (int j = 0; j <= b.length(); j++) {
+                previous[j] = j;
+            }
+            for (int i = 1; i <= a.length(); i++) {
+                current[0] = i;
+                char ca = a.charAt(i - 1);
+                for (int j = 1; j <= b.length(); j++) {
+                    int substitution = previous[j - 1] + (ca == b.charAt(j - 1) ? 0 : 1);
+                    current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                }
+                int[] swap = previous;
+                previous = current;
+                current = swap;
+            }
+            return previous[b.length()];
+        }
+    }
+}
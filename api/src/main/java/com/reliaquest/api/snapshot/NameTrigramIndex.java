@@ -0,0 +1,214 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Case-folded trigram inverted index over employee names, positionally aligned with a snapshot's list.
+ * Names are folded once with {@link String#toLowerCase()}, exactly as the original linear search did per query,
+ * so {@code folded(name).contains(folded(query))} keeps its meaning. Queries of three or more characters
+ * intersect the posting lists of their trigrams and verify each candidate; shorter ones scan the folded names.
+ * Verification and scans over enough names are split across {@link ParallelScans}, keeping positions ascending.
+ * Posting lists hold slots rather than positions: each name keeps the slot it was indexed under, and slots
+ * increase in list order, so a delete only touches the posting lists of the deleted name.
+ */
+final class NameTrigramIndex {
+
+    private static final int[] NO_POSTINGS = new int[0];
+
+    /**
+     * Folded name per position; null where the employee has no name.
+     */
+    private final String[] foldedNames;
+
+    /**
+     * Slot per position, ascending.
+     */
+    private final int[] slots;
+
+    private final int nextSlot;
+
+    /**
+     * Trigram (three chars packed into a long) to the ascending slots of names containing it.
+     */
+    private final Map<Long, int[]> postings;
+
+    private NameTrigramIndex(String[] foldedNames, int[] slots, int nextSlot, Map<Long, int[]> postings) {
+        this.foldedNames = foldedNames;
+        this.slots = slots;
+        this.nextSlot = nextSlot;
+        this.postings = postings;
+    }
+
+    static NameTrigramIndex of(List<Employee> employees) {
+        String[] foldedNames = new String[employees.size()];
+        int[] slots = new int[employees.size()];
+        Map<Long, List<Integer>> building = new HashMap<>();
+        for (int i = 0; i < foldedNames.length; i++) {
+            slots[i] = i;
+            String name = employees.get(i).getName();
+            if (name == null) {
+                continue;
+            }
+            foldedNames[i] = name.toLowerCase();
+            for (long trigram : trigrams(foldedNames[i])) {
+                building.computeIfAbsent(trigram, key -> new ArrayList<>()).add(i);
+            }
+        }
+        Map<Long, int[]> postings = new HashMap<>(building.size() * 4 / 3 + 1);
+        building.forEach((trigram, positions) ->
+                postings.put(trigram, positions.stream().mapToInt(Integer::intValue).toArray()));
+        return new NameTrigramIndex(foldedNames, slots, foldedNames.length, postings);
+    }
+
+    /**
+     * Copy-on-write index for the list with the employee appended; only the new name's posting lists are copied.
+     */
+    NameTrigramIndex withAdded(Employee employee) {
+        String[] names = Arrays.copyOf(foldedNames, foldedNames.length + 1);
+        int[] updatedSlots = Arrays.copyOf(slots, slots.length + 1);
+        updatedSlots[slots.length] = nextSlot;
+        Map<Long, int[]> updated = new HashMap<>(postings);
+        int position = foldedNames.length;
+        if (employee.getName() != null) {
+            names[position] = employee.getName().toLowerCase();
+            for (long trigram : trigrams(names[position])) {
+                int[] existing = updated.getOrDefault(trigram, NO_POSTINGS);
+                int[] extended = Arrays.copyOf(existing, existing.length + 1);
+                extended[existing.length] = nextSlot;
+                updated.put(trigram, extended);
+            }
+        }
+        return new NameTrigramIndex(names, updatedSlots, nextSlot + 1, updated);
+    }
+
+    /**
+     * Copy-on-write index for the list without the employee at the given position; only the removed name's
+     * posting lists are copied, and the positions after it shift down with the folded names.
+     */
+    NameTrigramIndex withRemoved(int position) {
+        int size = foldedNames.length;
+        String[] names = new String[size - 1];
+        System.arraycopy(foldedNames, 0, names, 0, position);
+        System.arraycopy(foldedNames, position + 1, names, position, size - position - 1);
+        int[] updatedSlots = new int[size - 1];
+        System.arraycopy(slots, 0, updatedSlots, 0, position);
+        System.arraycopy(slots, position + 1, updatedSlots, position, size - position - 1);
+        Map<Long, int[]> updated = new HashMap<>(postings);
+        if (foldedNames[position] != null) {
+            int slot = slots[position];
+            for (long trigram : trigrams(foldedNames[position])) {
+                int[] existing = updated.get(trigram);
+                if (existing.length == 1) {
+                    updated.remove(trigram);
+                    continue;
+                }
+                int at = Arrays.binarySearch(existing, slot);
+                int[] shrunk = new int[existing.length - 1];
+                System.arraycopy(existing, 0, shrunk, 0, at);
+                System.arraycopy(existing, at + 1, shrunk, at, existing.length - at - 1);
+                updated.put(trigram, shrunk);
+            }
+        }
+        return new NameTrigramIndex(names, updatedSlots, nextSlot, updated);
+    }
+
+    /**
+     * @return ascending positions of the names containing the query, ignoring case
+     */
+    int[] search(String query) {
+        return search(query, ParallelScans.SEQUENTIAL);
+    }
+
+    /**
+     * @return ascending positions of the names containing the query, ignoring case
+     */
+    int[] search(String query, ParallelScans scans) {
+        String folded = query.toLowerCase();
+        if (folded.length() < 3) {
+            return scans.reduce(foldedNames.length, (from, to) -> scan(folded, from, to), ParallelScans::concat);
+        }
+
+        Set<Long> queryTrigrams = trigrams(folded);
+        List<int[]> lists = new ArrayList<>(queryTrigrams.size());
+        for (long trigram : queryTrigrams) {
+            int[] positions = postings.get(trigram);
+            if (positions == null) {
+                return NO_POSTINGS;
+            }
+            lists.add(positions);
+        }
+        lists.sort(Comparator.comparingInt(positions -> positions.length));
+
+        int[] candidates = lists.get(0);
+        for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists.get(i));
+        }
+
+        int[] verified = candidates;
+        return scans.reduce(verified.length, (from, to) -> verify(verified, folded, from, to), ParallelScans::concat);
+    }
+
+    /**
+     * @return positions of those of the candidate slots [from, to) whose name contains the folded query
+     */
+    private int[] verify(int[] candidateSlots, String folded, int from, int to) {
+        int[] matches = new int[to - from];
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int position = Arrays.binarySearch(slots, candidateSlots[i]);
+            if (foldedNames[position].contains(folded)) {
+                matches[count++] = position;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * @return positions in [from, to) whose name contains the folded query
+     */
+    private int[] scan(String folded, int from, int to) {
+        int[] matches = new int[to - from];
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (foldedNames[i] != null && foldedNames[i].contains(folded)) {
+                matches[count++] = i;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static Set<Long> trigrams(String folded) {
+        Set<Long> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= folded.length(); i++) {
+            trigrams.add(((long) folded.charAt(i) << 32) | ((long) folded.charAt(i + 1) << 16) | folded.charAt(i + 2));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,103 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.config.EmployeeApiProperties;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived, size-bounded record of employee IDs the Mock Employee API answered with 404,
+ * so repeated probes for the same unknown ID do not cost another upstream request.
+ */
+@Component
+public class NegativeIdCache {
+
+    @Getter
+    private final boolean enabled;
+
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<UUID, Instant> expiries;
+
+    @Autowired
+    public NegativeIdCache(EmployeeApiProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    NegativeIdCache(EmployeeApiProperties properties, Clock clock) {
+        this.enabled = properties.getNegativeCache().isEnabled();
+        this.maxEntries = properties.getNegativeCache().getMaxEntries();
+        this.ttl = properties.getNegativeCache().getTtl();
+        this.clock = clock;
+        this.expiries = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Instant> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @return true if the ID was recently reported missing and has not expired or been invalidated since
+     */
+    public boolean contains(UUID id) {
+        if (!enabled) {
+            return false;
+        }
+        Instant now = clock.instant();
+        lock.lock();
+        try {
+            Instant expiry = expiries.get(id);
+            if (expiry == null) {
+                return false;
+            }
+            if (now.isAfter(expiry)) {
+                expiries.remove(id);
+                return false;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void add(UUID id) {
+        if (!enabled) {
+            return;
+        }
+        Instant expiry = clock.instant().plus(ttl);
+        lock.lock();
+        try {
+            expiries.put(id, expiry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(UUID id) {
+        lock.lock();
+        try {
+            expiries.remove(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            expiries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.config.EmployeeApiProperties;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BinaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs snapshot scans and aggregations on a dedicated fork-join pool once they cover enough rows.
+ * A scan over [0, size) is split in halves down to chunks of at least {@link #MIN_CHUNK} rows, and partial
+ * results are always combined left before right, so the result is exactly that of one sequential pass.
+ * Smaller scans, and every scan when disabled, run on the calling thread. The pool is separate from
+ * the common pool so request-path scans neither queue behind nor starve unrelated parallel work.
+ */
+@Slf4j
+@Component
+public class ParallelScans implements DisposableBean {
+
+    /**
+     * Runs every scan on the calling thread; used where no pool is configured.
+     */
+    static final ParallelScans SEQUENTIAL = new ParallelScans(null, Integer.MAX_VALUE);
+
+    static final int MIN_CHUNK = 8_192;
+
+    /**
+     * Chunks per worker, so uneven chunks can still be balanced by work stealing.
+     */
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    @Autowired
+    public ParallelScans(EmployeeApiProperties properties) {
+        this(newPool(properties.getParallel()), properties.getParallel().getThreshold());
+    }
+
+    ParallelScans(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Scans [0, size) and combines the partial results in range order.
+     *
+     * @param size number of rows to scan
+     * @param slice computes the result for a sub-range [from, to)
+     * @param combine merges the results of two adjacent ranges, the left one first; must be associative
+     * @return the result for the whole range
+     */
+    <R> R reduce(int size, Slice<R> slice, BinaryOperator<R> combine) {
+        if (pool == null || size < threshold) {
+            return slice.apply(0, size);
+        }
+        int chunk = Math.max(MIN_CHUNK, size / (pool.getParallelism() * CHUNKS_PER_WORKER));
+        try {
+            return pool.invoke(new SliceTask<>(slice, combine, 0, size, chunk));
+        } catch (RejectedExecutionException e) {
+            // Only after shutdown; finish on the calling thread.
+            return slice.apply(0, size);
+        }
+    }
+
+    /**
+     * @return the positions of a, then those of b
+     */
+    static int[] concat(int[] a, int[] b) {
+        if (b.length == 0) {
+            return a;
+        }
+        if (a.length == 0) {
+            return b;
+        }
+        int[] joined = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, joined, a.length, b.length);
+        return joined;
+    }
+
+    @Override
+    public void destroy() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    private static ForkJoinPool newPool(EmployeeApiProperties.Parallel properties) {
+        if (!properties.isEnabled()) {
+            log.info("Parallel snapshot scans disabled");
+            return null;
+        }
+        int parallelism = properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        log.info(
+                "Snapshot scans over {} or more rows run on {} fork-join workers",
+                properties.getThreshold(),
+                parallelism);
+        return new ForkJoinPool(
+                parallelism,
+                pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("employee-scan-" + thread.getPoolIndex());
+                    return thread;
+                },
+                null,
+                false);
+    }
+
+    /**
+     * Computes a result for the rows [from, to).
+     */
+    @FunctionalInterface
+    interface Slice<R> {
+
+        R apply(int from, int to);
+    }
+
+    private static final class SliceTask<R> extends RecursiveTask<R> {
+
+        private final Slice<R> slice;
+        private final BinaryOperator<R> combine;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        SliceTask(Slice<R> slice, BinaryOperator<R> combine, int from, int to, int chunk) {
+            this.slice = slice;
+            this.combine = combine;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected R compute() {
+            if (to - from <= chunk) {
+                return slice.apply(from, to);
+            }
+            int middle = (from + to) >>> 1;
+            SliceTask<R> right = new SliceTask<>(slice, combine, middle, to, chunk);
+            right.fork();
+            R left = new SliceTask<>(slice, combine, from, middle, chunk).compute();
+            return combine.apply(left, right.join());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.reliaquest.api.snapshot;
+
+import lombok.Getter;
+
+/**
+ * Read paths served from the employee snapshot, each with its own staleness bounds
+ * under {@code employee.api.cache.endpoints.<key>}.
+ */
+@Getter
+public enum ReadEndpoint {
+    ALL_EMPLOYEES("all-employees"),
+    NAME_SEARCH("name-search"),
+    HIGHEST_SALARY("highest-salary"),
+    TOP_EARNERS("top-earners"),
+    FUZZY_NAME_SEARCH("fuzzy-name-search"),
+    FILTER("filter"),
+    TOP_K("top-k"),
+    SALARY_STATISTICS("salary-statistics"),
+    TITLE_GROUPS("title-groups"),
+    COUNT("count"),
+    SALARY_RANK("salary-rank"),
+    /**
+     * Only consulted to decide whether the snapshot's Bloom filter may reject unknown IDs.
+     */
+    EMPLOYEE_BY_ID("employee-by-id");
+
+    private final String key;
+
+    ReadEndpoint(String key) {
+        this.key = key;
+    }
+}
@@ -0,0 +1,95 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Highest salary and top earners of a snapshot, materialized so both reads are O(1).
+ * Built with a {@link TopK} selection and then maintained incrementally as employees are added or removed.
+ * Ranked by salary descending; equal salaries keep list order, as a stable sort of the list would.
+ * Employees without a salary are not ranked.
+ */
+final class SalaryAggregates {
+
+    static final int TOP_EARNERS = 10;
+
+    private final List<Employee> topEarners;
+    private final List<String> topEarnerNames;
+
+    private SalaryAggregates(List<Employee> topEarners) {
+        this.topEarners = topEarners;
+        this.topEarnerNames = topEarners.stream().map(Employee::getName).toList();
+    }
+
+    static SalaryAggregates of(List<Employee> employees) {
+        return of(employees, IntColumn.of(employees, Employee::getSalary));
+    }
+
+    /**
+     * @param salaries the salary column aligned with the list
+     */
+    static SalaryAggregates of(List<Employee> employees, IntColumn salaries) {
+        int[] positions = TopK.select(salaries, true, TOP_EARNERS);
+        List<Employee> top = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            top.add(employees.get(position));
+        }
+        return new SalaryAggregates(Collections.unmodifiableList(top));
+    }
+
+    int highestSalary() {
+        return topEarners.isEmpty() ? 0 : topEarners.get(0).getSalary();
+    }
+
+    List<String> topEarnerNames() {
+        return topEarnerNames;
+    }
+
+    /**
+     * An appended employee comes last in list order, so it only enters the top set by out-earning its tail.
+     */
+    SalaryAggregates withAdded(Employee employee) {
+        List<Employee> top = new ArrayList<>(TOP_EARNERS + 1);
+        top.addAll(topEarners);
+        return offer(top, employee) ? new SalaryAggregates(Collections.unmodifiableList(top)) : this;
+    }
+
+    /**
+     * Removal keeps the relative order of the remaining employees, so the top set only changes,
+     * and is only recomputed, when the removed employee was part of it.
+     */
+    SalaryAggregates withRemoved(Employee removed, List<Employee> remaining) {
+        for (Employee employee : topEarners) {
+            if (employee == removed) {
+                return of(remaining);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Inserts the employee into the bounded, ranked list if it qualifies.
+     *
+     * @return whether the list changed
+     */
+    private static boolean offer(List<Employee> top, Employee employee) {
+        Integer salary = employee.getSalary();
+        if (salary == null) {
+            return false;
+        }
+        if (top.size() == TOP_EARNERS && salary <= top.get(TOP_EARNERS - 1).getSalary()) {
+            return false;
+        }
+        int position = top.size();
+        while (position > 0 && top.get(position - 1).getSalary() < salary) {
+            position--;
+        }
+        top.add(position, employee);
+        if (top.size() > TOP_EARNERS) {
+            top.remove(TOP_EARNERS);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,125 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.SalaryStatistics;
+
+/**
+ * Salary statistics of a snapshot, computed in one pass over its salary column when the snapshot is built
+ * and then maintained incrementally. Mean and variance use Welford's updates, which can also be reversed
+ * for a removal; percentiles come from a {@link SalaryHistogram}. Employees without a salary are not counted.
+ */
+final class SalaryDistribution {
+
+    private final int count;
+    private final int min;
+    private final int max;
+    private final double mean;
+
+    /**
+     * Sum of squared deviations from the mean.
+     */
+    private final double m2;
+
+    private final SalaryHistogram histogram;
+
+    private SalaryDistribution(int count, int min, int max, double mean, double m2, SalaryHistogram histogram) {
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.mean = mean;
+        this.m2 = m2;
+        this.histogram = histogram;
+    }
+
+    /**
+     * @param salaries the snapshot's salary column
+     */
+    static SalaryDistribution of(IntColumn salaries) {
+        int count = 0;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        double mean = 0;
+        double m2 = 0;
+        SalaryHistogram.Recorder histogram = new SalaryHistogram.Recorder();
+        for (int i = 0; i < salaries.size(); i++) {
+            if (!salaries.isPresent(i)) {
+                continue;
+            }
+            int salary = salaries.get(i);
+            count++;
+            min = Math.min(min, salary);
+            max = Math.max(max, salary);
+            double delta = salary - mean;
+            mean += delta / count;
+            m2 += delta * (salary - mean);
+            histogram.record(salary);
+        }
+        return new SalaryDistribution(count, min, max, mean, m2, histogram.toHistogram());
+    }
+
+    SalaryDistribution withAdded(Employee employee) {
+        Integer boxed = employee.getSalary();
+        if (boxed == null) {
+            return this;
+        }
+        int salary = boxed;
+        int updatedCount = count + 1;
+        double delta = salary - mean;
+        double updatedMean = mean + delta / updatedCount;
+        return new SalaryDistribution(
+                updatedCount,
+                Math.min(min, salary),
+                Math.max(max, salary),
+                updatedMean,
+                m2 + delta * (salary - updatedMean),
+                histogram.withRecorded(salary));
+    }
+
+    /**
+     * Reverses the Welford update for the removed salary. Only when it was the minimum or maximum is
+     * the remaining column scanned, for the new extreme.
+     *
+     * @param remaining the snapshot's salary column without the removed employee
+     */
+    SalaryDistribution withRemoved(Employee removed, IntColumn remaining) {
+        Integer boxed = removed.getSalary();
+        if (boxed == null) {
+            return this;
+        }
+        int salary = boxed;
+        if (count == 1) {
+            return of(remaining);
+        }
+        int updatedCount = count - 1;
+        double updatedMean = mean - (salary - mean) / updatedCount;
+        double updatedM2 = Math.max(0, m2 - (salary - mean) * (salary - updatedMean));
+        boolean extreme = salary == min || salary == max;
+        return new SalaryDistribution(
+                updatedCount,
+                extreme ? remaining.min() : min,
+                extreme ? remaining.max() : max,
+                updatedMean,
+                updatedM2,
+                histogram.withRemoved(salary));
+    }
+
+    SalaryStatistics toStatistics() {
+        if (count == 0) {
+            return SalaryStatistics.builder().count(0).build();
+        }
+        return SalaryStatistics.builder()
+                .count(count)
+                .min(min)
+                .max(max)
+                .mean(mean)
+                .stddev(Math.sqrt(m2 / count))
+                .p50(percentile(50))
+                .p90(percentile(90))
+                .p99(percentile(99))
+                .build();
+    }
+
+    private int percentile(double percentile) {
+        return Math.min(max, Math.max(min, histogram.valueAtPercentile(percentile)));
+    }
+}
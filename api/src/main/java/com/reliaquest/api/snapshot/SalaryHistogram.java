@@ -0,0 +1,104 @@
+package com.reliaquest.api.snapshot;
+
+import java.util.Arrays;
+
+/**
+ * Immutable log-linear histogram of non-negative int values, in the manner of HdrHistogram:
+ * values below 256 get a bucket each, and every power of two above that is split into 128 equal buckets,
+ * so a bucket's width is under 1% of the values it holds. Negative values are counted as 0.
+ * Recording returns a new histogram; the 3,200 counts are copied, independent of the number of values.
+ */
+final class SalaryHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+    private static final int BUCKETS = LINEAR_LIMIT + (Integer.SIZE - 2 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    static final SalaryHistogram EMPTY = new SalaryHistogram(new long[BUCKETS], 0);
+
+    private final long[] counts;
+    private final long total;
+
+    private SalaryHistogram(long[] counts, long total) {
+        this.counts = counts;
+        this.total = total;
+    }
+
+    /**
+     * Records many values into one set of counts, so a histogram can be filled in the same pass that computes
+     * other statistics instead of copying the counts per value.
+     */
+    static final class Recorder {
+
+        private final long[] counts = new long[BUCKETS];
+        private long total;
+
+        void record(int value) {
+            counts[bucketOf(value)]++;
+            total++;
+        }
+
+        /**
+         * Hands the counts over to the histogram; the recorder must not be used afterwards.
+         */
+        SalaryHistogram toHistogram() {
+            return new SalaryHistogram(counts, total);
+        }
+    }
+
+    SalaryHistogram withRecorded(int value) {
+        return withDelta(value, 1);
+    }
+
+    SalaryHistogram withRemoved(int value) {
+        return withDelta(value, -1);
+    }
+
+    long total() {
+        return total;
+    }
+
+    /**
+     * Nearest-rank percentile: the highest value of the bucket holding the value at rank ceil(p * total).
+     *
+     * @param percentile in (0, 100]
+     * @return the value, or 0 if the histogram is empty
+     */
+    int valueAtPercentile(double percentile) {
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return highestValueOf(bucket);
+            }
+        }
+        return 0;
+    }
+
+    private SalaryHistogram withDelta(int value, int delta) {
+        long[] updated = Arrays.copyOf(counts, BUCKETS);
+        updated[bucketOf(value)] += delta;
+        return new SalaryHistogram(updated, total + delta);
+    }
+
+    static int bucketOf(int value) {
+        if (value < LINEAR_LIMIT) {
+            return Math.max(value, 0);
+        }
+        int exponent = 31 - Integer.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (value >>> shift) - SUB_BUCKETS;
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static int highestValueOf(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int shift = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        int subBucket = (bucket - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+        return (int) ((((long) subBucket + 1) << shift) - 1);
+    }
+}
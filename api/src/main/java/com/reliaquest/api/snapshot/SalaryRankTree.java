@@ -0,0 +1,299 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Persistent order-statistic tree of salaried employees, ranked highest salary first with ties in list order.
+ * A treap whose nodes carry subtree sizes: rank, select and count queries take O(log n), and an insert or delete
+ * copies only the O(log n) nodes on its path, sharing the rest with the previous version, so every snapshot
+ * version can keep its own tree. Priorities are a hash of each row's sequence number, so the shape is
+ * deterministic and expected to be balanced.
+ */
+final class SalaryRankTree {
+
+    static final SalaryRankTree EMPTY = new SalaryRankTree(null);
+
+    private final Node root;
+
+    private SalaryRankTree(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Builds the tree in O(n log n) for the sort and O(n) for the treap itself.
+     */
+    static SalaryRankTree of(List<Employee> employees, EmployeeColumns columns) {
+        IntColumn salaries = columns.salaries();
+        long[] packed = new long[salaries.count()];
+        int count = 0;
+        for (int position = 0; position < salaries.size(); position++) {
+            if (salaries.isPresent(position)) {
+                // Complementing the salary sorts the highest first; positions keep ties in list order.
+                packed[count++] = ((long) ~salaries.get(position) << 32) | position;
+            }
+        }
+        Arrays.sort(packed);
+
+        int[] positions = new int[count];
+        int[] priorities = new int[count];
+        for (int i = 0; i < count; i++) {
+            positions[i] = (int) packed[i];
+            priorities[i] = priority(columns.sequence(positions[i]));
+        }
+        return new SalaryRankTree(cartesianTree(employees, columns, positions, priorities));
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * @return this tree with the employee added; unchanged if the employee has no salary
+     */
+    SalaryRankTree withAdded(Employee employee, long sequence) {
+        if (employee.getSalary() == null) {
+            return this;
+        }
+        Node node = new Node(employee, employee.getSalary(), sequence, priority(sequence), null, null);
+        Node[] split = split(root, employee.getSalary(), sequence);
+        return new SalaryRankTree(merge(merge(split[0], node), split[1]));
+    }
+
+    /**
+     * @return this tree without the employee that was added with the given sequence number
+     */
+    SalaryRankTree withRemoved(Employee employee, long sequence) {
+        if (employee.getSalary() == null) {
+            return this;
+        }
+        return new SalaryRankTree(remove(root, employee.getSalary(), sequence));
+    }
+
+    /**
+     * @return the 1-based rank of the employee with this salary and sequence number, or 0 if not in the tree
+     */
+    int rankOf(int salary, long sequence) {
+        int before = 0;
+        Node node = root;
+        while (node != null) {
+            int comparison = compare(salary, sequence, node);
+            if (comparison == 0) {
+                return before + size(node.left) + 1;
+            }
+            if (comparison < 0) {
+                node = node.left;
+            } else {
+                before += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return the number of employees earning strictly more than the salary
+     */
+    int countAbove(int salary) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.salary > salary) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @param rank 1-based rank
+     * @return the employee at that rank, or null if the rank is out of range
+     */
+    Employee select(int rank) {
+        Node node = root;
+        int remaining = rank;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (remaining <= leftSize) {
+                node = node.left;
+            } else if (remaining == leftSize + 1) {
+                return node.employee;
+            } else {
+                remaining -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param from first 1-based rank, inclusive
+     * @param to last 1-based rank, inclusive
+     * @return the employees ranked from..to, in rank order; ranks beyond the tree are skipped
+     */
+    List<Employee> range(int from, int to) {
+        List<Employee> result = new ArrayList<>(Math.max(0, Math.min(to, size()) - from + 1));
+        collect(root, from, to, 0, result);
+        return result;
+    }
+
+    private static void collect(Node node, int from, int to, int before, List<Employee> result) {
+        if (node == null) {
+            return;
+        }
+        int rank = before + size(node.left) + 1;
+        if (from < rank) {
+            collect(node.left, from, to, before, result);
+        }
+        if (from <= rank && rank <= to) {
+            result.add(node.employee);
+        }
+        if (rank < to) {
+            collect(node.right, from, to, rank, result);
+        }
+    }
+
+    /**
+     * Orders by salary descending, then sequence ascending.
+     */
+    private static int compare(int salary, long sequence, Node node) {
+        if (salary != node.salary) {
+            return salary > node.salary ? -1 : 1;
+        }
+        return Long.compare(sequence, node.sequence);
+    }
+
+    /**
+     * @return nodes ordered before the key, and the rest
+     */
+    private static Node[] split(Node node, int salary, long sequence) {
+        if (node == null) {
+            return new Node[2];
+        }
+        if (compare(salary, sequence, node) <= 0) {
+            Node[] split = split(node.left, salary, sequence);
+            return new Node[] {split[0], node.withChildren(split[1], node.right)};
+        }
+        Node[] split = split(node.right, salary, sequence);
+        return new Node[] {node.withChildren(node.left, split[0]), split[1]};
+    }
+
+    /**
+     * Joins two trees where every key of the first orders before every key of the second.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority >= right.priority) {
+            return left.withChildren(left.left, merge(left.right, right));
+        }
+        return right.withChildren(merge(left, right.left), right.right);
+    }
+
+    private static Node remove(Node node, int salary, long sequence) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compare(salary, sequence, node);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        }
+        if (comparison < 0) {
+            Node left = remove(node.left, salary, sequence);
+            return left == node.left ? node : node.withChildren(left, node.right);
+        }
+        Node right = remove(node.right, salary, sequence);
+        return right == node.right ? node : node.withChildren(node.left, right);
+    }
+
+    /**
+     * Builds the treap over nodes already in key order with a stack along its right spine,
+     * then materializes the immutable nodes bottom-up.
+     */
+    private static Node cartesianTree(
+            List<Employee> employees, EmployeeColumns columns, int[] positions, int[] priorities) {
+        int count = positions.length;
+        int[] left = new int[count];
+        int[] right = new int[count];
+        Arrays.fill(left, -1);
+        Arrays.fill(right, -1);
+        int[] spine = new int[count];
+        int depth = 0;
+        for (int i = 0; i < count; i++) {
+            int last = -1;
+            while (depth > 0 && priorities[spine[depth - 1]] < priorities[i]) {
+                last = spine[--depth];
+            }
+            left[i] = last;
+            if (depth > 0) {
+                right[spine[depth - 1]] = i;
+            }
+            spine[depth++] = i;
+        }
+        return depth == 0 ? null : materialize(spine[0], employees, columns, positions, left, right);
+    }
+
+    private static Node materialize(
+            int i, List<Employee> employees, EmployeeColumns columns, int[] positions, int[] left, int[] right) {
+        if (i < 0) {
+            return null;
+        }
+        int position = positions[i];
+        long sequence = columns.sequence(position);
+        return new Node(
+                employees.get(position),
+                columns.salaries().get(position),
+                sequence,
+                priority(sequence),
+                materialize(left[i], employees, columns, positions, left, right),
+                materialize(right[i], employees, columns, positions, left, right));
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * SplitMix64 finalizer, so consecutive sequence numbers get unrelated priorities.
+     */
+    private static int priority(long sequence) {
+        long z = sequence + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return (int) (z ^ (z >>> 31));
+    }
+
+    private static final class Node {
+
+        private final Employee employee;
+        private final int salary;
+        private final long sequence;
+        private final int priority;
+        private final Node left;
+        private final Node right;
+        private final int size;
+
+        Node(Employee employee, int salary, long sequence, int priority, Node left, Node right) {
+            this.employee = employee;
+            this.salary = salary;
+            this.sequence = sequence;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+        }
+
+        Node withChildren(Node newLeft, Node newRight) {
+            return new Node(employee, salary, sequence, priority, newLeft, newRight);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.api.snapshot;
+
+/**
+ * Plain loops, used when the Vector API is not available.
+ */
+final class ScalarColumnKernels implements ColumnKernels {
+
+    @Override
+    public int max(int[] values, boolean[] present, int from, int to) {
+        int result = Integer.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            if (present == null || present[i]) {
+                result = Math.max(result, values[i]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int min(int[] values, boolean[] present, int from, int to) {
+        int result = Integer.MAX_VALUE;
+        for (int i = from; i < to; i++) {
+            if (present == null || present[i]) {
+                result = Math.min(result, values[i]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long sum(int[] values, boolean[] present, int from, int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            if (present == null || present[i]) {
+                result += values[i];
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int count(boolean[] present, int from, int to) {
+        if (present == null) {
+            return to - from;
+        }
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            if (present[i]) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int countInRange(int[] values, boolean[] present, int from, int to, int min, int max) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            if ((present == null || present[i]) && values[i] >= min && values[i] <= max) {
+                result++;
+            }
+        }
+        return result;
+    }
+}
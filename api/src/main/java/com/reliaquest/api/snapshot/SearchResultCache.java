@@ -0,0 +1,137 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.config.EmployeeApiProperties;
+import com.reliaquest.api.model.Employee;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Size-bounded LRU cache of name search results, keyed by the case-folded query and the snapshot version.
+ * Search ignores case, so queries differing only in case share an entry. Once a newer snapshot is searched,
+ * every entry of older versions is dropped; lookups against an older snapshot bypass the cache.
+ */
+@Component
+public class SearchResultCache {
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Key, List<Employee>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Version every cached entry belongs to; only accessed while holding lock.
+     */
+    private long version = Long.MIN_VALUE;
+
+    @Autowired
+    public SearchResultCache(EmployeeApiProperties properties) {
+        this.enabled = properties.getSearchCache().isEnabled();
+        this.maxEntries = properties.getSearchCache().getMaxEntries();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, List<Employee>> eldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached result for the query against the snapshot, computing and caching it on a miss.
+     * The search runs outside the lock, so concurrent misses for the same query may both compute it.
+     *
+     * @param snapshot the snapshot being searched
+     * @param query the name fragment
+     * @param search runs the search against the snapshot
+     * @return the unmodifiable result
+     */
+    public List<Employee> get(EmployeeSnapshot snapshot, String query, Function<String, List<Employee>> search) {
+        if (!enabled) {
+            return search.apply(query);
+        }
+        Key key = new Key(query.toLowerCase(), snapshot.getVersion());
+        lock.lock();
+        try {
+            if (advanceTo(key.version())) {
+                List<Employee> cached = entries.get(key);
+                if (cached != null) {
+                    hits.increment();
+                    return cached;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        misses.increment();
+        List<Employee> result = Collections.unmodifiableList(search.apply(query));
+        lock.lock();
+        try {
+            if (advanceTo(key.version())) {
+                entries.put(key, result);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return result;
+    }
+
+    /**
+     * Drops every entry when a newer snapshot version shows up.
+     *
+     * @return false if the version is older than the cached one, in which case the cache must not be used
+     */
+    private boolean advanceTo(long snapshotVersion) {
+        if (snapshotVersion > version) {
+            entries.clear();
+            version = snapshotVersion;
+        }
+        return snapshotVersion == version;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return hits over lookups since startup, or 0 before the first lookup
+     */
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Key(String foldedQuery, long version) {}
+}
@@ -0,0 +1,156 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.TitleGroup;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Per-title headcount and salary aggregates of a snapshot, read as a table rather than grouped per request.
+ * Titles are dictionary-encoded by the snapshot's {@link EmployeeColumns}: each distinct title is stored once
+ * and its int code indexes parallel primitive accumulators. Maintained incrementally on create and delete;
+ * codes are never reused, so a title whose last employee is removed keeps its code with a zero headcount
+ * and is not reported. Titles are grouped ignoring case, as the filter endpoint matches them, under the
+ * spelling first seen; employees without a title are not grouped.
+ */
+final class TitleAggregates {
+
+    private final TitleDictionary titles;
+    private final int[] headcounts;
+    private final int[] salaryCounts;
+    private final long[] salarySums;
+    private final int[] minSalaries;
+    private final int[] maxSalaries;
+
+    private TitleAggregates(
+            TitleDictionary titles,
+            int[] headcounts,
+            int[] salaryCounts,
+            long[] salarySums,
+            int[] minSalaries,
+            int[] maxSalaries) {
+        this.titles = titles;
+        this.headcounts = headcounts;
+        this.salaryCounts = salaryCounts;
+        this.salarySums = salarySums;
+        this.minSalaries = minSalaries;
+        this.maxSalaries = maxSalaries;
+    }
+
+    static TitleAggregates of(EmployeeColumns columns) {
+        int size = columns.titles().size();
+        int[] minSalaries = new int[size];
+        int[] maxSalaries = new int[size];
+        Arrays.fill(minSalaries, Integer.MAX_VALUE);
+        Arrays.fill(maxSalaries, Integer.MIN_VALUE);
+        TitleAggregates aggregates = new TitleAggregates(
+                columns.titles(), new int[size], new int[size], new long[size], minSalaries, maxSalaries);
+        for (int position = 0; position < columns.size(); position++) {
+            aggregates.accumulate(columns, position);
+        }
+        return aggregates;
+    }
+
+    /**
+     * @return one group per title with at least one employee, ordered by title
+     */
+    List<TitleGroup> groups() {
+        List<TitleGroup> groups = new ArrayList<>(titles.size());
+        for (int code = 0; code < titles.size(); code++) {
+            if (headcounts[code] == 0) {
+                continue;
+            }
+            boolean salaried = salaryCounts[code] > 0;
+            groups.add(TitleGroup.builder()
+                    .title(titles.title(code))
+                    .headcount(headcounts[code])
+                    .minSalary(salaried ? minSalaries[code] : null)
+                    .maxSalary(salaried ? maxSalaries[code] : null)
+                    .averageSalary(salaried ? (double) salarySums[code] / salaryCounts[code] : null)
+                    .build());
+        }
+        groups.sort(Comparator.comparing(TitleGroup::getTitle));
+        return groups;
+    }
+
+    /**
+     * @param updated the snapshot's columns with the new employee appended as their last row
+     */
+    TitleAggregates withAdded(EmployeeColumns updated) {
+        int position = updated.size() - 1;
+        if (updated.titleCode(position) == TitleDictionary.NO_TITLE) {
+            return this;
+        }
+        TitleAggregates aggregates = copy(updated.titles());
+        aggregates.accumulate(updated, position);
+        return aggregates;
+    }
+
+    /**
+     * Subtracts the removed employee from its title's accumulators. Only when its salary was that title's
+     * minimum or maximum are the remaining rows scanned, for the new extreme.
+     *
+     * @param remaining the snapshot's columns without the removed employee
+     */
+    TitleAggregates withRemoved(Employee removed, EmployeeColumns remaining) {
+        int code = titles.codeOf(removed.getTitle());
+        if (code == TitleDictionary.NO_TITLE) {
+            return this;
+        }
+        TitleAggregates updated = copy(titles);
+        updated.headcounts[code]--;
+        Integer salary = removed.getSalary();
+        if (salary != null) {
+            updated.salaryCounts[code]--;
+            updated.salarySums[code] -= salary;
+            if (salary == minSalaries[code] || salary == maxSalaries[code]) {
+                updated.minSalaries[code] = Integer.MAX_VALUE;
+                updated.maxSalaries[code] = Integer.MIN_VALUE;
+                IntColumn salaries = remaining.salaries();
+                for (int position = 0; position < remaining.size(); position++) {
+                    if (remaining.titleCode(position) == code && salaries.isPresent(position)) {
+                        updated.minSalaries[code] = Math.min(updated.minSalaries[code], salaries.get(position));
+                        updated.maxSalaries[code] = Math.max(updated.maxSalaries[code], salaries.get(position));
+                    }
+                }
+            }
+        }
+        return updated;
+    }
+
+    private void accumulate(EmployeeColumns columns, int position) {
+        int code = columns.titleCode(position);
+        if (code == TitleDictionary.NO_TITLE) {
+            return;
+        }
+        headcounts[code]++;
+        IntColumn salaries = columns.salaries();
+        if (salaries.isPresent(position)) {
+            int salary = salaries.get(position);
+            salaryCounts[code]++;
+            salarySums[code] += salary;
+            minSalaries[code] = Math.min(minSalaries[code], salary);
+            maxSalaries[code] = Math.max(maxSalaries[code], salary);
+        }
+    }
+
+    /**
+     * Copies the accumulators, growing them to the given dictionary's size.
+     */
+    private TitleAggregates copy(TitleDictionary updatedTitles) {
+        int size = updatedTitles.size();
+        int[] updatedMin = Arrays.copyOf(minSalaries, size);
+        int[] updatedMax = Arrays.copyOf(maxSalaries, size);
+        Arrays.fill(updatedMin, titles.size(), size, Integer.MAX_VALUE);
+        Arrays.fill(updatedMax, titles.size(), size, Integer.MIN_VALUE);
+        return new TitleAggregates(
+                updatedTitles,
+                Arrays.copyOf(headcounts, size),
+                Arrays.copyOf(salaryCounts, size),
+                Arrays.copyOf(salarySums, size),
+                updatedMin,
+                updatedMax);
+    }
+}
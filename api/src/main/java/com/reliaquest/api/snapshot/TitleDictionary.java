@@ -0,0 +1,79 @@
+package com.reliaquest.api.snapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable dictionary encoding of job titles: each distinct title is stored once and given the next int code.
+ * Codes are never reused, so a code stays valid for every later version of a snapshot. Titles that differ only
+ * in case share a code and read back as first seen, so grouping and filtering by title agree on what one title is.
+ */
+final class TitleDictionary {
+
+    static final int NO_TITLE = -1;
+
+    private final String[] titles;
+    private final Map<String, Integer> codes;
+
+    private TitleDictionary(String[] titles, Map<String, Integer> codes) {
+        this.titles = titles;
+        this.codes = codes;
+    }
+
+    /**
+     * @param titles titles in the order they are first seen; nulls and repeats are skipped
+     */
+    static TitleDictionary of(List<String> titles) {
+        Map<String, Integer> codes = new HashMap<>();
+        List<String> byCode = new ArrayList<>();
+        for (String title : titles) {
+            if (title != null && codes.putIfAbsent(fold(title), codes.size()) == null) {
+                byCode.add(title);
+            }
+        }
+        return new TitleDictionary(byCode.toArray(String[]::new), codes);
+    }
+
+    /**
+     * @return a dictionary that also encodes the title; this one if it already does or the title is null
+     */
+    TitleDictionary with(String title) {
+        if (title == null || codes.containsKey(fold(title))) {
+            return this;
+        }
+        Map<String, Integer> updatedCodes = new HashMap<>(codes);
+        updatedCodes.put(fold(title), titles.length);
+        String[] updatedTitles = Arrays.copyOf(titles, titles.length + 1);
+        updatedTitles[titles.length] = title;
+        return new TitleDictionary(updatedTitles, updatedCodes);
+    }
+
+    /**
+     * @return the title's code, or {@link #NO_TITLE} if it is null or not encoded
+     */
+    int codeOf(String title) {
+        if (title == null) {
+            return NO_TITLE;
+        }
+        return codes.getOrDefault(fold(title), NO_TITLE);
+    }
+
+    /**
+     * @return the title as first seen among those sharing its code
+     */
+    String title(int code) {
+        return titles[code];
+    }
+
+    int size() {
+        return titles.length;
+    }
+
+    private static String fold(String title) {
+        return title.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,154 @@
+package com.reliaquest.api.snapshot;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Selects the positions of the k best employees by a numeric attribute, best first.
+ * Equal values keep list order, as a stable sort would. Employees without the attribute are never selected.
+ * Values and positions are packed into one long per candidate so that a larger long is always the better
+ * candidate; selection is a bounded min-heap over those longs, O(n log k) with no boxing or comparator.
+ */
+final class TopK {
+
+    private static final long POSITION_MASK = 0xFFFFFFFFL;
+
+    private TopK() {}
+
+    static int[] select(List<Employee> employees, Function<Employee, Integer> attribute, boolean descending, int k) {
+        return select(IntColumn.of(employees, attribute), descending, k);
+    }
+
+    static int[] select(IntColumn column, boolean descending, int k) {
+        return select(column, descending, k, ParallelScans.SEQUENTIAL);
+    }
+
+    /**
+     * Scans the column with a bounded heap per range, then keeps the k best of the ranges' candidates.
+     * Keys are unique, so the merged result is the same however the column was split.
+     */
+    static int[] select(IntColumn column, boolean descending, int k, ParallelScans scans) {
+        long[] best = scans.reduce(
+                column.size(), (from, to) -> best(column, descending, k, from, to), (a, b) -> merge(a, b, k));
+        int[] positions = new int[best.length];
+        for (int i = 0; i < best.length; i++) {
+            positions[i] = unpackPosition(best[i]);
+        }
+        return positions;
+    }
+
+    /**
+     * @return keys of the k best candidates in [from, to), best first
+     */
+    private static long[] best(IntColumn column, boolean descending, int k, int from, int to) {
+        long[] heap = new long[Math.min(k, to - from)];
+        int size = 0;
+        for (int position = from; position < to && heap.length > 0; position++) {
+            if (!column.isPresent(position)) {
+                continue;
+            }
+            long key = pack(column.get(position), position, descending);
+            if (size < heap.length) {
+                heap[size] = key;
+                siftUp(heap, size++);
+            } else if (key > heap[0]) {
+                heap[0] = key;
+                siftDown(heap, size);
+            }
+        }
+
+        long[] best = Arrays.copyOf(heap, size);
+        Arrays.sort(best);
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            long swap = best[i];
+            best[i] = best[j];
+            best[j] = swap;
+        }
+        return best;
+    }
+
+    /**
+     * @return the k largest keys of two arrays sorted largest first, largest first
+     */
+    private static long[] merge(long[] a, long[] b, int k) {
+        long[] merged = new long[Math.min(k, a.length + b.length)];
+        int i = 0;
+        int j = 0;
+        for (int m = 0; m < merged.length; m++) {
+            merged[m] = j == b.length || (i < a.length && a[i] > b[j]) ? a[i++] : b[j++];
+        }
+        return merged;
+    }
+
+    /**
+     * Reads the k best from a column already sorted by (value, position) ascending, without a scan.
+     *
+     * @param values sorted values
+     * @param positions the position of each value
+     */
+    static int[] fromSorted(int[] values, int[] positions, boolean descending, int k) {
+        int[] result = new int[Math.min(k, values.length)];
+        if (!descending) {
+            System.arraycopy(positions, 0, result, 0, result.length);
+            return result;
+        }
+        // Walk runs of equal values from the top; within a run positions ascend, matching list order.
+        int count = 0;
+        int runEnd = values.length;
+        while (count < result.length) {
+            int runStart = runEnd - 1;
+            while (runStart > 0 && values[runStart - 1] == values[runEnd - 1]) {
+                runStart--;
+            }
+            for (int i = runStart; i < runEnd && count < result.length; i++) {
+                result[count++] = positions[i];
+            }
+            runEnd = runStart;
+        }
+        return result;
+    }
+
+    private static long pack(int value, int position, boolean descending) {
+        int ranked = descending ? value : ~value;
+        return ((long) ranked << 32) | (POSITION_MASK - position);
+    }
+
+    private static int unpackPosition(long key) {
+        return (int) (POSITION_MASK - (key & POSITION_MASK));
+    }
+
+    private static void siftUp(long[] heap, int index) {
+        long key = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= key) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = key;
+    }
+
+    private static void siftDown(long[] heap, int size) {
+        long key = heap[0];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (key <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = key;
+    }
+}
@@ -0,0 +1,102 @@
+package com.reliaquest.api.snapshot;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Immutable Bloom filter over employee UUIDs.
+ * {@link #mightContain(UUID)} never returns false for an added ID, so a negative answer proves absence.
+ */
+public final class UuidBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final long[] words;
+    private final int numBits;
+    private final int numHashes;
+
+    private UuidBloomFilter(long[] words, int numBits, int numHashes) {
+        this.words = words;
+        this.numBits = numBits;
+        this.numHashes = numHashes;
+    }
+
+    /**
+     * Builds a filter sized for the given IDs at the requested false-positive rate.
+     *
+     * @param ids the IDs to add
+     * @param falsePositiveRate target probability of {@link #mightContain(UUID)} returning true for an absent ID
+     * @return the filter
+     */
+    public static UuidBloomFilter of(Collection<UUID> ids, double falsePositiveRate) {
+        int expected = Math.max(ids.size(), 1);
+        long bits = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int numBits = (int) Math.min(Math.max(bits, Long.SIZE), Integer.MAX_VALUE - Long.SIZE);
+        int numHashes = Math.max(1, (int) Math.round((double) numBits / expected * LN2));
+
+        long[] words = new long[(numBits + Long.SIZE - 1) / Long.SIZE];
+        UuidBloomFilter filter = new UuidBloomFilter(words, numBits, numHashes);
+        for (UUID id : ids) {
+            filter.set(id);
+        }
+        return filter;
+    }
+
+    public boolean mightContain(UUID id) {
+        long h1 = hash1(id);
+        long h2 = hash2(id);
+        for (int i = 0; i < numHashes; i++) {
+            int bit = bitIndex(h1, h2, i);
+            if ((words[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return a copy of this filter with the ID added; this filter is left unchanged
+     */
+    public UuidBloomFilter withAdded(UUID id) {
+        UuidBloomFilter copy = new UuidBloomFilter(Arrays.copyOf(words, words.length), numBits, numHashes);
+        copy.set(id);
+        return copy;
+    }
+
+    private void set(UUID id) {
+        long h1 = hash1(id);
+        long h2 = hash2(id);
+        for (int i = 0; i < numHashes; i++) {
+            int bit = bitIndex(h1, h2, i);
+            words[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Kirsch-Mitzenmacher double hashing: the i-th probe is h1 + i * h2.
+     */
+    private int bitIndex(long h1, long h2, int i) {
+        return (int) Long.remainderUnsigned(h1 + i * h2, numBits);
+    }
+
+    private static long hash1(UUID id) {
+        return mix(id.getMostSignificantBits() ^ id.getLeastSignificantBits());
+    }
+
+    private static long hash2(UUID id) {
+        return mix(id.getLeastSignificantBits() + 0x9E3779B97F4A7C15L) | 1;
+    }
+
+    /**
+     * MurmurHash3 64-bit finalizer.
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
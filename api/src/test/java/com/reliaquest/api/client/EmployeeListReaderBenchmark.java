@@ -0,0 +1,120 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Compares binding the full list to an ApiResponse and copying it, as the snapshot used to, with streaming it
+ * through {@link EmployeeListReader}: time and bytes allocated per parse of a 250k employee response.
+ * Run with {@code ./gradlew :api:benchmark}; skipped by the test task.
+ */
+@Tag("benchmark")
+class EmployeeListReaderBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeListReaderBenchmark.class);
+
+    private static final int EMPLOYEES = 250_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final TypeReference<ApiResponse<List<Employee>>> EMPLOYEE_LIST = new TypeReference<>() {};
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+    private final EmployeeListReader reader = new EmployeeListReader(mapper);
+
+    @Test
+    @DisplayName("full list: bind to ApiResponse and copy vs stream the data array")
+    void streamVsBind() throws IOException {
+        byte[] body = mapper.writeValueAsBytes(new ApiResponse<>(employees(), "Successfully processed request.", null));
+
+        List<Employee> expected = bind(body);
+        assertEquals(expected, stream(body));
+
+        Measurement bound = measure("bind and copy", body, this::bind);
+        Measurement streamed = measure("stream", body, this::stream);
+        log.info(
+                "{} employees ({} KB): bind and copy {}ms / {} MB allocated, stream {}ms / {} MB allocated",
+                EMPLOYEES,
+                body.length / 1_024,
+                bound.nanos() / 1_000_000,
+                bound.allocatedBytes() / (1_024 * 1_024),
+                streamed.nanos() / 1_000_000,
+                streamed.allocatedBytes() / (1_024 * 1_024));
+    }
+
+    private List<Employee> bind(byte[] body) throws IOException {
+        return new ArrayList<>(mapper.readValue(body, EMPLOYEE_LIST).getData());
+    }
+
+    private List<Employee> stream(byte[] body) throws IOException {
+        try (JsonParser parser = mapper.createParser(new ByteArrayInputStream(body))) {
+            return reader.read(parser);
+        }
+    }
+
+    private static List<Employee> employees() {
+        Random random = new Random(23);
+        List<Employee> employees = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(Employee.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .name("Employee " + i)
+                    .salary(30_000 + random.nextInt(470_000))
+                    .age(18 + random.nextInt(50))
+                    .title("Title " + random.nextInt(200))
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        return employees;
+    }
+
+    /**
+     * @return median nanoseconds and median bytes allocated by the calling thread per run
+     */
+    private static Measurement measure(String name, byte[] body, Parse parse) throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            assertEquals(EMPLOYEES, parse.run(body).size());
+        }
+        long[] nanos = new long[MEASURED_ROUNDS];
+        long[] allocated = new long[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            int size = parse.run(body).size();
+            nanos[i] = System.nanoTime() - start;
+            allocated[i] = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+            assertEquals(EMPLOYEES, size);
+        }
+        Arrays.sort(nanos);
+        Arrays.sort(allocated);
+        log.info("{}: median {}ms, min {}ms", name, nanos[MEASURED_ROUNDS / 2] / 1_000_000, nanos[0] / 1_000_000);
+        return new Measurement(nanos[MEASURED_ROUNDS / 2], allocated[MEASURED_ROUNDS / 2]);
+    }
+
+    @FunctionalInterface
+    private interface Parse {
+        List<Employee> run(byte[] body) throws IOException;
+    }
+
+    private record Measurement(long nanos, long allocatedBytes) {}
+}
@@ -0,0 +1,119 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+class EmployeeListReaderTest {
+
+    private static final String URL = "http://localhost:8112/api/v1/employee";
+    private static final String JOHN = "{\"id\":\"4a3a170b-22cd-4ac2-aad1-9bb5b34a1507\","
+            + "\"employee_name\":\"John Doe\",\"employee_salary\":50000,\"employee_age\":30,"
+            + "\"employee_title\":\"Engineer\",\"employee_email\":\"john@company.com\"}";
+    private static final String JANE = "{\"id\":\"5255f1a5-f9f7-4be5-829a-134bde088d17\","
+            + "\"employee_name\":\"Jane Smith\",\"employee_salary\":null,"
+            + "\"employee_badge\":{\"floor\":3,\"doors\":[1,2]}}";
+
+    private EmployeeListReader reader;
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        reader = new EmployeeListReader(Jackson2ObjectMapperBuilder.json().build());
+        restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    private List<Employee> fetch(String body) {
+        server.expect(requestTo(URL))
+                .andExpect(header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+        List<Employee> employees = restTemplate.execute(URL, HttpMethod.GET, reader, reader);
+        server.verify();
+        return employees;
+    }
+
+    @Test
+    @DisplayName("should bind every employee of the data array and skip the other fields")
+    void shouldReadDataArray() {
+        List<Employee> employees = fetch("{\"status\":\"Successfully processed request.\",\"meta\":{\"pages\":[1]},"
+                + "\"data\":[" + JOHN + "," + JANE + "],\"error\":null}");
+
+        assertEquals(2, employees.size());
+        Employee john = employees.get(0);
+        assertEquals(UUID.fromString("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507"), john.getId());
+        assertEquals("John Doe", john.getName());
+        assertEquals(50000, john.getSalary());
+        assertEquals(30, john.getAge());
+        assertEquals("Engineer", john.getTitle());
+        assertEquals("john@company.com", john.getEmail());
+        assertEquals("Jane Smith", employees.get(1).getName());
+        assertNull(employees.get(1).getSalary());
+    }
+
+    @Test
+    @DisplayName("should return an empty list for an empty data array")
+    void shouldReadEmptyArray() {
+        assertEquals(List.of(), fetch("{\"data\":[],\"status\":\"Successfully processed request.\"}"));
+    }
+
+    @Test
+    @DisplayName("should return null when the response has no data")
+    void shouldReturnNullWithoutData() {
+        assertNull(fetch("{\"data\":null,\"status\":\"Failed to process request.\",\"error\":\"boom\"}"));
+        server.reset();
+        assertNull(fetch("{\"status\":\"Failed to process request.\"}"));
+        server.reset();
+        assertNull(fetch(""));
+    }
+
+    @Test
+    @DisplayName("should reject a data field that is not an array")
+    void shouldRejectNonArrayData() {
+        RestClientException error = assertThrows(RestClientException.class, () -> fetch("{\"data\":" + JOHN + "}"));
+
+        assertTrue(error.getMessage().contains("START_ARRAY"), error.getMessage());
+    }
+
+    @Test
+    @DisplayName("should reject a body that ends inside the data array")
+    void shouldRejectTruncatedArray() {
+        assertThrows(RestClientException.class, () -> fetch("{\"data\":[" + JOHN));
+    }
+
+    @Test
+    @DisplayName("should parse gzipped responses as they are inflated")
+    void shouldReadGzippedResponse() throws IOException {
+        restTemplate.getInterceptors().add(new UpstreamCompression(true));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(("{\"data\":[" + JOHN + "," + JANE + "]}").getBytes(StandardCharsets.UTF_8));
+        }
+        server.expect(requestTo(URL))
+                .andRespond(withSuccess(bytes.toByteArray(), MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip"));
+
+        List<Employee> employees = restTemplate.execute(URL, HttpMethod.GET, reader, reader);
+
+        assertEquals(List.of("John Doe", "Jane Smith"), employees.stream().map(Employee::getName).toList());
+    }
+}
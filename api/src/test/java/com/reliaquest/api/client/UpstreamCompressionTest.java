@@ -0,0 +1,119 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+class UpstreamCompressionTest {
+
+    private static final String URL = "http://localhost:8112/api/v1/employee";
+    private static final String BODY = "{\"data\":[{\"id\":\"4a3a170b-22cd-4ac2-aad1-9bb5b34a1507\","
+            + "\"employee_name\":\"John Doe\",\"employee_salary\":50000}],"
+            + "\"status\":\"Successfully processed request.\"}";
+
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<Employee> fetch() {
+        ApiResponse<List<Employee>> response = restTemplate
+                .exchange(URL, HttpMethod.GET, null, new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {})
+                .getBody();
+        return response.getData();
+    }
+
+    @Test
+    @DisplayName("should request gzip and inflate the response while parsing it")
+    void shouldNegotiateAndInflateGzip() throws IOException {
+        UpstreamCompression compression = new UpstreamCompression(true);
+        restTemplate.getInterceptors().add(compression);
+        byte[] compressed = gzip(BODY);
+        server.expect(requestTo(URL))
+                .andExpect(header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andRespond(withSuccess(compressed, MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip"));
+
+        List<Employee> employees = fetch();
+
+        assertEquals("John Doe", employees.get(0).getName());
+        assertEquals(1, compression.getResponses());
+        assertEquals(1, compression.getCompressedResponses());
+        assertEquals(compressed.length, compression.getWireBytes());
+        assertEquals(BODY.getBytes(StandardCharsets.UTF_8).length, compression.getDecodedBytes());
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("should pass an empty body labelled gzip through instead of failing on the missing header")
+    void shouldPassEmptyGzipBodyThrough() {
+        UpstreamCompression compression = new UpstreamCompression(true);
+        restTemplate.getInterceptors().add(compression);
+        server.expect(requestTo(URL))
+                .andExpect(method(HttpMethod.DELETE))
+                .andRespond(withSuccess().header(HttpHeaders.CONTENT_ENCODING, "gzip"));
+
+        ResponseEntity<String> response = restTemplate.exchange(URL, HttpMethod.DELETE, null, String.class);
+
+        assertNull(response.getBody());
+        assertEquals(1, compression.getCompressedResponses());
+        assertEquals(0, compression.getWireBytes());
+        assertEquals(0, compression.getDecodedBytes());
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("should pass uncompressed responses through and count them once")
+    void shouldPassPlainResponsesThrough() {
+        UpstreamCompression compression = new UpstreamCompression(true);
+        restTemplate.getInterceptors().add(compression);
+        server.expect(requestTo(URL)).andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON));
+
+        assertEquals("John Doe", fetch().get(0).getName());
+        assertEquals(0, compression.getCompressedResponses());
+        assertEquals(compression.getWireBytes(), compression.getDecodedBytes());
+        assertEquals(BODY.getBytes(StandardCharsets.UTF_8).length, compression.getWireBytes());
+    }
+
+    @Test
+    @DisplayName("should not ask for gzip when disabled")
+    void shouldNotNegotiateWhenDisabled() {
+        restTemplate.getInterceptors().add(new UpstreamCompression(false));
+        server.expect(requestTo(URL))
+                .andExpect(headerDoesNotExist(HttpHeaders.ACCEPT_ENCODING))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON));
+
+        assertEquals(1, fetch().size());
+        server.verify();
+    }
+}
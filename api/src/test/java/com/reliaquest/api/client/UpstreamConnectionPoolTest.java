@@ -0,0 +1,55 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.EmployeeApiProperties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UpstreamConnectionPoolTest {
+
+    private static final HttpRoute ROUTE = new HttpRoute(new HttpHost("localhost", 8112));
+
+    @Test
+    @DisplayName("should size the pool from employee.api.http-client")
+    void shouldApplyLimits() throws Exception {
+        EmployeeApiProperties.HttpClient properties = new EmployeeApiProperties.HttpClient();
+        properties.setMaxTotal(7);
+        properties.setMaxPerRoute(3);
+
+        try (UpstreamConnectionPool pool = new UpstreamConnectionPool(properties)) {
+            assertEquals(7, pool.getMaxTotal());
+            assertEquals(3, pool.getDefaultMaxPerRoute());
+        }
+    }
+
+    @Test
+    @DisplayName("should count lease requests, wait time and lease timeouts")
+    void shouldRecordLeaseStatistics() throws Exception {
+        EmployeeApiProperties.HttpClient properties = new EmployeeApiProperties.HttpClient();
+        properties.setMaxPerRoute(1);
+
+        try (UpstreamConnectionPool pool = new UpstreamConnectionPool(properties)) {
+            ConnectionEndpoint endpoint =
+                    pool.lease("first", ROUTE, Timeout.ofSeconds(1), null).get(Timeout.ofSeconds(1));
+            assertEquals(1, pool.getLeased());
+
+            LeaseRequest second = pool.lease("second", ROUTE, Timeout.ofMilliseconds(50), null);
+            assertThrows(TimeoutException.class, () -> second.get(Timeout.ofMilliseconds(50)));
+
+            pool.release(endpoint, null, TimeValue.ZERO_MILLISECONDS);
+            assertEquals(0, pool.getLeased());
+            assertEquals(2, pool.getLeaseRequests());
+            assertEquals(1, pool.getLeaseTimeouts());
+            assertTrue(pool.getLeaseWaitNanos() >= TimeUnit.MILLISECONDS.toNanos(50));
+        }
+    }
+}
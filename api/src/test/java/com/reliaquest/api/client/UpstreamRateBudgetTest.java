@@ -0,0 +1,57 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.EmployeeApiProperties;
+import com.reliaquest.api.snapshot.MutableClock;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UpstreamRateBudgetTest {
+
+    private MutableClock clock;
+    private UpstreamRateBudget rateBudget;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        EmployeeApiProperties properties = new EmployeeApiProperties();
+        properties.getRefresh().setAssumedRequestsPerWindow(10);
+        properties.getRefresh().setAssumedWindow(Duration.ofSeconds(60));
+        rateBudget = new UpstreamRateBudget(properties, clock);
+    }
+
+    @Test
+    @DisplayName("should space requests by the assumed budget before any throttle")
+    void shouldUseAssumedBudget() {
+        assertEquals(Duration.ofSeconds(6), rateBudget.intervalFor(1.0));
+        assertEquals(Duration.ofSeconds(30), rateBudget.intervalFor(0.2));
+        assertFalse(rateBudget.isThrottled());
+    }
+
+    @Test
+    @DisplayName("should learn requests per window and window length from a 429")
+    void shouldLearnFromThrottle() {
+        for (int i = 0; i < 20; i++) {
+            rateBudget.recordAccepted();
+        }
+        rateBudget.recordThrottled();
+        rateBudget.recordThrottled();
+
+        assertTrue(rateBudget.isThrottled());
+        assertEquals(15.0, rateBudget.getRequestsPerWindow());
+        assertEquals(1, rateBudget.getThrottles());
+
+        clock.advance(Duration.ofSeconds(20));
+        assertEquals(Duration.ofSeconds(40), rateBudget.remainingThrottle());
+
+        rateBudget.recordAccepted();
+
+        assertFalse(rateBudget.isThrottled());
+        assertEquals(Duration.ofSeconds(40), rateBudget.getWindow());
+        assertEquals(Duration.ZERO, rateBudget.remainingThrottle());
+    }
+}
@@ -0,0 +1,89 @@
+package com.reliaquest.api.concurrent;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.EmployeeApiException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AsyncSingleFlightTest {
+
+    private final AsyncSingleFlight<String> singleFlight = new AsyncSingleFlight<>();
+
+    @Test
+    @DisplayName("should share one execution between callers arriving while it is in flight")
+    void shouldShareOneExecution() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        CompletableFuture<String> first = singleFlight.execute("all", () -> {
+            executions.incrementAndGet();
+            return upstream;
+        });
+        CompletableFuture<String> second = singleFlight.execute("all", () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+        assertFalse(first.isDone());
+        upstream.complete("result");
+
+        assertEquals("result", first.get());
+        assertEquals("result", second.get());
+        assertEquals(1, executions.get());
+        assertEquals(1, singleFlight.getExecutions());
+        assertEquals(1, singleFlight.getCoalesced());
+    }
+
+    @Test
+    @DisplayName("should propagate the same exception to every coalesced caller")
+    void shouldShareException() {
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        EmployeeApiException failure = new EmployeeApiException("upstream down");
+
+        CompletableFuture<String> first = singleFlight.execute("all", () -> upstream);
+        CompletableFuture<String> second = singleFlight.execute("all", () -> upstream);
+        upstream.completeExceptionally(failure);
+
+        assertSame(failure, assertThrows(ExecutionException.class, first::get).getCause());
+        assertSame(failure, assertThrows(ExecutionException.class, second::get).getCause());
+    }
+
+    @Test
+    @DisplayName("should execute again once the previous call has completed")
+    void shouldExecuteAgainAfterCompletion() throws Exception {
+        assertEquals("first", singleFlight.execute("all", () -> CompletableFuture.completedFuture("first")).get());
+        assertEquals("second", singleFlight.execute("all", () -> CompletableFuture.completedFuture("second")).get());
+        assertEquals(2, singleFlight.getExecutions());
+        assertEquals(0, singleFlight.getCoalesced());
+    }
+
+    @Test
+    @DisplayName("should not let one caller's cancellation affect the others")
+    void shouldIsolateCancellation() throws Exception {
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        CompletableFuture<String> first = singleFlight.execute("all", () -> upstream);
+        CompletableFuture<String> second = singleFlight.execute("all", () -> upstream);
+        first.cancel(true);
+        upstream.complete("result");
+
+        assertTrue(first.isCancelled());
+        assertEquals("result", second.get());
+    }
+
+    @Test
+    @DisplayName("should fail the call and free the key when starting the operation throws")
+    void shouldFailWhenOperationThrows() throws Exception {
+        EmployeeApiException failure = new EmployeeApiException("cannot start");
+
+        CompletableFuture<String> failed = singleFlight.execute("all", () -> {
+            throw failure;
+        });
+
+        assertSame(failure, assertThrows(ExecutionException.class, failed::get).getCause());
+        assertEquals("next", singleFlight.execute("all", () -> CompletableFuture.completedFuture("next")).get());
+    }
+}
@@ -0,0 +1,108 @@
+package com.reliaquest.api.concurrent;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.EmployeeApiException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String> singleFlight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should share one execution between concurrent callers")
+    void shouldShareOneExecution() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitCallers(() -> singleFlight.execute("all", () -> {
+            executions.incrementAndGet();
+            await(release);
+            return "result";
+        }));
+        waitForCoalescedCallers(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("result", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, executions.get());
+        assertEquals(1, singleFlight.getExecutions());
+        assertEquals(CALLERS - 1, singleFlight.getCoalesced());
+    }
+
+    @Test
+    @DisplayName("should propagate the same exception to every coalesced caller")
+    void shouldShareException() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        EmployeeApiException failure = new EmployeeApiException("upstream down");
+
+        List<Future<String>> results = submitCallers(() -> {
+            try {
+                return singleFlight.execute("all", () -> {
+                    await(release);
+                    throw failure;
+                });
+            } catch (EmployeeApiException e) {
+                return e == failure ? "shared" : "other";
+            }
+        });
+        waitForCoalescedCallers(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("shared", result.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    @DisplayName("should execute again once the previous call has completed")
+    void shouldExecuteAgainAfterCompletion() {
+        assertEquals("first", singleFlight.execute("all", () -> "first"));
+        assertEquals("second", singleFlight.execute("all", () -> "second"));
+        assertEquals(2, singleFlight.getExecutions());
+        assertEquals(0, singleFlight.getCoalesced());
+    }
+
+    private List<Future<String>> submitCallers(Callable<String> caller) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(caller));
+        }
+        return results;
+    }
+
+    private void waitForCoalescedCallers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getCoalesced() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.client.UpstreamCompression;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Measures bytes on the wire and fetch-and-decode time of the full employee list, with and without gzip,
+ * as the list grows, against a stub upstream compressing like the mock server does.
+ * Run with {@code ./gradlew :api:benchmark}; skipped by the test task.
+ */
+@Tag("benchmark")
+@SpringBootTest(
+        classes = UpstreamCompressionBenchmark.StubUpstream.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "server.compression.enabled=true")
+class UpstreamCompressionBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(UpstreamCompressionBenchmark.class);
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000, 250_000};
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static final ParameterizedTypeReference<ApiResponse<List<Employee>>> EMPLOYEE_LIST =
+            new ParameterizedTypeReference<>() {};
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @DisplayName("full list: identity vs gzip as the employee count grows")
+    void fullList() throws Exception {
+        RestTemplateConfig config = new RestTemplateConfig();
+        for (int size : SIZES) {
+            Result identity = measure(config, size, false);
+            Result gzip = measure(config, size, true);
+            log.info(
+                    "{} employees: identity {} KiB in {}ms, gzip {} KiB ({} KiB decoded) in {}ms",
+                    size,
+                    identity.wireBytes() / 1024,
+                    identity.medianMillis(),
+                    gzip.wireBytes() / 1024,
+                    gzip.decodedBytes() / 1024,
+                    gzip.medianMillis());
+            assertTrue(gzip.wireBytes() < identity.wireBytes() / 2, "gzip should at least halve the list payload");
+        }
+    }
+
+    private Result measure(RestTemplateConfig config, int size, boolean gzip) throws Exception {
+        EmployeeApiProperties properties = new EmployeeApiProperties();
+        properties.getHttpClient().setGzip(gzip);
+        HttpComponentsClientHttpRequestFactory requestFactory =
+                config.apacheRequestFactory(config.upstreamConnectionPool(properties), properties);
+        UpstreamCompression compression = new UpstreamCompression(properties);
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.getInterceptors().add(compression);
+        String url = "http://localhost:" + port + "/api/v1/employee?size=" + size;
+
+        long[] nanos = new long[MEASURED_ROUNDS];
+        try {
+            for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+                long start = System.nanoTime();
+                ApiResponse<List<Employee>> response =
+                        restTemplate.exchange(url, HttpMethod.GET, null, EMPLOYEE_LIST).getBody();
+                long elapsed = System.nanoTime() - start;
+                assertEquals(size, response.getData().size());
+                if (round >= WARMUP_ROUNDS) {
+                    nanos[round - WARMUP_ROUNDS] = elapsed;
+                }
+            }
+        } finally {
+            requestFactory.destroy();
+        }
+        Arrays.sort(nanos);
+        long responses = compression.getResponses();
+        return new Result(
+                compression.getWireBytes() / responses,
+                compression.getDecodedBytes() / responses,
+                nanos[MEASURED_ROUNDS / 2] / 1_000_000);
+    }
+
+    private record Result(long wireBytes, long decodedBytes, long medianMillis) {}
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import(StubEmployeeController.class)
+    static class StubUpstream {}
+
+    /**
+     * Serves a list of generated employees in the Mock Employee API's format, generated once per size.
+     */
+    @RestController
+    static class StubEmployeeController {
+
+        private static final String[] TITLES = {"Engineer", "Manager", "Director", "Analyst", "Designer"};
+
+        private final Map<Integer, Map<String, Object>> responses = new ConcurrentHashMap<>();
+
+        @GetMapping("/api/v1/employee")
+        Map<String, Object> employees(@RequestParam int size) {
+            return responses.computeIfAbsent(size, StubEmployeeController::generate);
+        }
+
+        private static Map<String, Object> generate(int size) {
+            Random random = new Random(size);
+            List<Map<String, Object>> employees = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                employees.add(Map.of(
+                        "id", new UUID(random.nextLong(), random.nextLong()).toString(),
+                        "employee_name", "Employee " + i,
+                        "employee_salary", 30_000 + random.nextInt(470_000),
+                        "employee_age", 18 + random.nextInt(50),
+                        "employee_title", TITLES[random.nextInt(TITLES.length)],
+                        "employee_email", "employee" + i + "@company.com"));
+            }
+            return Map.of("data", employees, "status", "Successfully processed request.");
+        }
+    }
+}
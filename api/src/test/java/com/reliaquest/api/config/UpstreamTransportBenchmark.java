@@ -0,0 +1,157 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Compares the throughput of the Apache (HTTP/1.1, pooled) and JDK (HTTP/2 over h2c) transports
+ * under concurrent get-by-id traffic against a stub upstream with HTTP/2 enabled, as the mock server has.
+ * Run with {@code ./gradlew :api:benchmark}; skipped by the test task.
+ */
+@Tag("benchmark")
+@SpringBootTest(
+        classes = UpstreamTransportBenchmark.StubUpstream.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "server.http2.enabled=true")
+class UpstreamTransportBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(UpstreamTransportBenchmark.class);
+
+    private static final int CONCURRENCY = 64;
+    private static final int REQUESTS_PER_CALLER = 50;
+    private static final int MEASURED_ROUNDS = 3;
+
+    /**
+     * Simulated upstream work per request, so callers hold connections long enough to contend for them.
+     */
+    private static final long UPSTREAM_LATENCY_MS = 5;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private StubEmployeeController upstream;
+
+    @Test
+    @DisplayName("get-by-id throughput: Apache HTTP/1.1 pool vs JDK HTTP/2")
+    void throughput() throws Exception {
+        EmployeeApiProperties properties = new EmployeeApiProperties();
+        RestTemplateConfig config = new RestTemplateConfig();
+        HttpComponentsClientHttpRequestFactory apacheFactory =
+                config.apacheRequestFactory(config.upstreamConnectionPool(properties), properties);
+
+        double apache = measure("apache", new RestTemplate(apacheFactory));
+        Map<String, Long> apacheProtocols = upstream.drainProtocols();
+        double jdk = measure("jdk", new RestTemplate(config.jdkRequestFactory(properties, false)));
+        Map<String, Long> jdkProtocols = upstream.drainProtocols();
+        apacheFactory.destroy();
+
+        log.info(
+                "{} callers x {} requests, {}ms upstream latency: apache {} req/s over {}, jdk {} req/s over {}",
+                CONCURRENCY,
+                REQUESTS_PER_CALLER,
+                UPSTREAM_LATENCY_MS,
+                Math.round(apache),
+                apacheProtocols,
+                Math.round(jdk),
+                jdkProtocols);
+        assertTrue(jdkProtocols.containsKey("HTTP/2.0"), "the JDK transport should have upgraded to HTTP/2");
+    }
+
+    /**
+     * @return the best requests per second over the measured rounds, after one warmup round
+     */
+    private double measure(String transport, RestTemplate restTemplate) throws Exception {
+        String url = "http://localhost:" + port + "/api/v1/employee/";
+        double best = 0;
+        ExecutorService callers = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            for (int round = 0; round <= MEASURED_ROUNDS; round++) {
+                long start = System.nanoTime();
+                List<Future<?>> results = new ArrayList<>(CONCURRENCY);
+                for (int caller = 0; caller < CONCURRENCY; caller++) {
+                    results.add(callers.submit(() -> {
+                        for (int i = 0; i < REQUESTS_PER_CALLER; i++) {
+                            assertNotNull(restTemplate.getForObject(url + UUID.randomUUID(), String.class));
+                        }
+                    }));
+                }
+                for (Future<?> result : results) {
+                    result.get();
+                }
+                double perSecond = CONCURRENCY * REQUESTS_PER_CALLER * 1e9 / (System.nanoTime() - start);
+                if (round > 0) {
+                    log.info("{} round {}: {} req/s", transport, round, Math.round(perSecond));
+                    best = Math.max(best, perSecond);
+                }
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        return best;
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import(StubEmployeeController.class)
+    static class StubUpstream {}
+
+    /**
+     * Answers get-by-id like the Mock Employee API and counts requests per protocol version.
+     */
+    @RestController
+    static class StubEmployeeController {
+
+        private final Map<String, LongAdder> protocols = new ConcurrentHashMap<>();
+
+        @GetMapping("/api/v1/employee/{id}")
+        Map<String, Object> employee(@PathVariable String id, HttpServletRequest request) throws InterruptedException {
+            protocols.computeIfAbsent(request.getProtocol(), key -> new LongAdder()).increment();
+            Thread.sleep(UPSTREAM_LATENCY_MS);
+            return Map.of(
+                    "data",
+                    Map.of(
+                            "id", id,
+                            "employee_name", "Jane Doe",
+                            "employee_salary", 60000,
+                            "employee_age", 35,
+                            "employee_title", "Engineer",
+                            "employee_email", "jane@company.com"),
+                    "status",
+                    "Successfully processed request.");
+        }
+
+        Map<String, Long> drainProtocols() {
+            Map<String, Long> counts = new ConcurrentHashMap<>();
+            protocols.forEach((protocol, count) -> counts.put(protocol, count.sum()));
+            protocols.clear();
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.reliaquest.api.controller;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.EmployeeApiProperties;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.EmployeeSnapshotCache;
+import com.reliaquest.api.snapshot.ReadEndpoint;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import reactor.core.publisher.Mono;
+
+@WebMvcTest(controllers = AsyncEmployeeController.class, properties = "employee.api.reactive.enabled=true")
+class AsyncEmployeeControllerTest {
+
+    private static final String ID = "4a3a170b-22cd-4ac2-aad1-9bb5b34a1507";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private ReactiveEmployeeService employeeService;
+
+    private Employee createEmployee(String id, String name, int salary, int age) {
+        return Employee.builder()
+                .id(UUID.fromString(id))
+                .name(name)
+                .salary(salary)
+                .age(age)
+                .title("Engineer")
+                .email(name.toLowerCase().replace(" ", "") + "@company.com")
+                .build();
+    }
+
+    /**
+     * Performs the request, expects Spring MVC to hand it off asynchronously and dispatches the result.
+     */
+    private ResultActions performAsync(RequestBuilder request) throws Exception {
+        return mockMvc.perform(asyncDispatch(mockMvc.perform(request)
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn()));
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/employee")
+    class GetAllEmployeesTests {
+
+        @Test
+        @DisplayName("should return all employees")
+        void shouldReturnAllEmployees() throws Exception {
+            when(employeeService.getServingSnapshot(ReadEndpoint.ALL_EMPLOYEES)).thenReturn(Mono.empty());
+            when(employeeService.getAllEmployees(null))
+                    .thenReturn(Mono.just(List.of(
+                            createEmployee(ID, "John Doe", 50000, 30),
+                            createEmployee("5255f1a5-f9f7-4be5-829a-134bde088d17", "Jane Smith", 60000, 35))));
+
+            performAsync(get("/api/v1/employee"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[1].name").value("Jane Smith"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/employee/{id}")
+    class GetEmployeeByIdTests {
+
+        @Test
+        @DisplayName("should return employee when found")
+        void shouldReturnEmployee() throws Exception {
+            when(employeeService.getEmployeeById(ID)).thenReturn(Mono.just(createEmployee(ID, "John Doe", 50000, 30)));
+
+            performAsync(get("/api/v1/employee/" + ID))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.name").value("John Doe"));
+        }
+
+        @Test
+        @DisplayName("should return 404 when employee not found")
+        void shouldReturn404WhenNotFound() throws Exception {
+            String id = "non-existent-id";
+            when(employeeService.getEmployeeById(id))
+                    .thenReturn(Mono.error(new EmployeeNotFoundException("Employee not found with ID: " + id)));
+
+            performAsync(get("/api/v1/employee/" + id)).andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/employee")
+    class CreateEmployeeTests {
+
+        @Test
+        @DisplayName("should create employee successfully")
+        void shouldCreateEmployee() throws Exception {
+            CreateEmployeeInput input = CreateEmployeeInput.builder()
+                    .name("New Employee")
+                    .salary(55000)
+                    .age(28)
+                    .title("Software Engineer")
+                    .build();
+            when(employeeService.createEmployee(any(CreateEmployeeInput.class)))
+                    .thenReturn(Mono.just(createEmployee(ID, "New Employee", 55000, 28)));
+
+            performAsync(post("/api/v1/employee")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(input)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.name").value("New Employee"));
+        }
+
+        @Test
+        @DisplayName("should return 400 before going async for missing required fields")
+        void shouldReturn400ForMissingFields() throws Exception {
+            mockMvc.perform(post("/api/v1/employee")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{}"))
+                    .andExpect(status().isBadRequest());
+
+            verify(employeeService, never()).createEmployee(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("DELETE /api/v1/employee/{id}")
+    class DeleteEmployeeTests {
+
+        @Test
+        @DisplayName("should delete employee and return name")
+        void shouldDeleteEmployee() throws Exception {
+            when(employeeService.deleteEmployeeById(ID)).thenReturn(Mono.just("John Doe"));
+
+            performAsync(delete("/api/v1/employee/" + ID))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string("John Doe"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Conditional GET with snapshot ETags")
+    class ConditionalGetTests {
+
+        private final EmployeeSnapshot snapshot = new EmployeeSnapshotCache(new EmployeeApiProperties())
+                .install(List.of(createEmployee(ID, "John Doe", 50000, 30)));
+
+        @Test
+        @DisplayName("should return 304 without building the body when If-None-Match matches")
+        void shouldReturnNotModified() throws Exception {
+            when(employeeService.getServingSnapshot(ReadEndpoint.TOP_EARNERS)).thenReturn(Mono.just(snapshot));
+
+            performAsync(get("/api/v1/employee/topTenHighestEarningEmployeeNames")
+                            .header(HttpHeaders.IF_NONE_MATCH, snapshot.getETag().substring(2)))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, snapshot.getETag()))
+                    .andExpect(content().string(""));
+
+            verify(employeeService, never()).getTop10HighestEarningEmployeeNames(any());
+        }
+
+        @Test
+        @DisplayName("should return the body of the snapshot the ETag came from when If-None-Match is outdated")
+        void shouldReturnBodyForOutdatedETag() throws Exception {
+            when(employeeService.getServingSnapshot(ReadEndpoint.HIGHEST_SALARY)).thenReturn(Mono.just(snapshot));
+            when(employeeService.getHighestSalary(snapshot)).thenReturn(Mono.just(50000));
+
+            performAsync(get("/api/v1/employee/highestSalary").header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, snapshot.getETag()))
+                    .andExpect(content().string("50000"));
+
+            verify(employeeService, never()).getHighestSalary();
+        }
+    }
+}
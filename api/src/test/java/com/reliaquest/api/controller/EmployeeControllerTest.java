@@ -6,10 +6,14 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.EmployeeApiProperties;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.EmployeeSnapshotCache;
+import com.reliaquest.api.snapshot.ReadEndpoint;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -20,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -57,7 +62,7 @@ class EmployeeControllerTest {
                     createEmployee("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", "John Doe", 50000, 30),
                     createEmployee("5255f1a5-f9f7-4be5-829a-134bde088d17", "Jane Smith", 60000, 35));
 
-            when(employeeService.getAllEmployees()).thenReturn(employees);
+            when(employeeService.getAllEmployees(null)).thenReturn(employees);
 
             mockMvc.perform(get("/api/v1/employee"))
                     .andExpect(status().isOk())
@@ -69,7 +74,7 @@ class EmployeeControllerTest {
         @Test
         @DisplayName("should return empty list when no employees")
         void shouldReturnEmptyList() throws Exception {
-            when(employeeService.getAllEmployees()).thenReturn(Collections.emptyList());
+            when(employeeService.getAllEmployees(null)).thenReturn(Collections.emptyList());
 
             mockMvc.perform(get("/api/v1/employee"))
                     .andExpect(status().isOk())
@@ -87,7 +92,7 @@ class EmployeeControllerTest {
             List<Employee> employees =
                     Arrays.asList(createEmployee("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", "John Doe", 50000, 30));
 
-            when(employeeService.getEmployeesByNameSearch("John")).thenReturn(employees);
+            when(employeeService.getEmployeesByNameSearch(null, "John")).thenReturn(employees);
 
             mockMvc.perform(get("/api/v1/employee/search/John"))
                     .andExpect(status().isOk())
@@ -133,7 +138,7 @@ class EmployeeControllerTest {
         @Test
         @DisplayName("should return highest salary")
         void shouldReturnHighestSalary() throws Exception {
-            when(employeeService.getHighestSalary()).thenReturn(150000);
+            when(employeeService.getHighestSalary(null)).thenReturn(150000);
 
             mockMvc.perform(get("/api/v1/employee/highestSalary"))
                     .andExpect(status().isOk())
@@ -151,7 +156,7 @@ class EmployeeControllerTest {
             List<String> names =
                     Arrays.asList("CEO", "CTO", "CFO", "VP1", "VP2", "Dir1", "Dir2", "Mgr1", "Mgr2", "Mgr3");
 
-            when(employeeService.getTop10HighestEarningEmployeeNames()).thenReturn(names);
+            when(employeeService.getTop10HighestEarningEmployeeNames(null)).thenReturn(names);
 
             mockMvc.perform(get("/api/v1/employee/topTenHighestEarningEmployeeNames"))
                     .andExpect(status().isOk())
@@ -242,4 +247,53 @@ class EmployeeControllerTest {
             mockMvc.perform(delete("/api/v1/employee/" + id)).andExpect(status().isNotFound());
         }
     }
+
+    @Nested
+    @DisplayName("Conditional GET with snapshot ETags")
+    class ConditionalGetTests {
+
+        private final EmployeeSnapshot snapshot = new EmployeeSnapshotCache(new EmployeeApiProperties())
+                .install(List.of(createEmployee("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", "John Doe", 50000, 30)));
+
+        @Test
+        @DisplayName("should return the body and ETag of one snapshot")
+        void shouldReturnETag() throws Exception {
+            when(employeeService.getServingSnapshot(ReadEndpoint.ALL_EMPLOYEES)).thenReturn(snapshot);
+            when(employeeService.getAllEmployees(snapshot)).thenReturn(snapshot.getEmployees());
+
+            mockMvc.perform(get("/api/v1/employee"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, snapshot.getETag()))
+                    .andExpect(jsonPath("$[0].name").value("John Doe"));
+
+            verify(employeeService, times(1)).getServingSnapshot(ReadEndpoint.ALL_EMPLOYEES);
+            verify(employeeService, never()).getAllEmployees();
+        }
+
+        @Test
+        @DisplayName("should return 304 without building the body when If-None-Match matches")
+        void shouldReturnNotModified() throws Exception {
+            when(employeeService.getServingSnapshot(ReadEndpoint.TOP_EARNERS)).thenReturn(snapshot);
+
+            mockMvc.perform(get("/api/v1/employee/topTenHighestEarningEmployeeNames")
+                            .header(HttpHeaders.IF_NONE_MATCH, snapshot.getETag()))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, snapshot.getETag()))
+                    .andExpect(content().string(""));
+
+            verify(employeeService, never()).getTop10HighestEarningEmployeeNames(any());
+        }
+
+        @Test
+        @DisplayName("should return the full body when If-None-Match is outdated")
+        void shouldReturnBodyForOutdatedETag() throws Exception {
+            when(employeeService.getServingSnapshot(ReadEndpoint.HIGHEST_SALARY)).thenReturn(snapshot);
+            when(employeeService.getHighestSalary(snapshot)).thenReturn(50000);
+
+            mockMvc.perform(get("/api/v1/employee/highestSalary").header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, snapshot.getETag()))
+                    .andExpect(content().string("50000"));
+        }
+    }
 }
@@ -0,0 +1,301 @@
+package com.reliaquest.api.controller;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.InvalidQueryException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeFilter;
+import com.reliaquest.api.model.SalaryRank;
+import com.reliaquest.api.model.SalaryStatistics;
+import com.reliaquest.api.model.TitleGroup;
+import com.reliaquest.api.service.EmployeeQueryService;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(EmployeeQueryController.class)
+class EmployeeQueryControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeQueryService employeeQueryService;
+
+    private Employee createEmployee(String id, String name, int salary, int age) {
+        return Employee.builder()
+                .id(UUID.fromString(id))
+                .name(name)
+                .salary(salary)
+                .age(age)
+                .title("Engineer")
+                .email(name.toLowerCase().replace(" ", "") + "@company.com")
+                .build();
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/employee/search/fuzzy/{searchString}")
+    class FuzzySearchTests {
+
+        @Test
+        @DisplayName("should return ranked fuzzy matches")
+        void shouldReturnFuzzyMatches() throws Exception {
+            when(employeeQueryService.getEmployeesByFuzzyNameSearch("Jhon", 1, 5))
+                    .thenReturn(List.of(createEmployee("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", "John Doe", 50000, 30)));
+
+            mockMvc.perform(get("/api/v1/employee/search/fuzzy/Jhon")
+                            .param("maxDistance", "1")
+                            .param("limit", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].name").value("John Doe"));
+        }
+
+        @Test
+        @DisplayName("should use configured defaults when parameters are omitted")
+        void shouldPassMissingParametersAsNull() throws Exception {
+            when(employeeQueryService.getEmployeesByFuzzyNameSearch("Jhon", null, null)).thenReturn(List.of());
+
+            mockMvc.perform(get("/api/v1/employee/search/fuzzy/Jhon"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(0));
+        }
+
+        @Test
+        @DisplayName("should return 400 for out-of-range parameters")
+        void shouldReturn400ForInvalidParameters() throws Exception {
+            when(employeeQueryService.getEmployeesByFuzzyNameSearch(eq("Jhon"), eq(9), isNull()))
+                    .thenThrow(new InvalidQueryException("maxDistance must be between 0 and 3, was 9"));
+
+            mockMvc.perform(get("/api/v1/employee/search/fuzzy/Jhon").param("maxDistance", "9"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("maxDistance must be between 0 and 3, was 9"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/employee/filter")
+    class FilterTests {
+
+        @Test
+        @DisplayName("should bind every criterion and return matches")
+        void shouldFilterEmployees() throws Exception {
+            EmployeeFilter filter = EmployeeFilter.builder()
+                    .minSalary(40000)
+                    .maxSalary(60000)
+                    .minAge(25)
+                    .maxAge(35)
+                    .title("Engineer")
+                    .nameContains("john")
+                    .build();
+            when(employeeQueryService.getEmployeesByFilter(filter))
+                    .thenReturn(List.of(createEmployee("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", "John Doe", 50000, 30)));
+
+            mockMvc.perform(get("/api/v1/employee/filter")
+                            .param("minSalary", "40000")
+                            .param("maxSalary", "60000")
+                            .param("minAge", "25")
+                            .param("maxAge", "35")
+                            .param("title", "Engineer")
+                            .param("nameContains", "john"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].name").value("John Doe"));
+        }
+
+        @Test
+        @DisplayName("should return 400 for an inverted range")
+        void shouldReturn400ForInvertedRange() throws Exception {
+            when(employeeQueryService.getEmployeesByFilter(any(EmployeeFilter.class)))
+                    .thenThrow(new InvalidQueryException("minSalary must not exceed maxSalary"));
+
+            mockMvc.perform(get("/api/v1/employee/filter")
+                            .param("minSalary", "60000")
+                            .param("maxSalary", "40000"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/employee/top")
+    class TopEmployeesTests {
+
+        @Test
+        @DisplayName("should bind field, order and k and return the ranking")
+        void shouldReturnTopEmployees() throws Exception {
+            when(employeeQueryService.getTopEmployees("age", "asc", 1))
+                    .thenReturn(List.of(createEmployee("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", "John Doe", 50000, 30)));
+
+            mockMvc.perform(get("/api/v1/employee/top")
+                            .param("field", "age")
+                            .param("order", "asc")
+                            .param("k", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].name").value("John Doe"));
+        }
+
+        @Test
+        @DisplayName("should return 400 for an unknown field")
+        void shouldReturn400ForUnknownField() throws Exception {
+            when(employeeQueryService.getTopEmployees("title", null, null))
+                    .thenThrow(new InvalidQueryException("field must be one of salary, age, was 'title'"));
+
+            mockMvc.perform(get("/api/v1/employee/top").param("field", "title"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("field must be one of salary, age, was 'title'"));
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/employee/salary/statistics should return the salary distribution")
+    void getSalaryStatistics_shouldReturnStatistics() throws Exception {
+        when(employeeQueryService.getSalaryStatistics())
+                .thenReturn(SalaryStatistics.builder()
+                        .count(2)
+                        .min(50000)
+                        .max(60000)
+                        .mean(55000.0)
+                        .stddev(5000.0)
+                        .p50(50000)
+                        .p90(60000)
+                        .p99(60000)
+                        .build());
+
+        mockMvc.perform(get("/api/v1/employee/salary/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(2))
+                .andExpect(jsonPath("$.stddev").value(5000.0))
+                .andExpect(jsonPath("$.p90").value(60000));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/employee/group-by/title should return per-title aggregates")
+    void getTitleGroups_shouldReturnGroups() throws Exception {
+        when(employeeQueryService.getTitleGroups())
+                .thenReturn(List.of(
+                        new TitleGroup("Engineer", 2, 50000, 55000, 52500.0),
+                        new TitleGroup("Intern", 1, null, null, null)));
+
+        mockMvc.perform(get("/api/v1/employee/group-by/title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("Engineer"))
+                .andExpect(jsonPath("$[0].averageSalary").value(52500.0))
+                .andExpect(jsonPath("$[1].headcount").value(1));
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/employee/count")
+    class CountTests {
+
+        @Test
+        @DisplayName("should bind field and bounds and return the count")
+        void shouldReturnCount() throws Exception {
+            when(employeeQueryService.countEmployees("salary", 50000, null)).thenReturn(42);
+
+            mockMvc.perform(get("/api/v1/employee/count")
+                            .param("field", "salary")
+                            .param("min", "50000"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string("42"));
+        }
+
+        @Test
+        @DisplayName("should return 400 for an inverted range")
+        void shouldReturn400ForInvertedRange() throws Exception {
+            when(employeeQueryService.countEmployees("age", 40, 30))
+                    .thenThrow(new InvalidQueryException("min must not exceed max"));
+
+            mockMvc.perform(get("/api/v1/employee/count")
+                            .param("field", "age")
+                            .param("min", "40")
+                            .param("max", "30"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/employee/salary/rank and /salary/ranked")
+    class SalaryRankTests {
+
+        private static final String ID = "4a3a170b-22cd-4ac2-aad1-9bb5b34a1507";
+
+        @Test
+        @DisplayName("should return an employee's salary rank")
+        void shouldReturnRank() throws Exception {
+            when(employeeQueryService.getSalaryRank(ID))
+                    .thenReturn(new SalaryRank(UUID.fromString(ID), "John Doe", 50000, 3, 4, 50.0));
+
+            mockMvc.perform(get("/api/v1/employee/salary/rank/" + ID))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.rank").value(3))
+                    .andExpect(jsonPath("$.rankedCount").value(4))
+                    .andExpect(jsonPath("$.percentile").value(50.0));
+        }
+
+        @Test
+        @DisplayName("should return 404 for an unknown ID")
+        void shouldReturn404ForUnknownId() throws Exception {
+            when(employeeQueryService.getSalaryRank(ID))
+                    .thenThrow(new EmployeeNotFoundException("Employee not found with ID: " + ID));
+
+            mockMvc.perform(get("/api/v1/employee/salary/rank/" + ID)).andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("should return the employee at a rank")
+        void shouldReturnEmployeeAtRank() throws Exception {
+            when(employeeQueryService.getEmployeeAtSalaryRank(1)).thenReturn(createEmployee(ID, "John Doe", 50000, 30));
+
+            mockMvc.perform(get("/api/v1/employee/salary/ranked/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.name").value("John Doe"));
+        }
+
+        @Test
+        @DisplayName("should return 400 for a rank that is not a number")
+        void shouldReturn400ForNonNumericRank() throws Exception {
+            mockMvc.perform(get("/api/v1/employee/salary/ranked/first"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("rank must be of type int, was 'first'"));
+
+            verifyNoInteractions(employeeQueryService);
+        }
+
+        @Test
+        @DisplayName("should bind the rank range")
+        void shouldReturnRankRange() throws Exception {
+            when(employeeQueryService.getEmployeesBySalaryRank(2, 3))
+                    .thenReturn(List.of(createEmployee(ID, "John Doe", 50000, 30)));
+
+            mockMvc.perform(get("/api/v1/employee/salary/ranked")
+                            .param("from", "2")
+                            .param("to", "3"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1));
+        }
+
+        @Test
+        @DisplayName("should return 400 for an oversized range")
+        void shouldReturn400ForOversizedRange() throws Exception {
+            when(employeeQueryService.getEmployeesBySalaryRank(1, 5000))
+                    .thenThrow(new InvalidQueryException("at most 1000 ranks may be requested, was 5000"));
+
+            mockMvc.perform(get("/api/v1/employee/salary/ranked")
+                            .param("from", "1")
+                            .param("to", "5000"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.config.EmployeeApiProperties;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.InvalidQueryException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeFilter;
+import com.reliaquest.api.model.SalaryRank;
+import com.reliaquest.api.model.SalaryStatistics;
+import com.reliaquest.api.model.TitleGroup;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.EmployeeSnapshotCache;
+import com.reliaquest.api.snapshot.ReadEndpoint;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeQueryServiceTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    private EmployeeApiProperties properties;
+    private EmployeeQueryService employeeQueryService;
+    private EmployeeSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmployeeApiProperties();
+        employeeQueryService = new EmployeeQueryService(employeeService, properties);
+        snapshot = new EmployeeSnapshotCache(properties)
+                .install(List.of(
+                        createEmployee("John Doe", 50000, 30, "Engineer"),
+                        createEmployee("Jane Smith", 60000, 35, "Manager"),
+                        createEmployee("Jon Snow", 55000, 28, "Engineer")));
+    }
+
+    private Employee createEmployee(String name, int salary, int age, String title) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(age)
+                .title(title)
+                .email(name.toLowerCase().replace(" ", "") + "@company.com")
+                .build();
+    }
+
+    @Nested
+    @DisplayName("getEmployeesByFuzzyNameSearch")
+    class FuzzySearchTests {
+
+        @Test
+        @DisplayName("should apply the configured defaults")
+        void shouldApplyDefaults() {
+            when(employeeService.getSnapshot(ReadEndpoint.FUZZY_NAME_SEARCH)).thenReturn(snapshot);
+
+            List<Employee> result = employeeQueryService.getEmployeesByFuzzyNameSearch("jhon", null, null);
+
+            assertEquals(List.of("Jon Snow"), result.stream().map(Employee::getName).toList());
+        }
+
+        @Test
+        @DisplayName("should honour an explicit distance and limit")
+        void shouldHonourParameters() {
+            when(employeeService.getSnapshot(ReadEndpoint.FUZZY_NAME_SEARCH)).thenReturn(snapshot);
+
+            List<Employee> result = employeeQueryService.getEmployeesByFuzzyNameSearch("jhon", 2, 1);
+
+            assertEquals(List.of("Jon Snow"), result.stream().map(Employee::getName).toList());
+        }
+
+        @Test
+        @DisplayName("should reject a distance or limit outside the configured range")
+        void shouldRejectOutOfRangeParameters() {
+            assertThrows(
+                    InvalidQueryException.class,
+                    () -> employeeQueryService.getEmployeesByFuzzyNameSearch("jhon", 4, null));
+            assertThrows(
+                    InvalidQueryException.class,
+                    () -> employeeQueryService.getEmployeesByFuzzyNameSearch("jhon", null, 0));
+            verifyNoInteractions(employeeService);
+        }
+    }
+
+    @Nested
+    @DisplayName("getEmployeesByFilter")
+    class FilterTests {
+
+        @Test
+        @DisplayName("should return employees matching all criteria")
+        void shouldFilterSnapshot() {
+            when(employeeService.getSnapshot(ReadEndpoint.FILTER)).thenReturn(snapshot);
+            EmployeeFilter filter = EmployeeFilter.builder().minSalary(52000).title("engineer").build();
+
+            List<Employee> result = employeeQueryService.getEmployeesByFilter(filter);
+
+            assertEquals(List.of("Jon Snow"), result.stream().map(Employee::getName).toList());
+        }
+
+        @Test
+        @DisplayName("should reject a minimum above the maximum")
+        void shouldRejectInvertedRange() {
+            EmployeeFilter filter = EmployeeFilter.builder().minAge(40).maxAge(30).build();
+
+            assertThrows(InvalidQueryException.class, () -> employeeQueryService.getEmployeesByFilter(filter));
+            verifyNoInteractions(employeeService);
+        }
+    }
+
+    @Nested
+    @DisplayName("getTopEmployees")
+    class TopEmployeesTests {
+
+        @Test
+        @DisplayName("should rank by salary descending by default")
+        void shouldRankBySalaryDescending() {
+            when(employeeService.getSnapshot(ReadEndpoint.TOP_K)).thenReturn(snapshot);
+
+            List<Employee> result = employeeQueryService.getTopEmployees("salary", null, 2);
+
+            assertEquals(List.of("Jane Smith", "Jon Snow"), result.stream().map(Employee::getName).toList());
+        }
+
+        @Test
+        @DisplayName("should rank by age ascending, ignoring parameter case")
+        void shouldRankByAgeAscending() {
+            when(employeeService.getSnapshot(ReadEndpoint.TOP_K)).thenReturn(snapshot);
+
+            List<Employee> result = employeeQueryService.getTopEmployees("AGE", "Asc", null);
+
+            assertEquals(
+                    List.of("Jon Snow", "John Doe", "Jane Smith"),
+                    result.stream().map(Employee::getName).toList());
+        }
+
+        @Test
+        @DisplayName("should reject an unknown field or order and an out-of-range k")
+        void shouldRejectInvalidParameters() {
+            assertThrows(InvalidQueryException.class, () -> employeeQueryService.getTopEmployees("title", null, 5));
+            assertThrows(InvalidQueryException.class, () -> employeeQueryService.getTopEmployees(null, null, 5));
+            assertThrows(InvalidQueryException.class, () -> employeeQueryService.getTopEmployees("age", "up", 5));
+            assertThrows(InvalidQueryException.class, () -> employeeQueryService.getTopEmployees("age", null, 0));
+            assertThrows(InvalidQueryException.class, () -> employeeQueryService.getTopEmployees("age", null, 1001));
+            verifyNoInteractions(employeeService);
+        }
+    }
+
+    @Test
+    @DisplayName("getSalaryStatistics should summarize the snapshot's salaries")
+    void getSalaryStatistics_shouldSummarizeSnapshot() {
+        when(employeeService.getSnapshot(ReadEndpoint.SALARY_STATISTICS)).thenReturn(snapshot);
+
+        SalaryStatistics statistics = employeeQueryService.getSalaryStatistics();
+
+        assertEquals(3, statistics.getCount());
+        assertEquals(50000, statistics.getMin());
+        assertEquals(60000, statistics.getMax());
+        assertEquals(55000.0, statistics.getMean(), 1e-9);
+        assertEquals(55000, statistics.getP50(), 55000 * 0.01);
+        assertEquals(60000, statistics.getP99());
+    }
+
+    @Test
+    @DisplayName("getTitleGroups should return the snapshot's per-title aggregates")
+    void getTitleGroups_shouldReturnGroups() {
+        when(employeeService.getSnapshot(ReadEndpoint.TITLE_GROUPS)).thenReturn(snapshot);
+
+        List<TitleGroup> groups = employeeQueryService.getTitleGroups();
+
+        assertEquals(
+                List.of(
+                        new TitleGroup("Engineer", 2, 50000, 55000, 52500.0),
+                        new TitleGroup("Manager", 1, 60000, 60000, 60000.0)),
+                groups);
+    }
+
+    @Nested
+    @DisplayName("countEmployees")
+    class CountTests {
+
+        @Test
+        @DisplayName("should count employees within an inclusive range")
+        void shouldCountInRange() {
+            when(employeeService.getSnapshot(ReadEndpoint.COUNT)).thenReturn(snapshot);
+
+            assertEquals(2, employeeQueryService.countEmployees("salary", 55000, null));
+            assertEquals(2, employeeQueryService.countEmployees("age", 28, 30));
+            assertEquals(3, employeeQueryService.countEmployees("age", null, null));
+        }
+
+        @Test
+        @DisplayName("should reject an unknown field and an inverted range")
+        void shouldRejectInvalidParameters() {
+            assertThrows(InvalidQueryException.class, () -> employeeQueryService.countEmployees("title", 1, 2));
+            assertThrows(InvalidQueryException.class, () -> employeeQueryService.countEmployees("age", 40, 30));
+            verifyNoInteractions(employeeService);
+        }
+    }
+
+    @Nested
+    @DisplayName("salary ranks")
+    class SalaryRankTests {
+
+        @Test
+        @DisplayName("should rank an employee with its percentile")
+        void shouldRankEmployee() {
+            when(employeeService.getSnapshot(ReadEndpoint.SALARY_RANK)).thenReturn(snapshot);
+            Employee john = snapshot.getEmployees().get(0);
+
+            SalaryRank rank = employeeQueryService.getSalaryRank(john.getId().toString());
+
+            assertEquals(new SalaryRank(john.getId(), "John Doe", 50000, 3, 3, 33.33), rank);
+            assertEquals(
+                    100.0,
+                    employeeQueryService
+                            .getSalaryRank(snapshot.getEmployees().get(1).getId().toString())
+                            .getPercentile());
+        }
+
+        @Test
+        @DisplayName("should report unknown IDs as not found")
+        void shouldRejectUnknownId() {
+            when(employeeService.getSnapshot(ReadEndpoint.SALARY_RANK)).thenReturn(snapshot);
+
+            assertThrows(
+                    EmployeeNotFoundException.class,
+                    () -> employeeQueryService.getSalaryRank(UUID.randomUUID().toString()));
+            assertThrows(EmployeeNotFoundException.class, () -> employeeQueryService.getSalaryRank("not-a-uuid"));
+        }
+
+        @Test
+        @DisplayName("should select by rank and rank range")
+        void shouldSelectByRank() {
+            when(employeeService.getSnapshot(ReadEndpoint.SALARY_RANK)).thenReturn(snapshot);
+
+            assertEquals("Jon Snow", employeeQueryService.getEmployeeAtSalaryRank(2).getName());
+            assertThrows(EmployeeNotFoundException.class, () -> employeeQueryService.getEmployeeAtSalaryRank(4));
+            assertEquals(
+                    List.of("Jon Snow", "John Doe"),
+                    employeeQueryService.getEmployeesBySalaryRank(2, 10).stream()
+                            .map(Employee::getName)
+                            .toList());
+            assertEquals(3, employeeQueryService.getEmployeesBySalaryRank(null, null).size());
+        }
+
+        @Test
+        @DisplayName("should stay current across creates and deletes")
+        void shouldFollowWrites() {
+            EmployeeSnapshotCache cache = new EmployeeSnapshotCache(properties);
+            cache.install(snapshot.getEmployees());
+            when(employeeService.getSnapshot(ReadEndpoint.SALARY_RANK)).thenAnswer(invocation -> cache.peek());
+            Employee john = snapshot.getEmployees().get(0);
+            assertEquals(3, employeeQueryService.getSalaryRank(john.getId().toString()).getRank());
+
+            cache.applyCreated(createEmployee("Ann Lee", 70000, 40, "Director"));
+            cache.applyDeleted(null, "Jane Smith");
+
+            assertEquals(
+                    List.of("Ann Lee", "Jon Snow", "John Doe"),
+                    employeeQueryService.getEmployeesBySalaryRank(1, 3).stream()
+                            .map(Employee::getName)
+                            .toList());
+            assertEquals(3, employeeQueryService.getSalaryRank(john.getId().toString()).getRank());
+            assertEquals("Jon Snow", employeeQueryService.getEmployeeAtSalaryRank(2).getName());
+        }
+
+        @Test
+        @DisplayName("should reject invalid ranks and oversized ranges")
+        void shouldRejectInvalidParameters() {
+            assertThrows(InvalidQueryException.class, () -> employeeQueryService.getEmployeeAtSalaryRank(0));
+            assertThrows(InvalidQueryException.class, () -> employeeQueryService.getEmployeesBySalaryRank(0, 5));
+            assertThrows(InvalidQueryException.class, () -> employeeQueryService.getEmployeesBySalaryRank(5, 4));
+            assertThrows(InvalidQueryException.class, () -> employeeQueryService.getEmployeesBySalaryRank(1, 1001));
+            verifyNoInteractions(employeeService);
+        }
+    }
+}
@@ -4,15 +4,31 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.reliaquest.api.client.EmployeeListReader;
+import com.reliaquest.api.config.EmployeeApiProperties;
 import com.reliaquest.api.exception.EmployeeApiException;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.model.ApiResponse;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.snapshot.EmployeeIdIndex;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.EmployeeSnapshotCache;
+import com.reliaquest.api.snapshot.NegativeIdCache;
+import com.reliaquest.api.snapshot.ReadEndpoint;
+import com.reliaquest.api.snapshot.SearchResultCache;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,12 +36,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.mockito.stubbing.OngoingStubbing;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 @ExtendWith(MockitoExtension.class)
@@ -96,6 +118,132 @@ class EmployeeServiceTest {
 
             assertTrue(result.isEmpty());
         }
+
+        @Test
+        @DisplayName("should serve subsequent list-based reads from the snapshot")
+        void shouldServeSubsequentReadsFromSnapshot() {
+            List<Employee> employees = Arrays.asList(
+                    createEmployee("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", "John Doe", 50000, 30),
+                    createEmployee("5255f1a5-f9f7-4be5-829a-134bde088d17", "Jane Smith", 60000, 35));
+
+            ApiResponse<List<Employee>> apiResponse =
+                    new ApiResponse<>(employees, "Successfully processed request.", null);
+            ResponseEntity<ApiResponse<List<Employee>>> responseEntity = ResponseEntity.ok(apiResponse);
+
+            when(restTemplate.exchange(
+                            eq(BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                    .thenReturn(responseEntity);
+
+            employeeService.getAllEmployees();
+            assertEquals(60000, employeeService.getHighestSalary());
+            assertEquals(1, employeeService.getEmployeesByNameSearch("jane").size());
+            assertEquals(List.of("Jane Smith", "John Doe"), employeeService.getTop10HighestEarningEmployeeNames());
+
+            verify(restTemplate, times(1))
+                    .exchange(eq(BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("with the snapshot cache disabled")
+    class DisabledCacheTests {
+
+        @Test
+        @DisplayName("should compute list-based reads from each fetch without keeping a snapshot")
+        void shouldReadThroughWithoutSnapshot() {
+            EmployeeApiProperties properties = new EmployeeApiProperties();
+            properties.getCache().setEnabled(false);
+            EmployeeSnapshotCache snapshotCache = new EmployeeSnapshotCache(properties);
+            EmployeeService uncached = new EmployeeService(
+                    restTemplate,
+                    snapshotCache,
+                    new EmployeeIdIndex(properties),
+                    new NegativeIdCache(properties),
+                    new SearchResultCache(properties),
+                    properties,
+                    null,
+                    BASE_URL,
+                    3,
+                    100);
+            List<Employee> employees = Arrays.asList(
+                    createEmployee("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", "John Doe", 50000, 30),
+                    createEmployee("5255f1a5-f9f7-4be5-829a-134bde088d17", "Jane Smith", 60000, 35));
+            ResponseEntity<ApiResponse<List<Employee>>> responseEntity =
+                    ResponseEntity.ok(new ApiResponse<>(employees, "Successfully processed request.", null));
+            when(restTemplate.exchange(
+                            eq(BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                    .thenReturn(responseEntity);
+
+            assertEquals(2, uncached.getAllEmployees().size());
+            assertEquals(60000, uncached.getHighestSalary());
+            assertEquals(1, uncached.getEmployeesByNameSearch("jane").size());
+            assertEquals(List.of("Jane Smith", "John Doe"), uncached.getTop10HighestEarningEmployeeNames());
+            assertNull(uncached.getServingSnapshot(ReadEndpoint.ALL_EMPLOYEES));
+
+            assertNull(snapshotCache.peek());
+            verify(restTemplate, times(4))
+                    .exchange(eq(BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("streaming ingestion")
+    class StreamingIngestionTests {
+
+        private static final String BODY = "{\"data\":[{\"id\":\"4a3a170b-22cd-4ac2-aad1-9bb5b34a1507\","
+                + "\"employee_name\":\"John Doe\",\"employee_salary\":50000},"
+                + "{\"id\":\"5255f1a5-f9f7-4be5-829a-134bde088d17\","
+                + "\"employee_name\":\"Jane Smith\",\"employee_salary\":60000}],"
+                + "\"status\":\"Successfully processed request.\"}";
+
+        @BeforeEach
+        void setUp() {
+            EmployeeListReader listReader = new EmployeeListReader(Jackson2ObjectMapperBuilder.json().build());
+            employeeService = new EmployeeService(restTemplate, listReader, BASE_URL, 3, 100);
+        }
+
+        @SuppressWarnings("unchecked")
+        private OngoingStubbing<Object> whenFetchingAll() {
+            return when(restTemplate.execute(
+                    eq(BASE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)));
+        }
+
+        private static Answer<Object> respondWith(String body) {
+            return invocation -> invocation
+                    .<ResponseExtractor<?>>getArgument(3)
+                    .extractData(new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+        }
+
+        @Test
+        @DisplayName("should parse the list straight into the snapshot without binding an ApiResponse")
+        void shouldStreamIntoSnapshot() {
+            whenFetchingAll().thenAnswer(respondWith(BODY));
+
+            List<Employee> result = employeeService.getAllEmployees();
+
+            assertEquals(List.of("John Doe", "Jane Smith"), result.stream().map(Employee::getName).toList());
+            assertEquals(60000, employeeService.getHighestSalary());
+            verify(restTemplate, never())
+                    .exchange(eq(BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+        }
+
+        @Test
+        @DisplayName("should return empty list when the response has no data")
+        void shouldReturnEmptyListWithoutData() {
+            whenFetchingAll().thenAnswer(respondWith("{\"data\":null,\"status\":\"Failed to process request.\"}"));
+
+            assertTrue(employeeService.getAllEmployees().isEmpty());
+        }
+
+        @Test
+        @DisplayName("should retry when rate limited")
+        void shouldRetryWhenRateLimited() {
+            whenFetchingAll()
+                    .thenThrow(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS))
+                    .thenAnswer(respondWith(BODY));
+
+            assertEquals(2, employeeService.getAllEmployees().size());
+        }
     }
 
     @Nested
@@ -184,6 +332,120 @@ class EmployeeServiceTest {
 
             assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById(id));
         }
+
+        @Test
+        @DisplayName("should serve employee from ID index after a full list fetch")
+        void shouldServeEmployeeFromIdIndexAfterListFetch() {
+            String id = "5255f1a5-f9f7-4be5-829a-134bde088d17";
+            List<Employee> employees = Arrays.asList(
+                    createEmployee("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", "John Doe", 50000, 30),
+                    createEmployee(id, "Jane Smith", 60000, 35));
+
+            ApiResponse<List<Employee>> apiResponse =
+                    new ApiResponse<>(employees, "Successfully processed request.", null);
+            ResponseEntity<ApiResponse<List<Employee>>> responseEntity = ResponseEntity.ok(apiResponse);
+
+            when(restTemplate.exchange(
+                            eq(BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                    .thenReturn(responseEntity);
+
+            employeeService.getAllEmployees();
+            Employee result = employeeService.getEmployeeById(id);
+
+            assertEquals("Jane Smith", result.getName());
+            verify(restTemplate, never())
+                    .exchange(
+                            eq(BASE_URL + "/" + id),
+                            eq(HttpMethod.GET),
+                            isNull(),
+                            any(ParameterizedTypeReference.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("unknown employee IDs")
+    class UnknownEmployeeIdTests {
+
+        private static final String UNKNOWN_ID = "9c1b2d3e-4f5a-4b6c-8d7e-9f0a1b2c3d4e";
+
+        @Test
+        @DisplayName("should reject IDs absent from a fresh snapshot without an upstream call")
+        void shouldRejectIdsAbsentFromSnapshot() {
+            List<Employee> employees = Arrays.asList(
+                    createEmployee("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", "John Doe", 50000, 30),
+                    createEmployee("5255f1a5-f9f7-4be5-829a-134bde088d17", "Jane Smith", 60000, 35));
+
+            ApiResponse<List<Employee>> apiResponse =
+                    new ApiResponse<>(employees, "Successfully processed request.", null);
+            ResponseEntity<ApiResponse<List<Employee>>> responseEntity = ResponseEntity.ok(apiResponse);
+
+            when(restTemplate.exchange(
+                            eq(BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                    .thenReturn(responseEntity);
+
+            employeeService.getAllEmployees();
+
+            assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById(UNKNOWN_ID));
+            verify(restTemplate, never())
+                    .exchange(
+                            eq(BASE_URL + "/" + UNKNOWN_ID),
+                            eq(HttpMethod.GET),
+                            isNull(),
+                            any(ParameterizedTypeReference.class));
+        }
+
+        @Test
+        @DisplayName("should remember upstream 404s in the negative cache")
+        void shouldRememberNotFoundAnswers() {
+            when(restTemplate.exchange(
+                            eq(BASE_URL + "/" + UNKNOWN_ID),
+                            eq(HttpMethod.GET),
+                            isNull(),
+                            any(ParameterizedTypeReference.class)))
+                    .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+            assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById(UNKNOWN_ID));
+            assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById(UNKNOWN_ID));
+
+            verify(restTemplate, times(1))
+                    .exchange(
+                            eq(BASE_URL + "/" + UNKNOWN_ID),
+                            eq(HttpMethod.GET),
+                            isNull(),
+                            any(ParameterizedTypeReference.class));
+        }
+
+        @Test
+        @DisplayName("should forget a cached 404 once the employee is created")
+        void shouldInvalidateNegativeEntryOnCreate() {
+            Employee created = createEmployee(UNKNOWN_ID, "New Employee", 55000, 28);
+            ResponseEntity<ApiResponse<Employee>> createdResponse =
+                    ResponseEntity.ok(new ApiResponse<>(created, "Successfully processed request.", null));
+
+            when(restTemplate.exchange(
+                            eq(BASE_URL + "/" + UNKNOWN_ID),
+                            eq(HttpMethod.GET),
+                            isNull(),
+                            any(ParameterizedTypeReference.class)))
+                    .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null))
+                    .thenReturn(createdResponse);
+            when(restTemplate.exchange(
+                            eq(BASE_URL),
+                            eq(HttpMethod.POST),
+                            any(HttpEntity.class),
+                            any(ParameterizedTypeReference.class)))
+                    .thenReturn(createdResponse);
+
+            assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById(UNKNOWN_ID));
+            employeeService.createEmployee(CreateEmployeeInput.builder()
+                    .name("New Employee")
+                    .salary(55000)
+                    .age(28)
+                    .title("Engineer")
+                    .build());
+
+            assertEquals("New Employee", employeeService.getEmployeeById(UNKNOWN_ID).getName());
+        }
     }
 
     @Nested
@@ -320,6 +582,77 @@ class EmployeeServiceTest {
             assertEquals("New Employee", result.getName());
             assertEquals(55000, result.getSalary());
         }
+
+        @Test
+        @DisplayName("should apply created employee to the snapshot without another upstream GET")
+        void shouldWriteThroughCreatedEmployee() {
+            List<Employee> employees =
+                    Arrays.asList(createEmployee("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", "John Doe", 50000, 30));
+            ResponseEntity<ApiResponse<List<Employee>>> listResponse =
+                    ResponseEntity.ok(new ApiResponse<>(employees, "Successfully processed request.", null));
+            when(restTemplate.exchange(
+                            eq(BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                    .thenReturn(listResponse);
+
+            Employee createdEmployee =
+                    createEmployee("5255f1a5-f9f7-4be5-829a-134bde088d17", "New Employee", 95000, 28);
+            ResponseEntity<ApiResponse<Employee>> createResponse =
+                    ResponseEntity.ok(new ApiResponse<>(createdEmployee, "Successfully processed request.", null));
+            when(restTemplate.exchange(
+                            eq(BASE_URL),
+                            eq(HttpMethod.POST),
+                            any(HttpEntity.class),
+                            any(ParameterizedTypeReference.class)))
+                    .thenReturn(createResponse);
+
+            employeeService.getAllEmployees();
+            employeeService.createEmployee(CreateEmployeeInput.builder()
+                    .name("New Employee")
+                    .salary(95000)
+                    .age(28)
+                    .title("Engineer")
+                    .build());
+
+            assertEquals(2, employeeService.getAllEmployees().size());
+            assertEquals(95000, employeeService.getHighestSalary());
+            assertEquals("New Employee", employeeService.getEmployeeById(createdEmployee.getId().toString()).getName());
+            verify(restTemplate, times(1))
+                    .exchange(eq(BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+        }
+
+        @Test
+        @DisplayName("should keep answering from a snapshot resolved before a create")
+        void shouldReadFromResolvedSnapshotAcrossCreate() {
+            List<Employee> employees =
+                    Arrays.asList(createEmployee("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", "John Doe", 50000, 30));
+            when(restTemplate.exchange(
+                            eq(BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                    .thenReturn(
+                            ResponseEntity.ok(new ApiResponse<>(employees, "Successfully processed request.", null)));
+            Employee createdEmployee =
+                    createEmployee("5255f1a5-f9f7-4be5-829a-134bde088d17", "New Employee", 95000, 28);
+            when(restTemplate.exchange(
+                            eq(BASE_URL),
+                            eq(HttpMethod.POST),
+                            any(HttpEntity.class),
+                            any(ParameterizedTypeReference.class)))
+                    .thenReturn(ResponseEntity.ok(
+                            new ApiResponse<>(createdEmployee, "Successfully processed request.", null)));
+
+            EmployeeSnapshot before = employeeService.getServingSnapshot(ReadEndpoint.ALL_EMPLOYEES);
+            String etag = before.getETag();
+            employeeService.createEmployee(CreateEmployeeInput.builder()
+                    .name("New Employee")
+                    .salary(95000)
+                    .age(28)
+                    .title("Engineer")
+                    .build());
+
+            assertEquals(1, employeeService.getAllEmployees(before).size());
+            assertEquals(50000, employeeService.getHighestSalary(before));
+            assertEquals(etag, before.getETag());
+            assertNotEquals(etag, employeeService.getServingSnapshot(ReadEndpoint.ALL_EMPLOYEES).getETag());
+        }
     }
 
     @Nested
@@ -356,6 +689,37 @@ class EmployeeServiceTest {
 
             assertEquals("John Doe", result);
         }
+
+        @Test
+        @DisplayName("should remove deleted employee from the snapshot without another upstream GET")
+        void shouldWriteThroughDeletedEmployee() {
+            String id = "4a3a170b-22cd-4ac2-aad1-9bb5b34a1507";
+            List<Employee> employees = Arrays.asList(
+                    createEmployee(id, "John Doe", 50000, 30),
+                    createEmployee("5255f1a5-f9f7-4be5-829a-134bde088d17", "Jane Smith", 60000, 35));
+            ResponseEntity<ApiResponse<List<Employee>>> listResponse =
+                    ResponseEntity.ok(new ApiResponse<>(employees, "Successfully processed request.", null));
+            when(restTemplate.exchange(
+                            eq(BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                    .thenReturn(listResponse);
+
+            ApiResponse<Boolean> deleteResponse = new ApiResponse<>(true, "Successfully processed request.", null);
+            when(restTemplate.exchange(
+                            eq(BASE_URL),
+                            eq(HttpMethod.DELETE),
+                            any(HttpEntity.class),
+                            any(ParameterizedTypeReference.class)))
+                    .thenReturn(ResponseEntity.ok(deleteResponse));
+
+            employeeService.getAllEmployees();
+            assertEquals("John Doe", employeeService.deleteEmployeeById(id));
+
+            List<Employee> remaining = employeeService.getAllEmployees();
+            assertEquals(1, remaining.size());
+            assertEquals("Jane Smith", remaining.get(0).getName());
+            verify(restTemplate, times(1))
+                    .exchange(eq(BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+        }
     }
 
     @Nested
@@ -389,5 +753,42 @@ class EmployeeServiceTest {
             verify(restTemplate, times(3))
                     .exchange(eq(BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
         }
+
+        @Test
+        @DisplayName("should not hand a throttled single-attempt refresh to a concurrent read")
+        void shouldNotShareThrottledRefreshWithReads() throws Exception {
+            List<Employee> employees = Arrays.asList(
+                    createEmployee("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", "John Doe", 50000, 30),
+                    createEmployee("5255f1a5-f9f7-4be5-829a-134bde088d17", "Jane Smith", 60000, 35));
+            CountDownLatch refreshStarted = new CountDownLatch(1);
+            CountDownLatch releaseRefresh = new CountDownLatch(1);
+            AtomicInteger calls = new AtomicInteger();
+            when(restTemplate.exchange(
+                            eq(BASE_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                    .thenAnswer(invocation -> {
+                        if (calls.getAndIncrement() == 0) {
+                            refreshStarted.countDown();
+                            releaseRefresh.await(5, TimeUnit.SECONDS);
+                            throw HttpClientErrorException.create(
+                                    HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null);
+                        }
+                        return ResponseEntity.ok(new ApiResponse<>(employees, "Successfully processed request.", null));
+                    });
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<?> refresh = executor.submit(employeeService::refreshSnapshot);
+                assertTrue(refreshStarted.await(5, TimeUnit.SECONDS));
+
+                assertEquals(2, employeeService.getAllEmployees().size());
+
+                releaseRefresh.countDown();
+                ExecutionException failure =
+                        assertThrows(ExecutionException.class, () -> refresh.get(5, TimeUnit.SECONDS));
+                assertInstanceOf(EmployeeApiException.class, failure.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
     }
 }
@@ -0,0 +1,135 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.client.UpstreamRateBudget;
+import com.reliaquest.api.config.EmployeeApiProperties;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.SnapshotStatus;
+import com.reliaquest.api.snapshot.EmployeeSnapshot;
+import com.reliaquest.api.snapshot.EmployeeSnapshotCache;
+import com.reliaquest.api.snapshot.MutableClock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeSnapshotRefresherTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    private MutableClock clock;
+    private EmployeeApiProperties properties;
+    private EmployeeSnapshotCache snapshotCache;
+    private UpstreamRateBudget rateBudget;
+    private EmployeeSnapshotRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        properties = new EmployeeApiProperties();
+        properties.getRefresh().setAssumedRequestsPerWindow(10);
+        properties.getRefresh().setAssumedWindow(Duration.ofSeconds(60));
+        properties.getRefresh().setBudgetFraction(0.5);
+        snapshotCache = new EmployeeSnapshotCache(properties);
+        rateBudget = new UpstreamRateBudget(properties);
+        refresher = new EmployeeSnapshotRefresher(
+                employeeService, snapshotCache, rateBudget, properties, clock, scheduler);
+    }
+
+    private EmployeeSnapshot installSnapshot() {
+        Employee employee = Employee.builder().id(UUID.randomUUID()).name("John Doe").salary(1).build();
+        return snapshotCache.install(List.of(employee));
+    }
+
+    @Test
+    @DisplayName("should derive the refresh interval from the configured share of the budget")
+    void shouldDeriveIntervalFromBudget() {
+        assertEquals(Duration.ofSeconds(12), refresher.refreshInterval());
+
+        properties.getRefresh().setBudgetFraction(0.01);
+        assertEquals(properties.getRefresh().getMaxInterval(), refresher.refreshInterval());
+    }
+
+    @Test
+    @DisplayName("should refresh and wait one interval after success")
+    void shouldRefreshOnSchedule() {
+        when(employeeService.refreshSnapshot()).thenAnswer(invocation -> installSnapshot());
+
+        assertEquals(Duration.ofSeconds(12), refresher.runOnce());
+        verify(employeeService, times(1)).refreshSnapshot();
+        assertEquals(0, refresher.getStatus().getConsecutiveFailures());
+    }
+
+    @Test
+    @DisplayName("should skip the upstream call while the snapshot is younger than the interval")
+    void shouldSkipWhileSnapshotIsYoung() {
+        EmployeeSnapshot snapshot = installSnapshot();
+        clock = new MutableClock(snapshot.getFetchedAt().plusSeconds(2));
+        refresher = new EmployeeSnapshotRefresher(
+                employeeService, snapshotCache, rateBudget, properties, clock, scheduler);
+
+        assertEquals(Duration.ofSeconds(10), refresher.runOnce());
+        verify(employeeService, never()).refreshSnapshot();
+    }
+
+    @Test
+    @DisplayName("should back off exponentially after consecutive failures")
+    void shouldBackOffAfterFailures() {
+        when(employeeService.refreshSnapshot()).thenThrow(new EmployeeApiException("Upstream unavailable"));
+
+        assertEquals(Duration.ofSeconds(30), refresher.runOnce());
+        assertEquals(Duration.ofSeconds(60), refresher.runOnce());
+        assertEquals(Duration.ofSeconds(120), refresher.runOnce());
+        assertEquals(3, refresher.getStatus().getConsecutiveFailures());
+    }
+
+    @Test
+    @DisplayName("should not call upstream while it is throttling")
+    void shouldWaitOutThrottle() {
+        rateBudget.recordThrottled();
+
+        Duration delay = refresher.runOnce();
+
+        assertTrue(delay.compareTo(properties.getRefresh().getBackoffInitial()) >= 0);
+        verify(employeeService, never()).refreshSnapshot();
+        assertTrue(refresher.getStatus().getUpstreamThrottled());
+    }
+
+    @Test
+    @DisplayName("should report snapshot version and age in status")
+    void shouldReportStatus() {
+        EmployeeSnapshot snapshot = installSnapshot();
+
+        SnapshotStatus status = refresher.getStatus();
+
+        assertEquals(snapshot.getVersion(), status.getVersion());
+        assertEquals(1, status.getEmployeeCount());
+        assertEquals(snapshot.getFetchedAt(), status.getLastRefreshAt());
+        assertEquals(12_000L, status.getRefreshIntervalMs());
+    }
+
+    @Test
+    @DisplayName("should not schedule anything when refresh is disabled")
+    void shouldNotStartWhenDisabled() {
+        properties.getRefresh().setEnabled(false);
+
+        refresher.start();
+
+        verifyNoInteractions(scheduler);
+    }
+}
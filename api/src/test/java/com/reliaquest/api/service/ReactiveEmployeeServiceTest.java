@@ -0,0 +1,280 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.EmployeeApiProperties;
+import com.reliaquest.api.exception.EmployeeApiException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.snapshot.EmployeeIdIndex;
+import com.reliaquest.api.snapshot.EmployeeSnapshotCache;
+import com.reliaquest.api.snapshot.NegativeIdCache;
+import com.reliaquest.api.snapshot.ReadEndpoint;
+import com.reliaquest.api.snapshot.SearchResultCache;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+class ReactiveEmployeeServiceTest {
+
+    private static final String BASE_URL = "http://localhost:8112/api/v1/employee";
+    private static final String JOHN_ID = "4a3a170b-22cd-4ac2-aad1-9bb5b34a1507";
+    private static final String JOHN = "{\"id\":\"" + JOHN_ID + "\",\"employee_name\":\"John Doe\","
+            + "\"employee_salary\":50000,\"employee_age\":30,\"employee_title\":\"Engineer\"}";
+    private static final String JANE = "{\"id\":\"5255f1a5-f9f7-4be5-829a-134bde088d17\","
+            + "\"employee_name\":\"Jane Smith\",\"employee_salary\":60000,\"employee_age\":35}";
+    private static final String ALL = "{\"data\":[" + JOHN + "," + JANE + "],\"status\":\"ok\"}";
+
+    private final Queue<ClientResponse> responses = new ConcurrentLinkedQueue<>();
+    private final List<ClientRequest> requests = new CopyOnWriteArrayList<>();
+
+    private EmployeeApiProperties properties;
+    private EmployeeSnapshotCache snapshotCache;
+    private WebClient webClient;
+    private ReactiveEmployeeService employeeService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmployeeApiProperties();
+        snapshotCache = new EmployeeSnapshotCache(properties);
+        webClient = WebClient.builder()
+                .baseUrl(BASE_URL)
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.justOrEmpty(responses.poll());
+                })
+                .build();
+        employeeService = new ReactiveEmployeeService(
+                webClient,
+                snapshotCache,
+                new EmployeeIdIndex(properties),
+                new NegativeIdCache(properties),
+                new SearchResultCache(properties),
+                3,
+                50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        snapshotCache.destroy();
+    }
+
+    private void respond(HttpStatus status, String body) {
+        responses.add(ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+    }
+
+    @Nested
+    @DisplayName("snapshot reads")
+    class SnapshotReadTests {
+
+        @Test
+        @DisplayName("should not call upstream until subscribed")
+        void shouldBeLazy() {
+            Mono<List<Employee>> employees = employeeService.getAllEmployees();
+
+            assertTrue(requests.isEmpty());
+            respond(HttpStatus.OK, ALL);
+            assertEquals(2, employees.block().size());
+            assertEquals(1, requests.size());
+        }
+
+        @Test
+        @DisplayName("should serve subsequent list-based reads from the snapshot")
+        void shouldServeSubsequentReadsFromSnapshot() {
+            respond(HttpStatus.OK, ALL);
+
+            assertEquals(2, employeeService.getAllEmployees().block().size());
+            assertEquals(60000, employeeService.getHighestSalary().block());
+            assertEquals(
+                    List.of("Jane Smith", "John Doe"),
+                    employeeService.getTop10HighestEarningEmployeeNames().block());
+            assertEquals(1, employeeService.getEmployeesByNameSearch("jane").block().size());
+            assertSame(snapshotCache.peek(), employeeService.getServingSnapshot(ReadEndpoint.ALL_EMPLOYEES).block());
+            assertEquals(1, requests.size());
+            assertEquals(HttpMethod.GET, requests.get(0).method());
+        }
+
+        @Test
+        @DisplayName("should return empty list when the response has no data")
+        void shouldReturnEmptyListWithoutData() {
+            respond(HttpStatus.OK, "{\"data\":null,\"status\":\"Failed to process request.\"}");
+
+            assertTrue(employeeService.getAllEmployees().block().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("retries")
+    class RetryTests {
+
+        @Test
+        @DisplayName("should retry after being rate limited")
+        void shouldRetryWhenRateLimited() {
+            respond(HttpStatus.TOO_MANY_REQUESTS, "");
+            respond(HttpStatus.SERVICE_UNAVAILABLE, "");
+            respond(HttpStatus.OK, ALL);
+
+            assertEquals(2, employeeService.getAllEmployees().block().size());
+            assertEquals(3, requests.size());
+        }
+
+        @Test
+        @DisplayName("should fail with EmployeeApiException once every attempt was throttled")
+        void shouldGiveUpAfterMaxAttempts() {
+            for (int i = 0; i < 3; i++) {
+                respond(HttpStatus.TOO_MANY_REQUESTS, "");
+            }
+
+            EmployeeApiException error =
+                    assertThrows(EmployeeApiException.class, () -> employeeService.getAllEmployees().block());
+
+            assertTrue(error.getMessage().contains("after 3 attempts"), error.getMessage());
+            assertInstanceOf(WebClientResponseException.TooManyRequests.class, error.getCause());
+            assertEquals(3, requests.size());
+        }
+
+        @Test
+        @DisplayName("should wait for a retry without holding the subscribing thread")
+        void shouldNotBlockWhileWaitingToRetry() throws InterruptedException {
+            respond(HttpStatus.TOO_MANY_REQUESTS, "");
+            respond(HttpStatus.OK, ALL);
+            CountDownLatch done = new CountDownLatch(1);
+
+            employeeService.getAllEmployees().subscribe(employees -> done.countDown());
+
+            // subscribe returns during the retry delay; the retry runs on Reactor's timer
+            assertEquals(1, requests.size());
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(2, requests.size());
+        }
+
+        @Test
+        @DisplayName("should make a single attempt when retries are set to zero")
+        void shouldAttemptOnceWithoutRetries() {
+            ReactiveEmployeeService noRetries = new ReactiveEmployeeService(
+                    webClient,
+                    snapshotCache,
+                    new EmployeeIdIndex(properties),
+                    new NegativeIdCache(properties),
+                    new SearchResultCache(properties),
+                    0,
+                    50);
+            respond(HttpStatus.TOO_MANY_REQUESTS, "");
+
+            assertThrows(EmployeeApiException.class, () -> noRetries.getAllEmployees().block());
+            assertEquals(1, requests.size());
+        }
+
+        @Test
+        @DisplayName("should not retry client errors")
+        void shouldNotRetryClientErrors() {
+            respond(HttpStatus.BAD_REQUEST, "");
+
+            assertThrows(WebClientResponseException.BadRequest.class, () -> employeeService.getAllEmployees()
+                    .block());
+            assertEquals(1, requests.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("getEmployeeById")
+    class GetEmployeeByIdTests {
+
+        @Test
+        @DisplayName("should fetch the employee and serve it from the ID index afterwards")
+        void shouldFetchAndIndex() {
+            respond(HttpStatus.OK, "{\"data\":" + JOHN + "}");
+
+            assertEquals("John Doe", employeeService.getEmployeeById(JOHN_ID).block().getName());
+            assertEquals("John Doe", employeeService.getEmployeeById(JOHN_ID).block().getName());
+            assertEquals(1, requests.size());
+            assertTrue(requests.get(0).url().toString().endsWith("/" + JOHN_ID));
+        }
+
+        @Test
+        @DisplayName("should map 404 to EmployeeNotFoundException and remember the ID")
+        void shouldRememberUnknownIds() {
+            respond(HttpStatus.NOT_FOUND, "");
+            String unknown = "00000000-0000-0000-0000-000000000001";
+
+            assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById(unknown).block());
+            assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById(unknown).block());
+            assertEquals(1, requests.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("writes")
+    class WriteTests {
+
+        @Test
+        @DisplayName("should apply a created employee to the loaded snapshot")
+        void shouldApplyCreated() {
+            respond(HttpStatus.OK, ALL);
+            employeeService.getAllEmployees().block();
+            respond(
+                    HttpStatus.OK,
+                    "{\"data\":{\"id\":\"9d2bd8a4-2a1b-4b9e-9f05-3c4f6b3f2e11\",\"employee_name\":\"Ann Lee\","
+                            + "\"employee_salary\":70000}}");
+
+            Employee created = employeeService
+                    .createEmployee(CreateEmployeeInput.builder()
+                            .name("Ann Lee")
+                            .salary(70000)
+                            .age(40)
+                            .title("Director")
+                            .build())
+                    .block();
+
+            assertEquals("Ann Lee", created.getName());
+            assertEquals(70000, employeeService.getHighestSalary().block());
+            assertEquals(HttpMethod.POST, requests.get(1).method());
+        }
+
+        @Test
+        @DisplayName("should delete by name and remove the employee from the snapshot")
+        void shouldDeleteByName() {
+            respond(HttpStatus.OK, ALL);
+            employeeService.getAllEmployees().block();
+            respond(HttpStatus.OK, "{\"data\":true}");
+
+            assertEquals("John Doe", employeeService.deleteEmployeeById(JOHN_ID).block());
+
+            List<Employee> remaining = employeeService.getAllEmployees().block();
+            assertEquals(List.of("Jane Smith"), remaining.stream().map(Employee::getName).toList());
+            assertEquals(HttpMethod.DELETE, requests.get(1).method());
+        }
+
+        @Test
+        @DisplayName("should fail when the upstream does not confirm the delete")
+        void shouldFailUnconfirmedDelete() {
+            respond(HttpStatus.OK, ALL);
+            employeeService.getAllEmployees().block();
+            respond(HttpStatus.OK, "{\"data\":false}");
+
+            assertThrows(EmployeeApiException.class, () -> employeeService.deleteEmployeeById(JOHN_ID).block());
+            assertEquals(2, employeeService.getAllEmployees().block().size());
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import ch.qos.logback.classic.Level;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Compares Tomcat's default pool of 200 platform threads with a virtual thread per request, as
+ * {@code spring.threads.virtual.enabled} configures it, at 10,000 concurrent get-by-id requests. Each request
+ * blocks in the RestTemplate on a stub upstream, and every tenth is rate limited once and sleeps before its retry.
+ * JFR pinning events are recorded during the virtual-thread run; any pinned park fails the benchmark.
+ * Run with {@code ./gradlew :api:benchmark}; skipped by the test task.
+ */
+@Tag("benchmark")
+class VirtualThreadBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadBenchmark.class);
+
+    private static final int CONCURRENT_REQUESTS = 10_000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final long UPSTREAM_LATENCY_MS = 50;
+    private static final long RETRY_DELAY_MS = 50;
+    private static final int THROTTLE_EVERY = 10;
+    private static final String BASE_URL = "http://localhost:8112/api/v1/employee";
+
+    private static final ch.qos.logback.classic.Logger serviceLog =
+            (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(EmployeeService.class);
+    private static Level serviceLogLevel;
+
+    /**
+     * Per-request logging would otherwise dominate both runs.
+     */
+    @BeforeAll
+    static void quietServiceLog() {
+        serviceLogLevel = serviceLog.getLevel();
+        serviceLog.setLevel(Level.ERROR);
+    }
+
+    @AfterAll
+    static void restoreServiceLog() {
+        serviceLog.setLevel(serviceLogLevel);
+    }
+
+    @Test
+    @DisplayName("10k concurrent get-by-id requests: platform thread pool vs virtual threads")
+    void concurrentRequests() throws Exception {
+        Run platform = run(Executors.newFixedThreadPool(TOMCAT_MAX_THREADS));
+
+        List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+        Run virtual;
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", pinned::add);
+            recording.startAsync();
+            virtual = run(Executors.newVirtualThreadPerTaskExecutor());
+            recording.stop();
+        }
+
+        log.info(
+                "{} concurrent requests, {}ms upstream latency, 1 in {} retried after {}ms: "
+                        + "platform pool of {} {}ms ({} req/s, {} in flight at most), "
+                        + "virtual threads {}ms ({} req/s, {} in flight at most, {} pinned parks)",
+                CONCURRENT_REQUESTS,
+                UPSTREAM_LATENCY_MS,
+                THROTTLE_EVERY,
+                RETRY_DELAY_MS,
+                TOMCAT_MAX_THREADS,
+                platform.nanos() / 1_000_000,
+                Math.round(platform.perSecond()),
+                platform.maxInFlight(),
+                virtual.nanos() / 1_000_000,
+                Math.round(virtual.perSecond()),
+                virtual.maxInFlight(),
+                pinned.size());
+        pinned.forEach(event -> log.warn("Pinned virtual thread: {}", event));
+        assertTrue(pinned.isEmpty(), "virtual threads should not pin while blocked on the upstream");
+        assertTrue(virtual.maxInFlight() > TOMCAT_MAX_THREADS, "virtual threads should not be capped by the pool");
+        assertTrue(virtual.perSecond() > platform.perSecond(), "virtual threads should complete the requests sooner");
+    }
+
+    /**
+     * Starts every request at once on the executor, which is closed once all of them completed.
+     */
+    private Run run(ExecutorService requestThreads) throws Exception {
+        StubUpstream upstream = new StubUpstream();
+        EmployeeService employeeService = new EmployeeService(upstream.restTemplate(), BASE_URL, 3, RETRY_DELAY_MS);
+        List<String> ids = new ArrayList<>(CONCURRENT_REQUESTS);
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            String id = UUID.randomUUID().toString();
+            ids.add(id);
+            if (i % THROTTLE_EVERY == 0) {
+                upstream.throttleOnce(id);
+            }
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>(CONCURRENT_REQUESTS);
+        long nanos;
+        try (requestThreads) {
+            for (String id : ids) {
+                results.add(requestThreads.submit(() -> {
+                    start.await();
+                    return employeeService.getEmployeeById(id).getName();
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<String> result : results) {
+                assertEquals("Jane Doe", result.get());
+            }
+            nanos = System.nanoTime() - begin;
+        }
+        return new Run(nanos, upstream.maxInFlight.get());
+    }
+
+    private record Run(long nanos, int maxInFlight) {
+
+        double perSecond() {
+            return CONCURRENT_REQUESTS * 1e9 / nanos;
+        }
+    }
+
+    /**
+     * Answers get-by-id like the Mock Employee API after a fixed latency, blocking the calling thread as a
+     * socket read would, and tracks how many calls are waiting at once.
+     */
+    private static class StubUpstream {
+
+        private final Set<String> throttled = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        void throttleOnce(String id) {
+            throttled.add(id);
+        }
+
+        RestTemplate restTemplate() {
+            return new RestTemplate((uri, method) -> new MockClientHttpRequest(method, uri) {
+                @Override
+                protected ClientHttpResponse executeInternal() throws IOException {
+                    return respond(uri);
+                }
+            });
+        }
+
+        private ClientHttpResponse respond(URI uri) throws IOException {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(UPSTREAM_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the stub upstream", e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            String path = uri.getPath();
+            String id = path.substring(path.lastIndexOf('/') + 1);
+            if (throttled.remove(id)) {
+                return new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS);
+            }
+            String body = "{\"data\":{\"id\":\"" + id + "\",\"employee_name\":\"Jane Doe\",\"employee_salary\":60000,"
+                    + "\"employee_age\":35,\"employee_title\":\"Engineer\"},"
+                    + "\"status\":\"Successfully processed request.\"}";
+            MockClientHttpResponse response =
+                    new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return response;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.reliaquest.api.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ColumnKernelsTest {
+
+    private final ColumnKernels scalar = new ScalarColumnKernels();
+
+    @Test
+    @DisplayName("should load the vector kernels when the incubator module is present")
+    void shouldPreferVectorKernels() {
+        assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+
+        assertEquals("VectorColumnKernels", IntColumn.KERNELS.getClass().getSimpleName());
+    }
+
+    @Test
+    @DisplayName("should report sentinels and zeros for an empty slice")
+    void shouldHandleEmptySlices() {
+        for (ColumnKernels kernels : new ColumnKernels[] {scalar, IntColumn.KERNELS}) {
+            int[] values = {5, 7};
+            boolean[] absent = {false, false};
+
+            assertEquals(Integer.MIN_VALUE, kernels.max(values, absent, 0, 2));
+            assertEquals(Integer.MAX_VALUE, kernels.min(values, null, 1, 1));
+            assertEquals(0, kernels.sum(values, absent, 0, 2));
+            assertEquals(0, kernels.count(absent, 0, 2));
+            assertEquals(0, kernels.countInRange(values, null, 2, 2, 0, 10));
+        }
+    }
+
+    @Test
+    @DisplayName("should agree with the scalar kernels on random slices, with and without missing values")
+    void shouldMatchScalarKernels() {
+        Random random = new Random(17);
+        ColumnKernels kernels = IntColumn.KERNELS;
+        for (int round = 0; round < 500; round++) {
+            int size = random.nextInt(200);
+            int[] values = new int[size];
+            boolean[] present = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = random.nextBoolean() ? random.nextInt() : random.nextInt(1000);
+                present[i] = random.nextInt(5) > 0;
+            }
+            int from = size == 0 ? 0 : random.nextInt(size);
+            int to = from + random.nextInt(size - from + 1);
+            int min = random.nextInt(1000) - 100;
+            int max = min + random.nextInt(1000);
+
+            for (boolean[] mask : new boolean[][] {null, present}) {
+                assertEquals(scalar.max(values, mask, from, to), kernels.max(values, mask, from, to));
+                assertEquals(scalar.min(values, mask, from, to), kernels.min(values, mask, from, to));
+                assertEquals(scalar.sum(values, mask, from, to), kernels.sum(values, mask, from, to));
+                assertEquals(scalar.count(mask, from, to), kernels.count(mask, from, to));
+                assertEquals(
+                        scalar.countInRange(values, mask, from, to, min, max),
+                        kernels.countInRange(values, mask, from, to, min, max));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should sum without overflowing int")
+    void shouldSumInLongs() {
+        int[] values = new int[100];
+        Arrays.fill(values, Integer.MAX_VALUE);
+
+        assertEquals(100L * Integer.MAX_VALUE, IntColumn.KERNELS.sum(values, null, 0, values.length));
+        assertEquals(100L * Integer.MAX_VALUE, scalar.sum(values, null, 0, values.length));
+    }
+}
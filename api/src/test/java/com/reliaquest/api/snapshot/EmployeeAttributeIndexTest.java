@@ -0,0 +1,120 @@
+package com.reliaquest.api.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeFilter;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EmployeeAttributeIndexTest {
+
+    private static final List<Employee> EMPLOYEES = List.of(
+            employee("John Doe", 50000, 30, "Engineer"),
+            employee("Jane Smith", 60000, 35, "Manager"),
+            employee("Bob Johnson", 70000, 40, "engineer"),
+            employee("Alice Brown", null, 28, null),
+            employee("Charlie Wilson", 55000, null, "Engineer"));
+
+    private static Employee employee(String name, Integer salary, Integer age, String title) {
+        return Employee.builder().name(name).salary(salary).age(age).title(title).build();
+    }
+
+    private static List<String> names(List<Employee> employees, EmployeeFilter filter) {
+        BitSet positions = EmployeeAttributeIndex.of(employees, EmployeeColumns.of(employees))
+                .filter(filter, NameTrigramIndex.of(employees));
+        return positions.stream().mapToObj(i -> employees.get(i).getName()).toList();
+    }
+
+    @Test
+    @DisplayName("should combine salary range, title and name criteria")
+    void shouldCombineCriteria() {
+        EmployeeFilter filter = EmployeeFilter.builder()
+                .minSalary(50000)
+                .maxSalary(70000)
+                .title("ENGINEER")
+                .nameContains("john")
+                .build();
+
+        assertEquals(List.of("John Doe", "Bob Johnson"), names(EMPLOYEES, filter));
+    }
+
+    @Test
+    @DisplayName("should treat bounds as inclusive and skip employees missing the attribute")
+    void shouldApplyInclusiveRanges() {
+        assertEquals(
+                List.of("John Doe", "Jane Smith"),
+                names(EMPLOYEES, EmployeeFilter.builder().minAge(30).maxAge(35).build()));
+        assertEquals(
+                List.of("John Doe", "Charlie Wilson"),
+                names(EMPLOYEES, EmployeeFilter.builder().maxSalary(55000).build()));
+    }
+
+    @Test
+    @DisplayName("should return everyone without criteria and no one for an unknown title")
+    void shouldHandleEmptyAndUnmatchedFilters() {
+        assertEquals(5, names(EMPLOYEES, new EmployeeFilter()).size());
+        assertTrue(names(EMPLOYEES, EmployeeFilter.builder().title("Chef").build()).isEmpty());
+        assertTrue(names(EMPLOYEES, EmployeeFilter.builder().minSalary(90000).build()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should agree with a linear scan on random data")
+    void shouldMatchLinearScan() {
+        Random random = new Random(11);
+        String[] titles = {"Engineer", "Manager", "Chef", null};
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            employees.add(employee(
+                    "Employee " + random.nextInt(500),
+                    random.nextInt(10) == 0 ? null : random.nextInt(100),
+                    random.nextInt(10) == 0 ? null : 16 + random.nextInt(60),
+                    titles[random.nextInt(titles.length)]));
+        }
+        EmployeeAttributeIndex index = EmployeeAttributeIndex.of(employees, EmployeeColumns.of(employees));
+        NameTrigramIndex nameIndex = NameTrigramIndex.of(employees);
+
+        for (int i = 0; i < 500; i++) {
+            EmployeeFilter filter = EmployeeFilter.builder()
+                    .minSalary(random.nextBoolean() ? random.nextInt(100) : null)
+                    .maxSalary(random.nextBoolean() ? random.nextInt(100) : null)
+                    .minAge(random.nextBoolean() ? 16 + random.nextInt(60) : null)
+                    .maxAge(random.nextBoolean() ? 16 + random.nextInt(60) : null)
+                    .title(random.nextBoolean() ? titles[random.nextInt(titles.length)] : null)
+                    .nameContains(random.nextInt(3) == 0 ? String.valueOf(random.nextInt(50)) : null)
+                    .build();
+            BitSet expected = new BitSet();
+            IntStream.range(0, employees.size())
+                    .filter(position -> matches(employees.get(position), filter))
+                    .forEach(expected::set);
+
+            assertEquals(expected, index.filter(filter, nameIndex), filter.toString());
+        }
+    }
+
+    private static boolean matches(Employee employee, EmployeeFilter filter) {
+        return inRange(employee.getSalary(), filter.getMinSalary(), filter.getMaxSalary())
+                && inRange(employee.getAge(), filter.getMinAge(), filter.getMaxAge())
+                && (filter.getTitle() == null
+                        || (employee.getTitle() != null && fold(employee.getTitle()).equals(fold(filter.getTitle()))))
+                && (filter.getNameContains() == null
+                        || employee.getName().toLowerCase().contains(filter.getNameContains()));
+    }
+
+    private static String fold(String title) {
+        return title.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean inRange(Integer value, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return value != null && (min == null || value >= min) && (max == null || value <= max);
+    }
+}
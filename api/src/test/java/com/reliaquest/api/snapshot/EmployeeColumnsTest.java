@@ -0,0 +1,104 @@
+package com.reliaquest.api.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.NumericField;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EmployeeColumnsTest {
+
+    private static final String[] TITLES = {"Engineer", "Manager", null};
+
+    private static Employee employee(Random random) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .salary(random.nextInt(10) == 0 ? null : random.nextInt(100_000))
+                .age(random.nextInt(10) == 0 ? null : 18 + random.nextInt(50))
+                .title(TITLES[random.nextInt(TITLES.length)])
+                .build();
+    }
+
+    private static void assertAligned(List<Employee> employees, EmployeeColumns columns) {
+        assertEquals(employees.size(), columns.size());
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            assertEquals(i, columns.indexOf(employee.getId()));
+            assertEquals(employee.getSalary() != null, columns.salaries().isPresent(i));
+            if (employee.getSalary() != null) {
+                assertEquals((int) employee.getSalary(), columns.salaries().get(i));
+            }
+            assertEquals(employee.getAge() != null, columns.column(NumericField.AGE).isPresent(i));
+            int code = columns.titleCode(i);
+            assertEquals(employee.getTitle(), code == TitleDictionary.NO_TITLE ? null : columns.titles().title(code));
+            if (i > 0) {
+                assertTrue(columns.sequence(i - 1) < columns.sequence(i), "sequences follow list order");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should aggregate present values only")
+    void shouldAggregateColumns() {
+        List<Employee> employees = List.of(
+                Employee.builder().salary(300).age(30).build(),
+                Employee.builder().salary(100).build(),
+                Employee.builder().age(50).build());
+        EmployeeColumns columns = EmployeeColumns.of(employees);
+
+        assertEquals(300, columns.salaries().max());
+        assertEquals(100, columns.salaries().min());
+        assertEquals(400, columns.salaries().sum());
+        assertEquals(2, columns.salaries().count());
+        assertEquals(1, columns.ages().countInRange(40, 60));
+        assertEquals(-1, columns.indexOf(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("should stay aligned with the list through random adds and removes")
+    void shouldStayAlignedUnderRandomUpdates() {
+        Random random = new Random(17);
+        List<Employee> employees = new ArrayList<>();
+        EmployeeColumns columns = EmployeeColumns.of(employees);
+
+        for (int step = 0; step < 500; step++) {
+            if (employees.isEmpty() || random.nextInt(3) > 0) {
+                Employee added = employee(random);
+                employees.add(added);
+                columns = columns.withAdded(added);
+            } else {
+                int index = random.nextInt(employees.size());
+                employees.remove(index);
+                columns = columns.withRemoved(index);
+            }
+
+            assertAligned(employees, columns);
+            IntColumn rebuilt = IntColumn.of(employees, Employee::getSalary);
+            assertEquals(rebuilt.count(), columns.salaries().count());
+            assertEquals(rebuilt.sum(), columns.salaries().sum());
+        }
+    }
+
+    @Test
+    @DisplayName("should find the first row with a repeated ID, and the next one once that row is removed")
+    void shouldFindFirstOfRepeatedIds() {
+        UUID id = UUID.randomUUID();
+        Random random = new Random(3);
+        Employee first = Employee.builder().id(id).salary(1).build();
+        Employee second = Employee.builder().id(id).salary(2).build();
+        EmployeeColumns columns = EmployeeColumns.of(List.of(employee(random), first, employee(random)))
+                .withAdded(second);
+
+        assertEquals(1, columns.indexOf(id));
+        assertEquals(2, columns.withRemoved(1).indexOf(id));
+        assertEquals(1, columns.withRemoved(0).withRemoved(0).indexOf(id));
+        assertEquals(1, columns.withRemoved(3).indexOf(id));
+        assertEquals(-1, columns.withRemoved(1).withRemoved(2).indexOf(id));
+        assertEquals(-1, columns.indexOf(new UUID(0, 0)));
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.api.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.EmployeeApiProperties;
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EmployeeIdIndexTest {
+
+    private static EmployeeApiProperties properties(int maxEntries, Duration ttl) {
+        EmployeeApiProperties properties = new EmployeeApiProperties();
+        properties.getIdIndex().setMaxEntries(maxEntries);
+        properties.getIdIndex().setTtl(ttl);
+        return properties;
+    }
+
+    private static Employee employee(String name) {
+        return Employee.builder().id(UUID.randomUUID()).name(name).build();
+    }
+
+    @Test
+    @DisplayName("should find employees indexed from a full list")
+    void shouldFindIndexedEmployees() {
+        EmployeeIdIndex index = new EmployeeIdIndex(properties(10, Duration.ofSeconds(30)));
+        Employee john = employee("John");
+        Employee jane = employee("Jane");
+
+        index.putAll(List.of(john, jane));
+
+        assertEquals(john, index.find(john.getId()).orElseThrow());
+        assertEquals(jane, index.find(jane.getId()).orElseThrow());
+        assertTrue(index.find(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should evict least recently used entries beyond max size")
+    void shouldEvictLeastRecentlyUsed() {
+        EmployeeIdIndex index = new EmployeeIdIndex(properties(2, Duration.ofSeconds(30)));
+        Employee first = employee("First");
+        Employee second = employee("Second");
+        Employee third = employee("Third");
+
+        index.put(first);
+        index.put(second);
+        index.find(first.getId());
+        index.put(third);
+
+        assertEquals(2, index.size());
+        assertTrue(index.find(first.getId()).isPresent());
+        assertTrue(index.find(second.getId()).isEmpty());
+        assertTrue(index.find(third.getId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("should treat entries older than the TTL as misses")
+    void shouldTreatExpiredEntriesAsMisses() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        EmployeeIdIndex index = new EmployeeIdIndex(properties(10, Duration.ofSeconds(30)), clock);
+        Employee john = employee("John");
+
+        index.put(john);
+        clock.advance(Duration.ofSeconds(30));
+        assertTrue(index.find(john.getId()).isPresent());
+
+        clock.advance(Duration.ofSeconds(1));
+        assertTrue(index.find(john.getId()).isEmpty());
+    }
+}
@@ -0,0 +1,234 @@
+package com.reliaquest.api.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.EmployeeApiProperties;
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EmployeeSnapshotCacheTest {
+
+    private MutableClock clock;
+    private List<Runnable> pendingRefreshes;
+    private EmployeeApiProperties properties;
+    private EmployeeSnapshotCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        pendingRefreshes = new ArrayList<>();
+        properties = new EmployeeApiProperties();
+        properties
+                .getCache()
+                .setDefaults(new EmployeeApiProperties.Staleness(Duration.ofSeconds(30), Duration.ofMinutes(5)));
+        cache = new EmployeeSnapshotCache(properties, clock, pendingRefreshes::add);
+        loads = new AtomicInteger();
+    }
+
+    private Supplier<List<Employee>> loader() {
+        return () -> List.of(Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Load " + loads.incrementAndGet())
+                .salary(50000)
+                .build());
+    }
+
+    @Test
+    @DisplayName("should load on first read and serve fresh snapshot from memory")
+    void shouldServeFreshSnapshotFromMemory() {
+        EmployeeSnapshot first = cache.read(ReadEndpoint.ALL_EMPLOYEES, loader());
+        clock.advance(Duration.ofSeconds(10));
+        EmployeeSnapshot second = cache.read(ReadEndpoint.ALL_EMPLOYEES, loader());
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertTrue(pendingRefreshes.isEmpty());
+    }
+
+    @Test
+    @DisplayName("should serve stale snapshot and schedule a single background refresh")
+    void shouldServeStaleAndRefreshInBackground() {
+        EmployeeSnapshot first = cache.read(ReadEndpoint.ALL_EMPLOYEES, loader());
+        clock.advance(Duration.ofMinutes(1));
+
+        assertSame(first, cache.read(ReadEndpoint.ALL_EMPLOYEES, loader()));
+        assertSame(first, cache.read(ReadEndpoint.NAME_SEARCH, loader()));
+        assertEquals(1, pendingRefreshes.size());
+
+        pendingRefreshes.get(0).run();
+
+        EmployeeSnapshot refreshed = cache.read(ReadEndpoint.ALL_EMPLOYEES, loader());
+        assertEquals(2, loads.get());
+        assertTrue(refreshed.getVersion() > first.getVersion());
+        assertEquals("Load 2", refreshed.getEmployees().get(0).getName());
+    }
+
+    @Test
+    @DisplayName("should refresh a stale snapshot through an asynchronous load instead of the refresh thread")
+    void shouldRefreshStaleSnapshotAsynchronously() {
+        EmployeeSnapshot first = cache.read(ReadEndpoint.ALL_EMPLOYEES, loader());
+        clock.advance(Duration.ofMinutes(1));
+        List<CompletableFuture<List<Employee>>> fetches = new ArrayList<>();
+        Supplier<CompletableFuture<List<Employee>>> asyncLoader = () -> {
+            CompletableFuture<List<Employee>> fetch = new CompletableFuture<>();
+            fetches.add(fetch);
+            return fetch;
+        };
+
+        assertSame(first, cache.readIfServableAsync(ReadEndpoint.ALL_EMPLOYEES, asyncLoader));
+        assertSame(first, cache.readIfServableAsync(ReadEndpoint.NAME_SEARCH, asyncLoader));
+        assertEquals(1, fetches.size());
+        assertTrue(pendingRefreshes.isEmpty());
+
+        fetches.get(0).complete(loader().get());
+
+        assertEquals("Load 2", cache.peek().getEmployees().get(0).getName());
+        clock.advance(Duration.ofMinutes(1));
+        cache.readIfServableAsync(ReadEndpoint.ALL_EMPLOYEES, asyncLoader);
+        assertEquals(2, fetches.size(), "a finished refresh lets the next stale read start another");
+    }
+
+    @Test
+    @DisplayName("should reload synchronously once past max staleness")
+    void shouldReloadPastMaxStaleness() {
+        EmployeeSnapshot first = cache.read(ReadEndpoint.ALL_EMPLOYEES, loader());
+        clock.advance(Duration.ofMinutes(10));
+
+        EmployeeSnapshot second = cache.read(ReadEndpoint.ALL_EMPLOYEES, loader());
+
+        assertNotSame(first, second);
+        assertEquals(2, loads.get());
+        assertTrue(pendingRefreshes.isEmpty());
+    }
+
+    @Test
+    @DisplayName("should apply per-endpoint staleness overrides")
+    void shouldApplyPerEndpointOverrides() {
+        EmployeeApiProperties.Staleness topEarners = new EmployeeApiProperties.Staleness(Duration.ofMinutes(2), null);
+        properties.getCache().getEndpoints().put(ReadEndpoint.TOP_EARNERS.getKey(), topEarners);
+        EmployeeSnapshot first = cache.read(ReadEndpoint.ALL_EMPLOYEES, loader());
+        clock.advance(Duration.ofMinutes(1));
+
+        assertSame(first, cache.read(ReadEndpoint.TOP_EARNERS, loader()));
+        assertTrue(pendingRefreshes.isEmpty());
+
+        cache.read(ReadEndpoint.ALL_EMPLOYEES, loader());
+        assertEquals(1, pendingRefreshes.size());
+    }
+
+    @Test
+    @DisplayName("should always load when the cache is disabled")
+    void shouldAlwaysLoadWhenDisabled() {
+        properties.getCache().setEnabled(false);
+
+        cache.read(ReadEndpoint.ALL_EMPLOYEES, loader());
+        cache.read(ReadEndpoint.ALL_EMPLOYEES, loader());
+        cache.applyCreated(Employee.builder().id(UUID.randomUUID()).name("Created").build());
+
+        assertEquals(2, loads.get());
+        assertNull(cache.peek());
+    }
+
+    @Test
+    @DisplayName("should publish write-throughs as new, higher versions")
+    void shouldApplyWriteThroughs() {
+        EmployeeSnapshot loaded = cache.read(ReadEndpoint.ALL_EMPLOYEES, loader());
+        Employee created = Employee.builder().id(UUID.randomUUID()).name("Created").salary(1).build();
+
+        cache.applyCreated(created);
+        EmployeeSnapshot afterCreate = cache.peek();
+        cache.applyDeleted(created.getId(), "created");
+        EmployeeSnapshot afterDelete = cache.peek();
+
+        assertEquals(2, afterCreate.getEmployees().size());
+        assertTrue(afterCreate.mightContain(created.getId()));
+        assertEquals(1, afterDelete.getEmployees().size());
+        assertTrue(loaded.getVersion() < afterCreate.getVersion());
+        assertTrue(afterCreate.getVersion() < afterDelete.getVersion());
+        assertEquals(1, loaded.getEmployees().size());
+    }
+
+    @Test
+    @DisplayName("should replay writes applied while a reload was in flight")
+    void shouldReplayWritesAppliedDuringReload() {
+        cache.read(ReadEndpoint.ALL_EMPLOYEES, loader());
+        clock.advance(Duration.ofMinutes(10));
+        Employee created = Employee.builder().id(UUID.randomUUID()).name("Created").salary(1).build();
+
+        EmployeeSnapshot reloaded = cache.read(ReadEndpoint.ALL_EMPLOYEES, () -> {
+            List<Employee> staleResponse = loader().get();
+            cache.applyCreated(created);
+            return staleResponse;
+        });
+
+        assertEquals(2, reloaded.getEmployees().size());
+        assertEquals(created, reloaded.getEmployees().get(1));
+    }
+
+    @Test
+    @DisplayName("should refetch instead of installing a reload that more writes overtook than can be replayed")
+    void shouldRefetchWhenReplayQueueOverflows() {
+        cache.read(ReadEndpoint.ALL_EMPLOYEES, loader());
+        clock.advance(Duration.ofMinutes(10));
+        AtomicInteger fetches = new AtomicInteger();
+
+        EmployeeSnapshot reloaded = cache.read(ReadEndpoint.ALL_EMPLOYEES, () -> {
+            if (fetches.incrementAndGet() == 1) {
+                List<Employee> staleResponse = loader().get();
+                for (int i = 0; i < 1025; i++) {
+                    cache.applyCreated(Employee.builder()
+                            .id(UUID.randomUUID())
+                            .name("Created " + i)
+                            .build());
+                }
+                return staleResponse;
+            }
+            return new ArrayList<>(cache.peek().getEmployees());
+        });
+
+        assertEquals(2, fetches.get());
+        assertEquals(1026, reloaded.getEmployees().size());
+        assertEquals("Created 0", reloaded.getEmployees().get(1).getName());
+    }
+
+    @Test
+    @DisplayName("should keep the ETag across reloads of unchanged content and change it on writes")
+    void shouldDeriveETagFromContent() {
+        List<Employee> employees = List.of(Employee.builder().id(UUID.randomUUID()).name("John Doe").salary(1).build());
+        EmployeeSnapshot first = cache.refresh(() -> employees);
+        EmployeeSnapshot reloaded = cache.refresh(() -> employees);
+
+        cache.applyCreated(Employee.builder().id(UUID.randomUUID()).name("Created").salary(1).build());
+
+        assertNotEquals(first.getVersion(), reloaded.getVersion());
+        assertEquals(first.getETag(), reloaded.getETag());
+        assertNotEquals(first.getETag(), cache.peek().getETag());
+        assertTrue(first.getETag().startsWith("W/\""));
+    }
+
+    @Test
+    @DisplayName("should derive the same ETag from write-throughs as from loading the resulting list")
+    void shouldUpdateETagIncrementally() {
+        Employee john = Employee.builder().id(UUID.randomUUID()).name("John Doe").salary(1).build();
+        Employee jane = Employee.builder().id(UUID.randomUUID()).name("Jane Smith").salary(2).build();
+        Employee created = Employee.builder().id(UUID.randomUUID()).name("Created").salary(3).build();
+        cache.refresh(() -> List.of(john, jane));
+
+        cache.applyCreated(created);
+        cache.applyDeleted(john.getId(), "John Doe");
+        String written = cache.peek().getETag();
+
+        assertEquals(cache.refresh(() -> List.of(jane, created)).getETag(), written);
+    }
+}
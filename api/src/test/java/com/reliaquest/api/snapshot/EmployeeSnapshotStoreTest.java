@@ -0,0 +1,147 @@
+package com.reliaquest.api.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.EmployeeApiProperties;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EmployeeSnapshotStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private EmployeeApiProperties properties;
+    private List<Runnable> pendingWrites;
+    private EmployeeSnapshotStore store;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmployeeApiProperties();
+        properties.getPersistence().setEnabled(true);
+        properties.getPersistence().setPath(directory.resolve("snapshots").resolve("employees.bin"));
+        pendingWrites = new ArrayList<>();
+        store = new EmployeeSnapshotStore(properties, pendingWrites::add);
+    }
+
+    private EmployeeSnapshot snapshot(long version, Employee... employees) {
+        return new EmployeeSnapshot(version, Instant.parse("2024-01-01T00:00:00Z"), List.of(employees), 0.01);
+    }
+
+    private Employee employee(String name) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(75000)
+                .age(41)
+                .title("Engineer")
+                .email("jose@company.com")
+                .build();
+    }
+
+    private void runPendingWrites() {
+        List<Runnable> writes = new ArrayList<>(pendingWrites);
+        pendingWrites.clear();
+        writes.forEach(Runnable::run);
+    }
+
+    @Test
+    @DisplayName("should round-trip employees, including absent fields and non-ASCII names")
+    void shouldRoundTripSnapshot() {
+        Employee full = employee("Jos\u00e9 M\u00fcller");
+        Employee sparse = Employee.builder().name("No Id").build();
+
+        store.saveAsync(snapshot(7, full, sparse));
+        runPendingWrites();
+        Optional<EmployeeSnapshot> loaded = store.load();
+
+        assertTrue(loaded.isPresent());
+        assertEquals(7, loaded.get().getVersion());
+        assertEquals(Instant.parse("2024-01-01T00:00:00Z"), loaded.get().getFetchedAt());
+        assertEquals(List.of(full, sparse), loaded.get().getEmployees());
+        assertTrue(loaded.get().mightContain(full.getId()));
+    }
+
+    @Test
+    @DisplayName("should write only the newest snapshot queued behind a pending write")
+    void shouldCoalesceQueuedWrites() {
+        store.saveAsync(snapshot(1, employee("First")));
+        store.saveAsync(snapshot(3, employee("Third")));
+        store.saveAsync(snapshot(2, employee("Second")));
+
+        assertEquals(1, pendingWrites.size());
+        runPendingWrites();
+
+        EmployeeSnapshot loaded = store.load().orElseThrow();
+        assertEquals(3, loaded.getVersion());
+        assertEquals("Third", loaded.getEmployees().get(0).getName());
+    }
+
+    @Test
+    @DisplayName("should ignore a missing or corrupted file")
+    void shouldIgnoreUnusableFiles() throws IOException {
+        assertTrue(store.load().isEmpty());
+
+        store.saveAsync(snapshot(1, employee("John Doe")));
+        runPendingWrites();
+        Path file = properties.getPersistence().getPath();
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 0x7F;
+        Files.write(file, bytes);
+
+        assertTrue(store.load().isEmpty());
+    }
+
+    @Test
+    @DisplayName("should reject files written in another format version")
+    void shouldRejectOtherFormatVersions() {
+        ByteBuffer encoded = EmployeeSnapshotFormat.encode(snapshot(1, employee("John Doe")));
+        encoded.putInt(4, EmployeeSnapshotFormat.FORMAT_VERSION + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> EmployeeSnapshotFormat.decode(encoded, 0.01));
+    }
+
+    @Test
+    @DisplayName("should do nothing when persistence is disabled")
+    void shouldDoNothingWhenDisabled() {
+        properties.getPersistence().setEnabled(false);
+        store = new EmployeeSnapshotStore(properties, pendingWrites::add);
+
+        store.saveAsync(snapshot(1, employee("John Doe")));
+
+        assertTrue(pendingWrites.isEmpty());
+        assertTrue(store.load().isEmpty());
+    }
+
+    @Test
+    @DisplayName("should start the cache from the persisted snapshot and keep versions increasing")
+    void shouldRestoreCacheFromDisk() {
+        store.saveAsync(snapshot(42, employee("John Doe")));
+        runPendingWrites();
+        MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:01:00Z"));
+        List<Runnable> pendingRefreshes = new ArrayList<>();
+        EmployeeSnapshotCache cache = new EmployeeSnapshotCache(properties, store, clock, pendingRefreshes::add);
+
+        cache.restore();
+        EmployeeSnapshot restored = cache.read(ReadEndpoint.ALL_EMPLOYEES, List::of);
+
+        assertEquals(42, restored.getVersion());
+        assertEquals(1, pendingRefreshes.size());
+        assertEquals(Duration.ofMinutes(1), restored.age(clock.instant()));
+        cache.applyCreated(employee("Jane Smith"));
+        assertEquals(43, cache.peek().getVersion());
+    }
+}
@@ -0,0 +1,90 @@
+package com.reliaquest.api.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the stream pipeline getHighestSalary used over the employee list with max over the columnar
+ * salary column, scalar and vectorized. Run with {@code ./gradlew :api:benchmark}; skipped by the test task.
+ */
+@Tag("benchmark")
+class HighestSalaryBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(HighestSalaryBenchmark.class);
+
+    private static final int EMPLOYEES = 1_000_000;
+    /**
+     * Vector API code is only fast once C2 has compiled it; until then it runs far slower than scalar loops.
+     */
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 50;
+
+    @Test
+    @DisplayName("highest salary: list stream vs scalar column vs vector column")
+    void highestSalary() {
+        Random random = new Random(17);
+        List<Employee> employees = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(Employee.builder()
+                    .id(UUID.randomUUID())
+                    .name("Employee " + i)
+                    .salary(random.nextInt(100) == 0 ? null : 30_000 + random.nextInt(470_000))
+                    .build());
+        }
+        IntColumn salaries = IntColumn.of(employees, Employee::getSalary);
+        ColumnKernels scalar = new ScalarColumnKernels();
+        assertEquals(SalaryAggregates.of(employees).highestSalary(), salaries.max());
+
+        long stream = measure("list stream", () -> employees.stream()
+                .map(Employee::getSalary)
+                .filter(salary -> salary != null)
+                .max(Integer::compareTo)
+                .orElse(0));
+        long scalarColumn =
+                measure("scalar column", () -> scalar.max(salaries.values(), salaries.mask(), 0, EMPLOYEES));
+        long kernelColumn = measure(
+                IntColumn.KERNELS.getClass().getSimpleName() + " column",
+                () -> IntColumn.KERNELS.max(salaries.values(), salaries.mask(), 0, EMPLOYEES));
+
+        log.info(
+                "Median over {} employees: stream {}us, scalar column {}us, {} {}us",
+                EMPLOYEES,
+                stream / 1_000,
+                scalarColumn / 1_000,
+                IntColumn.KERNELS.getClass().getSimpleName(),
+                kernelColumn / 1_000);
+        assertTrue(scalarColumn < stream, "a primitive column should beat the boxed list stream");
+    }
+
+    /**
+     * @return median nanoseconds per run; every run must return the same result
+     */
+    private static long measure(String name, IntSupplier run) {
+        int expected = run.getAsInt();
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            assertEquals(expected, run.getAsInt());
+        }
+        long[] nanos = new long[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            int result = run.getAsInt();
+            nanos[i] = System.nanoTime() - start;
+            assertEquals(expected, result);
+        }
+        Arrays.sort(nanos);
+        log.info("{}: median {}us, min {}us", name, nanos[MEASURED_ROUNDS / 2] / 1_000, nanos[0] / 1_000);
+        return nanos[MEASURED_ROUNDS / 2];
+    }
+}
@@ -0,0 +1,115 @@
+package com.reliaquest.api.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NameBkTreeTest {
+
+    private static final List<Employee> EMPLOYEES = Stream.of(
+                    "John Doe", "Jane Smith", "Joan Dough", "Johnny Appleseed", "Jon Snow", null, "Smith Jones")
+            .map(name -> Employee.builder().name(name).build())
+            .toList();
+
+    private static List<Integer> positions(List<NameBkTree.Match> matches) {
+        return matches.stream().map(NameBkTree.Match::position).toList();
+    }
+
+    @Test
+    @DisplayName("should find names one typo away from a query word, ignoring case")
+    void shouldFindTypos() {
+        NameBkTree tree = NameBkTree.of(EMPLOYEES);
+
+        List<NameBkTree.Match> matches = tree.search("JHON", 2, 10);
+
+        assertEquals(List.of(4, 0, 2), positions(matches));
+        assertEquals(List.of(1, 2, 2), matches.stream().map(NameBkTree.Match::distance).toList());
+    }
+
+    @Test
+    @DisplayName("should match any word of the name and keep list order among equal distances")
+    void shouldMatchAnyWord() {
+        NameBkTree tree = NameBkTree.of(EMPLOYEES);
+
+        List<NameBkTree.Match> matches = tree.search("smith", 1, 10);
+
+        assertEquals(List.of(1, 6), positions(matches));
+        assertEquals(List.of(0, 0), matches.stream().map(NameBkTree.Match::distance).toList());
+    }
+
+    @Test
+    @DisplayName("should charge every query word against the closest word of the name")
+    void shouldSumDistancesAcrossQueryWords() {
+        NameBkTree tree = NameBkTree.of(EMPLOYEES);
+
+        assertEquals(List.of(0), positions(tree.search("jon doe", 1, 10)));
+        assertEquals(List.of(0, 4), positions(tree.search("jon doe", 3, 10)));
+        assertTrue(tree.search("jon doe", 0, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should need a separate name word for each repetition of a query word")
+    void shouldKeepRepeatedQueryWords() {
+        NameBkTree tree = NameBkTree.of(Stream.of("John Doe", "John John", "Jon Johns")
+                .map(name -> Employee.builder().name(name).build())
+                .toList());
+
+        assertEquals(List.of(0, 1), positions(tree.search("john", 0, 10)));
+        assertEquals(List.of(1), positions(tree.search("john john", 0, 10)));
+        assertEquals(List.of(1, 2), positions(tree.search("john john", 2, 10)));
+        assertEquals(List.of(0, 2), tree.search("john john", 2, 10).stream().map(NameBkTree.Match::distance).toList());
+    }
+
+    @Test
+    @DisplayName("should honour the limit and handle empty input")
+    void shouldHonourLimit() {
+        NameBkTree tree = NameBkTree.of(EMPLOYEES);
+
+        assertEquals(2, tree.search("jane", 3, 2).size());
+        assertTrue(tree.search("  ", 3, 10).isEmpty());
+        assertTrue(NameBkTree.of(List.of()).search("john", 2, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should compute the same distance bit-parallel as with the dynamic-programming table")
+    void shouldMatchDynamicProgrammingDistance() {
+        Random random = new Random(42);
+        String alphabet = "abcdeéß";
+        for (int round = 0; round < 2_000; round++) {
+            String pattern = randomWord(random, alphabet, random.nextInt(65));
+            String term = randomWord(random, alphabet, random.nextInt(20));
+
+            assertEquals(
+                    levenshtein(pattern, term),
+                    new NameBkTree.BitParallelDistance(pattern).to(term),
+                    pattern + " -> " + term);
+        }
+    }
+
+    private static String randomWord(Random random, String alphabet, int length) {
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return word.toString();
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[][] table = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            for (int j = 0; j <= b.length(); j++) {
+                table[i][j] = i == 0 || j == 0
+                        ? i + j
+                        : Math.min(
+                                table[i - 1][j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1),
+                                Math.min(table[i - 1][j], table[i][j - 1]) + 1);
+            }
+        }
+        return table[a.length()][b.length()];
+    }
+}
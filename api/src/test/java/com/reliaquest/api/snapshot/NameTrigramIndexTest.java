@@ -0,0 +1,115 @@
+package com.reliaquest.api.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NameTrigramIndexTest {
+
+    private static final List<String> NAMES = List.of(
+            "John Doe", "Jane Smith", "JOHNNY Appleseed", "Anna Annabelle", "Jos\u00e9 Garc\u00eda", "Aaaa Aaron");
+
+    private static List<Employee> employees(List<String> names) {
+        List<Employee> employees = new ArrayList<>();
+        for (String name : names) {
+            employees.add(Employee.builder().name(name).build());
+        }
+        employees.add(Employee.builder().build());
+        return employees;
+    }
+
+    private static int[] linearSearch(List<Employee> employees, String query) {
+        return IntStream.range(0, employees.size())
+                .filter(i -> employees.get(i).getName() != null
+                        && employees.get(i).getName().toLowerCase().contains(query.toLowerCase()))
+                .toArray();
+    }
+
+    @Test
+    @DisplayName("should match the linear contains search for long, short, empty and missing fragments")
+    void shouldMatchLinearSearch() {
+        List<Employee> employees = employees(NAMES);
+        NameTrigramIndex index = NameTrigramIndex.of(employees);
+
+        List<String> queries = List.of(
+                "john", "JOHN DOE", "ann", "annab", "aaa", "aaaa a", "jos\u00e9", "o", "", "xyz", "n d", "smithy");
+        for (String query : queries) {
+            assertArrayEquals(linearSearch(employees, query), index.search(query), query);
+        }
+    }
+
+    @Test
+    @DisplayName("should index appended names")
+    void shouldIndexAppendedNames() {
+        List<Employee> employees = employees(NAMES);
+        NameTrigramIndex index = NameTrigramIndex.of(employees);
+        Employee added = Employee.builder().name("Johnathan Newman").build();
+
+        NameTrigramIndex updated = index.withAdded(added);
+        employees.add(added);
+
+        assertArrayEquals(new int[] {0, 2, 7}, updated.search("john"));
+        assertArrayEquals(new int[] {0, 2}, index.search("john"));
+        assertArrayEquals(linearSearch(employees, "newman"), updated.search("newman"));
+    }
+
+    @Test
+    @DisplayName("should agree with the linear search after random appends and removals")
+    void shouldMatchLinearSearchAfterWrites() {
+        Random random = new Random(11);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            names.add(randomText(random, 3 + random.nextInt(12)));
+        }
+        List<Employee> employees = employees(names);
+        NameTrigramIndex index = NameTrigramIndex.of(employees);
+
+        for (int step = 0; step < 300; step++) {
+            if (random.nextBoolean() && !employees.isEmpty()) {
+                int position = random.nextInt(employees.size());
+                index = index.withRemoved(position);
+                employees.remove(position);
+            } else {
+                Employee added = Employee.builder()
+                        .name(random.nextInt(10) == 0 ? null : randomText(random, 3 + random.nextInt(12)))
+                        .build();
+                index = index.withAdded(added);
+                employees.add(added);
+            }
+            String query = randomText(random, random.nextInt(6));
+            assertArrayEquals(linearSearch(employees, query), index.search(query), query);
+        }
+    }
+
+    @Test
+    @DisplayName("should agree with the linear search on random names and fragments")
+    void shouldMatchLinearSearchOnRandomInput() {
+        Random random = new Random(7);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            names.add(randomText(random, 3 + random.nextInt(12)));
+        }
+        List<Employee> employees = employees(names);
+        NameTrigramIndex index = NameTrigramIndex.of(employees);
+
+        for (int i = 0; i < 500; i++) {
+            String query = randomText(random, random.nextInt(6));
+            assertArrayEquals(linearSearch(employees, query), index.search(query), query);
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        String alphabet = "abcABC d";
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return text.toString();
+    }
+}
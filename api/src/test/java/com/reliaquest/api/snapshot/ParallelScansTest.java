@@ -0,0 +1,101 @@
+package com.reliaquest.api.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ParallelScansTest {
+
+    private static final int ROWS = 200_000;
+
+    private ParallelScans scans;
+
+    @BeforeEach
+    void setUp() {
+        scans = new ParallelScans(new ForkJoinPool(4), 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scans.destroy();
+    }
+
+    private static List<Employee> employees(Random random, int size) {
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(Employee.builder()
+                    .name(random.nextInt(20) == 0 ? null : "E" + random.nextInt(size))
+                    .salary(random.nextInt(10) == 0 ? null : random.nextInt(1_000))
+                    .build());
+        }
+        return employees;
+    }
+
+    @Test
+    @DisplayName("should split large scans across the pool and combine ranges in order")
+    void shouldCombineInRangeOrder() {
+        int[] ranges = scans.reduce(ROWS, (from, to) -> new int[] {from, to}, ParallelScans::concat);
+
+        assertTrue(ranges.length > 2, "scan was split");
+        assertEquals(0, ranges[0]);
+        assertEquals(ROWS, ranges[ranges.length - 1]);
+        for (int i = 1; i + 1 < ranges.length; i += 2) {
+            assertEquals(ranges[i], ranges[i + 1], "ranges are adjacent and ascending");
+            assertTrue(ranges[i] - ranges[i - 1] >= ParallelScans.MIN_CHUNK);
+        }
+    }
+
+    @Test
+    @DisplayName("should scan below the threshold, when sequential and after shutdown on the calling thread")
+    void shouldRunSmallScansOnCallingThread() {
+        String caller = Thread.currentThread().getName();
+        ParallelScans.Slice<String> threadName = (from, to) -> Thread.currentThread().getName();
+
+        assertEquals(caller, new ParallelScans(new ForkJoinPool(2), ROWS + 1).reduce(ROWS, threadName, (a, b) -> a));
+        assertEquals(caller, ParallelScans.SEQUENTIAL.reduce(ROWS, threadName, (a, b) -> a));
+        scans.destroy();
+        assertEquals(caller, scans.reduce(ROWS, threadName, (a, b) -> a));
+    }
+
+    @Test
+    @DisplayName("should select the same top k in parallel as sequentially")
+    void shouldSelectTopKDeterministically() {
+        IntColumn salaries = IntColumn.of(employees(new Random(19), ROWS), Employee::getSalary);
+
+        for (int k : new int[] {1, 10, 1_000}) {
+            for (boolean descending : new boolean[] {true, false}) {
+                assertArrayEquals(
+                        TopK.select(salaries, descending, k), TopK.select(salaries, descending, k, scans));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should find the same names in the same order in parallel as sequentially")
+    void shouldSearchNamesDeterministically() {
+        NameTrigramIndex index = NameTrigramIndex.of(employees(new Random(19), ROWS));
+
+        for (String query : List.of("e1", "E12", "e123", "", "x")) {
+            assertArrayEquals(index.search(query), index.search(query, scans), query);
+        }
+    }
+
+    @Test
+    @DisplayName("should count the same range in parallel as sequentially")
+    void shouldCountDeterministically() {
+        IntColumn salaries = IntColumn.of(employees(new Random(19), ROWS), Employee::getSalary);
+
+        int parallel = scans.reduce(
+                salaries.size(), (from, to) -> salaries.countInRange(from, to, 100, 499), Integer::sum);
+
+        assertEquals(salaries.countInRange(100, 499), parallel);
+    }
+}
@@ -0,0 +1,90 @@
+package com.reliaquest.api.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SalaryAggregatesTest {
+
+    private static Employee employee(String name, Integer salary) {
+        return Employee.builder().id(UUID.randomUUID()).name(name).salary(salary).build();
+    }
+
+    private static List<String> sortedTopTen(List<Employee> employees) {
+        return employees.stream()
+                .filter(e -> e.getSalary() != null)
+                .sorted(Comparator.comparing(Employee::getSalary).reversed())
+                .limit(10)
+                .map(Employee::getName)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("should rank by salary and keep list order among equal salaries")
+    void shouldMatchStableSort() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            employees.add(employee("Employee " + i, i % 3 == 0 ? null : 1000 * (i % 4)));
+        }
+
+        SalaryAggregates aggregates = SalaryAggregates.of(employees);
+
+        assertEquals(sortedTopTen(employees), aggregates.topEarnerNames());
+        assertEquals(3000, aggregates.highestSalary());
+    }
+
+    @Test
+    @DisplayName("should return zero and no names for an empty list")
+    void shouldHandleEmptyList() {
+        SalaryAggregates aggregates = SalaryAggregates.of(List.of());
+
+        assertEquals(0, aggregates.highestSalary());
+        assertTrue(aggregates.topEarnerNames().isEmpty());
+    }
+
+    @Test
+    @DisplayName("should only rebuild when a removed employee was a top earner")
+    void shouldRecomputeOnlyForTopRemovals() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            employees.add(employee("Employee " + i, 1000 * i));
+        }
+        SalaryAggregates aggregates = SalaryAggregates.of(employees);
+
+        Employee low = employees.remove(0);
+        assertSame(aggregates, aggregates.withRemoved(low, employees));
+
+        Employee top = employees.remove(employees.size() - 1);
+        SalaryAggregates afterTopRemoval = aggregates.withRemoved(top, employees);
+        assertEquals(sortedTopTen(employees), afterTopRemoval.topEarnerNames());
+        assertEquals(18000, afterTopRemoval.highestSalary());
+    }
+
+    @Test
+    @DisplayName("should stay equal to a full sort through random adds and removes")
+    void shouldMatchFullSortUnderRandomUpdates() {
+        Random random = new Random(42);
+        List<Employee> employees = new ArrayList<>();
+        SalaryAggregates aggregates = SalaryAggregates.of(employees);
+
+        for (int step = 0; step < 2000; step++) {
+            if (employees.isEmpty() || random.nextInt(3) > 0) {
+                Integer salary = random.nextInt(10) == 0 ? null : 1000 * random.nextInt(50);
+                Employee added = employee("Employee " + step, salary);
+                employees.add(added);
+                aggregates = aggregates.withAdded(added);
+            } else {
+                Employee removed = employees.remove(random.nextInt(employees.size()));
+                aggregates = aggregates.withRemoved(removed, employees);
+            }
+            assertEquals(sortedTopTen(employees), aggregates.topEarnerNames());
+        }
+    }
+}
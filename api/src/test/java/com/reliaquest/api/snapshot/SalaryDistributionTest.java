@@ -0,0 +1,105 @@
+package com.reliaquest.api.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.SalaryStatistics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SalaryDistributionTest {
+
+    private static Employee employee(Integer salary) {
+        return Employee.builder().name("Employee").salary(salary).build();
+    }
+
+    private static List<Employee> employees(Integer... salaries) {
+        List<Employee> employees = new ArrayList<>();
+        for (Integer salary : salaries) {
+            employees.add(employee(salary));
+        }
+        return employees;
+    }
+
+    private static IntColumn salaries(List<Employee> employees) {
+        return IntColumn.of(employees, Employee::getSalary);
+    }
+
+    @Test
+    @DisplayName("should compute exact moments and extremes, skipping missing salaries")
+    void shouldComputeStatistics() {
+        SalaryStatistics statistics = SalaryDistribution.of(salaries(employees(2, 4, null, 4, 4, 5, 5, 7, 9)))
+                .toStatistics();
+
+        assertEquals(8, statistics.getCount());
+        assertEquals(2, statistics.getMin());
+        assertEquals(9, statistics.getMax());
+        assertEquals(5.0, statistics.getMean(), 1e-9);
+        assertEquals(2.0, statistics.getStddev(), 1e-9);
+        assertEquals(4, statistics.getP50());
+        assertEquals(9, statistics.getP99());
+    }
+
+    @Test
+    @DisplayName("should report only a zero count without salaries")
+    void shouldHandleNoSalaries() {
+        SalaryStatistics statistics = SalaryDistribution.of(salaries(employees(null, null))).toStatistics();
+
+        assertEquals(SalaryStatistics.builder().count(0).build(), statistics);
+    }
+
+    @Test
+    @DisplayName("should keep percentiles within 1% of the exact nearest-rank value")
+    void shouldApproximatePercentiles() {
+        Random random = new Random(15);
+        List<Employee> employees = new ArrayList<>();
+        List<Integer> salaries = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            int salary = 20_000 + random.nextInt(480_000);
+            employees.add(employee(salary));
+            salaries.add(salary);
+        }
+        salaries.sort(null);
+
+        SalaryStatistics statistics = SalaryDistribution.of(salaries(employees)).toStatistics();
+
+        assertEquals(salaries.get(4_999), statistics.getP50(), salaries.get(4_999) * 0.01);
+        assertEquals(salaries.get(8_999), statistics.getP90(), salaries.get(8_999) * 0.01);
+        assertEquals(salaries.get(9_899), statistics.getP99(), salaries.get(9_899) * 0.01);
+    }
+
+    @Test
+    @DisplayName("should match a rebuild through random adds and removes")
+    void shouldMatchRebuildUnderRandomUpdates() {
+        Random random = new Random(42);
+        List<Employee> employees = new ArrayList<>();
+        SalaryDistribution distribution = SalaryDistribution.of(salaries(employees));
+
+        for (int step = 0; step < 2000; step++) {
+            if (employees.isEmpty() || random.nextInt(3) > 0) {
+                Employee added = employee(random.nextInt(10) == 0 ? null : 1000 * random.nextInt(500));
+                employees.add(added);
+                distribution = distribution.withAdded(added);
+            } else {
+                Employee removed = employees.remove(random.nextInt(employees.size()));
+                distribution = distribution.withRemoved(removed, salaries(employees));
+            }
+
+            SalaryStatistics expected = SalaryDistribution.of(salaries(employees)).toStatistics();
+            SalaryStatistics actual = distribution.toStatistics();
+            assertEquals(expected.getCount(), actual.getCount());
+            assertEquals(expected.getMin(), actual.getMin());
+            assertEquals(expected.getMax(), actual.getMax());
+            assertEquals(expected.getP50(), actual.getP50());
+            assertEquals(expected.getP90(), actual.getP90());
+            assertEquals(expected.getP99(), actual.getP99());
+            if (expected.getCount() > 0) {
+                assertEquals(expected.getMean(), actual.getMean(), 1e-6);
+                assertEquals(expected.getStddev(), actual.getStddev(), 1e-6);
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.reliaquest.api.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SalaryRankTreeTest {
+
+    private static Employee employee(String name, Integer salary) {
+        return Employee.builder().id(UUID.randomUUID()).name(name).salary(salary).build();
+    }
+
+    /**
+     * Salaried employees, highest salary first; the sort is stable, so ties stay in list order.
+     */
+    private static List<Employee> ranked(List<Employee> employees) {
+        return employees.stream()
+                .filter(e -> e.getSalary() != null)
+                .sorted(Comparator.comparing(Employee::getSalary).reversed())
+                .toList();
+    }
+
+    private static void assertMatches(List<Employee> employees, EmployeeColumns columns, SalaryRankTree tree) {
+        List<Employee> expected = ranked(employees);
+        assertEquals(expected.size(), tree.size());
+        for (int rank = 1; rank <= expected.size(); rank++) {
+            assertSame(expected.get(rank - 1), tree.select(rank));
+        }
+        assertNull(tree.select(0));
+        assertNull(tree.select(expected.size() + 1));
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            if (employee.getSalary() != null) {
+                assertSame(employee, expected.get(tree.rankOf(employee.getSalary(), columns.sequence(i)) - 1));
+                long above = expected.stream()
+                        .filter(e -> e.getSalary() > employee.getSalary())
+                        .count();
+                assertEquals(above, tree.countAbove(employee.getSalary()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should rank highest salary first with ties in list order")
+    void shouldRankBySalary() {
+        Employee alice = employee("Alice", 100);
+        Employee bob = employee("Bob", 300);
+        Employee carol = employee("Carol", null);
+        Employee dave = employee("Dave", 100);
+        List<Employee> employees = List.of(alice, bob, carol, dave);
+        EmployeeColumns columns = EmployeeColumns.of(employees);
+
+        SalaryRankTree tree = SalaryRankTree.of(employees, columns);
+
+        assertEquals(3, tree.size());
+        assertEquals(List.of(bob, alice, dave), tree.range(1, 3));
+        assertEquals(2, tree.rankOf(100, columns.sequence(0)));
+        assertEquals(3, tree.rankOf(100, columns.sequence(3)));
+        assertEquals(0, tree.rankOf(200, 0));
+        assertEquals(1, tree.countAbove(100));
+        assertEquals(List.of(alice, dave), tree.range(2, 10));
+        assertTrue(tree.range(4, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should match a sorted copy through random adds and removes")
+    void shouldMatchSortedCopyUnderRandomUpdates() {
+        Random random = new Random(18);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            employees.add(employee("E" + i, random.nextInt(10) == 0 ? null : random.nextInt(50)));
+        }
+        EmployeeColumns columns = EmployeeColumns.of(employees);
+        SalaryRankTree tree = SalaryRankTree.of(employees, columns);
+        assertMatches(employees, columns, tree);
+
+        for (int step = 0; step < 300; step++) {
+            if (employees.isEmpty() || random.nextBoolean()) {
+                Employee added = employee("N" + step, random.nextInt(10) == 0 ? null : random.nextInt(50));
+                employees.add(added);
+                columns = columns.withAdded(added);
+                tree = tree.withAdded(added, columns.sequence(employees.size() - 1));
+            } else {
+                int index = random.nextInt(employees.size());
+                Employee removed = employees.remove(index);
+                tree = tree.withRemoved(removed, columns.sequence(index));
+                columns = columns.withRemoved(index);
+            }
+            assertMatches(employees, columns, tree);
+
+            int from = 1 + random.nextInt(tree.size() + 2);
+            int to = from + random.nextInt(20);
+            List<Employee> expected = ranked(employees);
+            assertEquals(
+                    expected.subList(Math.min(from - 1, expected.size()), Math.min(to, expected.size())),
+                    tree.range(from, to));
+        }
+        assertMatches(employees, columns, SalaryRankTree.of(employees, columns));
+    }
+
+    @Test
+    @DisplayName("should leave the previous version unchanged")
+    void shouldBePersistent() {
+        List<Employee> employees = List.of(employee("A", 10), employee("B", 20));
+        EmployeeColumns columns = EmployeeColumns.of(employees);
+        SalaryRankTree original = SalaryRankTree.of(employees, columns);
+
+        Employee added = employee("C", 15);
+        EmployeeColumns updated = columns.withAdded(added);
+        SalaryRankTree withAdded = original.withAdded(added, updated.sequence(2));
+        SalaryRankTree withRemoved = withAdded.withRemoved(employees.get(1), updated.sequence(1));
+
+        assertEquals(List.of(employees.get(1), employees.get(0)), original.range(1, 10));
+        assertEquals(List.of(employees.get(1), added, employees.get(0)), withAdded.range(1, 10));
+        assertEquals(List.of(added, employees.get(0)), withRemoved.range(1, 10));
+    }
+}
@@ -0,0 +1,103 @@
+package com.reliaquest.api.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.EmployeeApiProperties;
+import com.reliaquest.api.model.Employee;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SearchResultCacheTest {
+
+    private EmployeeApiProperties properties;
+    private AtomicInteger searches;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmployeeApiProperties();
+        searches = new AtomicInteger();
+    }
+
+    private static EmployeeSnapshot snapshot(long version) {
+        Employee john = Employee.builder().id(UUID.randomUUID()).name("John Doe").build();
+        return new EmployeeSnapshot(version, Instant.parse("2024-01-01T00:00:00Z"), List.of(john), 0.01);
+    }
+
+    private Function<String, List<Employee>> search(EmployeeSnapshot snapshot) {
+        return query -> {
+            searches.incrementAndGet();
+            return snapshot.searchByName(query);
+        };
+    }
+
+    @Test
+    @DisplayName("should share one entry between queries that differ only in case")
+    void shouldCacheByCaseFoldedQuery() {
+        SearchResultCache cache = new SearchResultCache(properties);
+        EmployeeSnapshot snapshot = snapshot(1);
+
+        List<Employee> first = cache.get(snapshot, "John", search(snapshot));
+        List<Employee> second = cache.get(snapshot, "jOHN", search(snapshot));
+
+        assertSame(first, second);
+        assertEquals(1, searches.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0.5, cache.getHitRatio());
+    }
+
+    @Test
+    @DisplayName("should drop all entries when a newer snapshot version is searched")
+    void shouldInvalidateOnNewVersion() {
+        SearchResultCache cache = new SearchResultCache(properties);
+        EmployeeSnapshot older = snapshot(1);
+        EmployeeSnapshot newer = snapshot(2);
+
+        cache.get(older, "john", search(older));
+        cache.get(newer, "john", search(newer));
+        cache.get(older, "john", search(older));
+
+        assertEquals(3, searches.get());
+        assertEquals(1, cache.size());
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    @DisplayName("should evict least recently used queries beyond max entries")
+    void shouldEvictLeastRecentlyUsed() {
+        properties.getSearchCache().setMaxEntries(2);
+        SearchResultCache cache = new SearchResultCache(properties);
+        EmployeeSnapshot snapshot = snapshot(1);
+
+        cache.get(snapshot, "jo", search(snapshot));
+        cache.get(snapshot, "doe", search(snapshot));
+        cache.get(snapshot, "jo", search(snapshot));
+        cache.get(snapshot, "john", search(snapshot));
+        cache.get(snapshot, "jo", search(snapshot));
+        cache.get(snapshot, "doe", search(snapshot));
+
+        assertEquals(2, cache.getEvictions());
+        assertEquals(2, cache.getHits());
+        assertEquals(4, searches.get());
+    }
+
+    @Test
+    @DisplayName("should always search when disabled")
+    void shouldBypassWhenDisabled() {
+        properties.getSearchCache().setEnabled(false);
+        SearchResultCache cache = new SearchResultCache(properties);
+        EmployeeSnapshot snapshot = snapshot(1);
+
+        cache.get(snapshot, "john", search(snapshot));
+        cache.get(snapshot, "john", search(snapshot));
+
+        assertEquals(2, searches.get());
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,96 @@
+package com.reliaquest.api.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.TitleGroup;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TitleAggregatesTest {
+
+    private static final String[] TITLES = {"Engineer", "Manager", "Designer", "Analyst", null};
+
+    private static Employee employee(String title, Integer salary) {
+        return Employee.builder().name("Employee").title(title).salary(salary).build();
+    }
+
+    @Test
+    @DisplayName("should aggregate headcount and salaries per title, ordered by title")
+    void shouldGroupByTitle() {
+        List<Employee> employees = List.of(
+                employee("Manager", 90000),
+                employee("Engineer", 50000),
+                employee("Engineer", 70000),
+                employee("Engineer", null),
+                employee(null, 10000),
+                employee("Intern", null));
+
+        List<TitleGroup> groups = TitleAggregates.of(EmployeeColumns.of(employees)).groups();
+
+        assertEquals(
+                List.of(
+                        new TitleGroup("Engineer", 3, 50000, 70000, 60000.0),
+                        new TitleGroup("Intern", 1, null, null, null),
+                        new TitleGroup("Manager", 1, 90000, 90000, 90000.0)),
+                groups);
+    }
+
+    @Test
+    @DisplayName("should group titles that differ only in case under the spelling first seen")
+    void shouldGroupIgnoringCase() {
+        EmployeeColumns columns = EmployeeColumns.of(List.of(employee("Engineer", 50000), employee("ENGINEER", 70000)));
+
+        TitleAggregates aggregates =
+                TitleAggregates.of(columns).withAdded(columns.withAdded(employee("engineer", 60000)));
+
+        assertEquals(List.of(new TitleGroup("Engineer", 3, 50000, 70000, 60000.0)), aggregates.groups());
+    }
+
+    @Test
+    @DisplayName("should drop a title once its last employee is removed and bring it back when re-added")
+    void shouldDropEmptiedTitles() {
+        Employee engineer = employee("Engineer", 50000);
+        Employee manager = employee("Manager", 90000);
+        EmployeeColumns columns = EmployeeColumns.of(List.of(engineer, manager));
+        TitleAggregates aggregates = TitleAggregates.of(columns);
+
+        EmployeeColumns afterRemoval = columns.withRemoved(1);
+        TitleAggregates removed = aggregates.withRemoved(manager, afterRemoval);
+        assertEquals(List.of("Engineer"), removed.groups().stream().map(TitleGroup::getTitle).toList());
+
+        TitleAggregates readded = removed.withAdded(afterRemoval.withAdded(employee("Manager", 80000)));
+        assertEquals(new TitleGroup("Manager", 1, 80000, 80000, 80000.0), readded.groups().get(1));
+        assertEquals(2, aggregates.groups().size());
+    }
+
+    @Test
+    @DisplayName("should match a rebuild through random adds and removes")
+    void shouldMatchRebuildUnderRandomUpdates() {
+        Random random = new Random(16);
+        List<Employee> employees = new ArrayList<>();
+        EmployeeColumns columns = EmployeeColumns.of(employees);
+        TitleAggregates aggregates = TitleAggregates.of(columns);
+
+        for (int step = 0; step < 2000; step++) {
+            if (employees.isEmpty() || random.nextInt(3) > 0) {
+                String title = random.nextInt(50) == 0 ? "Title " + step : TITLES[random.nextInt(TITLES.length)];
+                Integer salary = random.nextInt(10) == 0 ? null : 1000 * random.nextInt(100);
+                Employee added = employee(title, salary);
+                employees.add(added);
+                columns = columns.withAdded(added);
+                aggregates = aggregates.withAdded(columns);
+            } else {
+                int index = random.nextInt(employees.size());
+                Employee removed = employees.remove(index);
+                columns = columns.withRemoved(index);
+                aggregates = aggregates.withRemoved(removed, columns);
+            }
+
+            assertEquals(TitleAggregates.of(EmployeeColumns.of(employees)).groups(), aggregates.groups());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.api.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.NumericField;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TopKTest {
+
+    private static final List<Employee> EMPLOYEES = List.of(
+            employee("A", 50000, 30),
+            employee("B", 70000, 40),
+            employee("C", null, 25),
+            employee("D", 70000, null),
+            employee("E", -5, 40));
+
+    private static Employee employee(String name, Integer salary, Integer age) {
+        return Employee.builder().name(name).salary(salary).age(age).build();
+    }
+
+    private static List<String> names(List<Employee> employees, int[] positions) {
+        return IntStream.of(positions).mapToObj(i -> employees.get(i).getName()).toList();
+    }
+
+    private static int[] sorted(List<Employee> employees, NumericField field, boolean descending, int k) {
+        return EmployeeAttributeIndex.of(employees, EmployeeColumns.of(employees)).topK(field, descending, k);
+    }
+
+    @Test
+    @DisplayName("should rank in either order, keep ties in list order and skip missing values")
+    void shouldSelectFromHeap() {
+        assertEquals(List.of("B", "D", "A"), names(EMPLOYEES, TopK.select(EMPLOYEES, Employee::getSalary, true, 3)));
+        assertEquals(List.of("E", "A", "B"), names(EMPLOYEES, TopK.select(EMPLOYEES, Employee::getSalary, false, 3)));
+        assertEquals(List.of("B", "E", "A", "C"), names(EMPLOYEES, TopK.select(EMPLOYEES, Employee::getAge, true, 9)));
+        assertEquals(0, TopK.select(List.of(), Employee::getAge, true, 5).length);
+    }
+
+    @Test
+    @DisplayName("should read the same ranking from a sorted column")
+    void shouldSelectFromSortedColumn() {
+        assertEquals(List.of("B", "D", "A"), names(EMPLOYEES, sorted(EMPLOYEES, NumericField.SALARY, true, 3)));
+        assertEquals(List.of("E", "A", "B"), names(EMPLOYEES, sorted(EMPLOYEES, NumericField.SALARY, false, 3)));
+        assertEquals(List.of("B", "E", "A", "C"), names(EMPLOYEES, sorted(EMPLOYEES, NumericField.AGE, true, 9)));
+    }
+
+    @Test
+    @DisplayName("should agree with a stable sort on random lists")
+    void shouldMatchStableSort() {
+        Random random = new Random(14);
+        for (int round = 0; round < 200; round++) {
+            int size = random.nextInt(60);
+            List<Employee> employees = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                Integer salary = random.nextInt(10) == 0 ? null : random.nextInt(20) - 5;
+                employees.add(employee("E" + i, salary, null));
+            }
+            int k = 1 + random.nextInt(15);
+            for (boolean descending : new boolean[] {true, false}) {
+                Comparator<Employee> bySalary = Comparator.comparing(Employee::getSalary);
+                List<String> expected = employees.stream()
+                        .filter(e -> e.getSalary() != null)
+                        .sorted(descending ? bySalary.reversed() : bySalary)
+                        .limit(k)
+                        .map(Employee::getName)
+                        .toList();
+
+                assertEquals(expected, names(employees, TopK.select(employees, Employee::getSalary, descending, k)));
+                assertEquals(expected, names(employees, sorted(employees, NumericField.SALARY, descending, k)));
+            }
+        }
+    }
+}
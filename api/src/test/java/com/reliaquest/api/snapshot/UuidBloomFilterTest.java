@@ -0,0 +1,47 @@
+package com.reliaquest.api.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UuidBloomFilterTest {
+
+    @Test
+    @DisplayName("should never reject an added ID")
+    void shouldNeverRejectAddedIds() {
+        List<UUID> ids = IntStream.range(0, 5_000).mapToObj(i -> UUID.randomUUID()).toList();
+
+        UuidBloomFilter filter = UuidBloomFilter.of(ids, 0.01);
+
+        assertTrue(ids.stream().allMatch(filter::mightContain));
+    }
+
+    @Test
+    @DisplayName("should keep false positives near the configured rate")
+    void shouldKeepFalsePositivesNearConfiguredRate() {
+        List<UUID> ids = IntStream.range(0, 5_000).mapToObj(i -> UUID.randomUUID()).toList();
+        UuidBloomFilter filter = UuidBloomFilter.of(ids, 0.01);
+
+        long falsePositives = IntStream.range(0, 20_000)
+                .filter(i -> filter.mightContain(UUID.randomUUID()))
+                .count();
+
+        assertTrue(falsePositives < 20_000 * 0.03, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("should add IDs copy-on-write")
+    void shouldAddIdsCopyOnWrite() {
+        UuidBloomFilter empty = UuidBloomFilter.of(List.of(), 0.01);
+        UUID id = UUID.randomUUID();
+
+        UuidBloomFilter withId = empty.withAdded(id);
+
+        assertTrue(withId.mightContain(id));
+        assertFalse(empty.mightContain(id));
+    }
+}
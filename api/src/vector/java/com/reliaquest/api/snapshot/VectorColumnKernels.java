@@ -0,0 +1,99 @@
+package com.reliaquest.api.snapshot;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD loops on the incubating Vector API, at the platform's preferred vector width.
+ * Presence flags become lane masks; the tail shorter than one vector is handled by the scalar kernels.
+ * Only loaded, by name, when the jdk.incubator.vector module is in the boot layer; kept in the vector source set,
+ * the only one compiled against the module.
+ */
+final class VectorColumnKernels implements ColumnKernels {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+    /**
+     * Same shape as {@link #INTS}, so each int vector widens into two long vectors.
+     */
+    private static final VectorSpecies<Long> LONGS = VectorSpecies.of(long.class, INTS.vectorShape());
+
+    private final ColumnKernels tail = new ScalarColumnKernels();
+
+    @Override
+    public int max(int[] values, boolean[] present, int from, int to) {
+        int bound = from + INTS.loopBound(to - from);
+        IntVector acc = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+        for (int i = from; i < bound; i += INTS.length()) {
+            IntVector vector = IntVector.fromArray(INTS, values, i);
+            acc = present == null
+                    ? acc.max(vector)
+                    : acc.lanewise(VectorOperators.MAX, vector, VectorMask.fromArray(INTS, present, i));
+        }
+        return Math.max(acc.reduceLanes(VectorOperators.MAX), tail.max(values, present, bound, to));
+    }
+
+    @Override
+    public int min(int[] values, boolean[] present, int from, int to) {
+        int bound = from + INTS.loopBound(to - from);
+        IntVector acc = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+        for (int i = from; i < bound; i += INTS.length()) {
+            IntVector vector = IntVector.fromArray(INTS, values, i);
+            acc = present == null
+                    ? acc.min(vector)
+                    : acc.lanewise(VectorOperators.MIN, vector, VectorMask.fromArray(INTS, present, i));
+        }
+        return Math.min(acc.reduceLanes(VectorOperators.MIN), tail.min(values, present, bound, to));
+    }
+
+    /**
+     * Widens to longs before adding, so sums of many large salaries cannot overflow.
+     */
+    @Override
+    public long sum(int[] values, boolean[] present, int from, int to) {
+        int bound = from + INTS.loopBound(to - from);
+        IntVector zero = IntVector.zero(INTS);
+        LongVector acc = LongVector.zero(LONGS);
+        for (int i = from; i < bound; i += INTS.length()) {
+            IntVector vector = IntVector.fromArray(INTS, values, i);
+            if (present != null) {
+                vector = zero.blend(vector, VectorMask.fromArray(INTS, present, i));
+            }
+            acc = acc.add(vector.convertShape(VectorOperators.I2L, LONGS, 0))
+                    .add(vector.convertShape(VectorOperators.I2L, LONGS, 1));
+        }
+        return acc.reduceLanes(VectorOperators.ADD) + tail.sum(values, present, bound, to);
+    }
+
+    @Override
+    public int count(boolean[] present, int from, int to) {
+        if (present == null) {
+            return to - from;
+        }
+        int bound = from + INTS.loopBound(to - from);
+        int result = 0;
+        for (int i = from; i < bound; i += INTS.length()) {
+            result += VectorMask.fromArray(INTS, present, i).trueCount();
+        }
+        return result + tail.count(present, bound, to);
+    }
+
+    @Override
+    public int countInRange(int[] values, boolean[] present, int from, int to, int min, int max) {
+        int bound = from + INTS.loopBound(to - from);
+        int result = 0;
+        for (int i = from; i < bound; i += INTS.length()) {
+            IntVector vector = IntVector.fromArray(INTS, values, i);
+            VectorMask<Integer> inRange = vector.compare(VectorOperators.GE, min)
+                    .and(vector.compare(VectorOperators.LE, max));
+            if (present != null) {
+                inRange = inRange.and(VectorMask.fromArray(INTS, present, i));
+            }
+            result += inRange.trueCount();
+        }
+        return result + tail.countInRange(values, present, bound, to, min, max);
+    }
+}